@@ -22,6 +22,7 @@ import com.google.gwt.core.client.Scheduler;
 import com.vaadin.client.communication.PollConfigurator;
 import com.vaadin.client.communication.Poller;
 import com.vaadin.client.communication.ReconnectDialogConfiguration;
+import com.vaadin.client.flow.PreRenderHandler;
 import com.vaadin.client.flow.RouterLinkHandler;
 import com.vaadin.client.flow.StateNode;
 import com.vaadin.client.flow.binding.Binder;
@@ -62,6 +63,7 @@ public class ApplicationConnection {
 
         Element body = Browser.getDocument().getBody();
 
+        PreRenderHandler.adopt(registry, body);
         rootNode.setDomNode(body);
         Binder.bind(rootNode, body);
         RouterLinkHandler.bind(registry, body);
@@ -21,6 +21,7 @@ import com.vaadin.client.communication.Heartbeat;
 import com.vaadin.client.communication.MessageHandler;
 import com.vaadin.client.communication.MessageSender;
 import com.vaadin.client.communication.Poller;
+import com.vaadin.client.communication.PropertySyncScheduler;
 import com.vaadin.client.communication.PushConfiguration;
 import com.vaadin.client.communication.ReconnectDialogConfiguration;
 import com.vaadin.client.communication.RequestResponseTracker;
@@ -69,6 +70,7 @@ public class DefaultRegistry extends Registry {
         set(MessageSender.class, new MessageSender(this));
         set(ServerRpcQueue.class, new ServerRpcQueue(this));
         set(ServerConnector.class, new ServerConnector(this));
+        set(PropertySyncScheduler.class, new PropertySyncScheduler());
         set(ExecuteJavaScriptProcessor.class,
                 new ExecuteJavaScriptProcessor(this));
         set(ConstantPool.class, new ConstantPool());
@@ -20,23 +20,25 @@ import com.vaadin.client.flow.collection.JsCollections;
 import com.vaadin.client.flow.collection.JsMap;
 
 import elemental.dom.Element;
+import elemental.dom.Node;
 
 /**
  * Mapping between a server side node identifier which has been requested to
- * attach existing client side element.
+ * attach existing client side element, or which has been pre-rendered into the
+ * bootstrap page as an element or a text node.
  *
  * @author Vaadin Ltd
  *
  */
 public class ExistingElementMap {
 
-    private final JsMap<Element, Integer> elementToId = JsCollections.map();
-    // JsArray is used as a Map<Integer,Element> here. So this is a map between
-    // an id and an Element.
-    private final JsArray<Element> idToElement = JsCollections.array();
+    private final JsMap<Node, Integer> elementToId = JsCollections.map();
+    // JsArray is used as a Map<Integer,Node> here. So this is a map between
+    // an id and a Node.
+    private final JsArray<Node> idToElement = JsCollections.array();
 
     /**
-     * Gets the element stored via the {@link #add(int, Element)} method by the
+     * Gets the element stored via the {@link #add(int, Node)} method by the
      * given {@code id}.
      *
      * @param id
@@ -45,20 +47,33 @@ public class ExistingElementMap {
      *         exist
      */
     public Element getElement(int id) {
+        return (Element) idToElement.get(id);
+    }
+
+    /**
+     * Gets the element or text node stored via the {@link #add(int, Node)}
+     * method by the given {@code id}.
+     *
+     * @param id
+     *            identifier associated with a node
+     * @return the node associated with the {@code id} or null if it doesn't
+     *         exist
+     */
+    public Node getNode(int id) {
         return idToElement.get(id);
     }
 
     /**
-     * Gets the id stored via the {@link #add(int, Element)} method by the given
-     * {@code element}.
+     * Gets the id stored via the {@link #add(int, Node)} method by the given
+     * {@code node}.
      *
-     * @param element
-     *            element associated with an identifier
-     * @return the identifier associated with the {@code element} or null if it
+     * @param node
+     *            node associated with an identifier
+     * @return the identifier associated with the {@code node} or null if it
      *         doesn't exist
      */
-    public Integer getId(Element element) {
-        return elementToId.get(element);
+    public Integer getId(Node node) {
+        return elementToId.get(node);
     }
 
     /**
@@ -68,24 +83,24 @@ public class ExistingElementMap {
      *            identifier to remove
      */
     public void remove(int id) {
-        Element element = idToElement.get(id);
-        if (element != null) {
+        Node node = idToElement.get(id);
+        if (node != null) {
             idToElement.set(id, null);
-            elementToId.delete(element);
+            elementToId.delete(node);
         }
     }
 
     /**
-     * Adds the {@code id} and the {@code element} to the mapping.
+     * Adds the {@code id} and the {@code node} to the mapping.
      *
      * @param id
      *            identifier of the server side node
-     * @param element
-     *            element associated with the identifier
+     * @param node
+     *            element or text node associated with the identifier
      */
-    public void add(int id, Element element) {
-        idToElement.set(id, element);
-        elementToId.set(element, id);
+    public void add(int id, Node node) {
+        idToElement.set(id, node);
+        elementToId.set(node, id);
     }
 
 }
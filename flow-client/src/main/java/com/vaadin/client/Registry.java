@@ -20,6 +20,7 @@ import com.vaadin.client.communication.Heartbeat;
 import com.vaadin.client.communication.MessageHandler;
 import com.vaadin.client.communication.MessageSender;
 import com.vaadin.client.communication.Poller;
+import com.vaadin.client.communication.PropertySyncScheduler;
 import com.vaadin.client.communication.PushConfiguration;
 import com.vaadin.client.communication.ReconnectDialogConfiguration;
 import com.vaadin.client.communication.RequestResponseTracker;
@@ -285,6 +286,15 @@ public class Registry {
         return get(ScrollPositionHandler.class);
     }
 
+    /**
+     * Gets the {@link PropertySyncScheduler} singleton.
+     *
+     * @return the {@link PropertySyncScheduler} singleton
+     */
+    public PropertySyncScheduler getPropertySyncScheduler() {
+        return get(PropertySyncScheduler.class);
+    }
+
     /**
      * Gets the {@link ExistingElementMap} singleton.
      *
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.Command;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.client.flow.collection.JsMap;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.JsonArray;
+import elemental.util.Timer;
+
+/**
+ * Delays property synchronization to the server according to the
+ * synchronization mode of each property.
+ * <p>
+ * Only the latest synchronization command of a property is run. All pending
+ * synchronizations are run by {@link #flush()} before any other message is
+ * sent to the server, so that the server always sees the latest property
+ * values when handling other messages.
+ *
+ * @author Vaadin Ltd
+ */
+public class PropertySyncScheduler {
+
+    private final JsMap<String, PendingSync> pending = JsCollections.map();
+
+    /**
+     * A pending synchronization of a property.
+     */
+    private static class PendingSync {
+        private final String mode;
+        private Command sync;
+        private Timer timer;
+        // Whether a throttled property has changed during the current period
+        private boolean dirty;
+
+        private PendingSync(String mode, Command sync) {
+            this.mode = mode;
+            this.sync = sync;
+        }
+    }
+
+    /**
+     * Schedules a property synchronization according to the given settings.
+     *
+     * @param nodeId
+     *            the id of the state node of the property
+     * @param property
+     *            the property name
+     * @param settings
+     *            the synchronization settings of the property as a
+     *            <code>[mode, timeout]</code> array, not <code>null</code>
+     * @param sync
+     *            the command that synchronizes the current property value,
+     *            not <code>null</code>
+     */
+    public void schedule(int nodeId, String property, JsonArray settings,
+            Command sync) {
+        String key = nodeId + ":" + property;
+        String mode = settings.getString(0);
+        int timeout = (int) settings.getNumber(1);
+
+        PendingSync pendingSync = pending.get(key);
+        if (pendingSync != null) {
+            pendingSync.sync = sync;
+            pendingSync.dirty = true;
+            if (JsonConstants.SYNC_MODE_DEBOUNCE.equals(pendingSync.mode)) {
+                pendingSync.timer.cancel();
+                pendingSync.timer.schedule(timeout);
+            }
+            return;
+        }
+
+        PendingSync newSync = new PendingSync(mode, sync);
+        pending.set(key, newSync);
+        switch (mode) {
+        case JsonConstants.SYNC_MODE_THROTTLE:
+            sync.execute();
+            newSync.timer = new Timer() {
+                @Override
+                public void run() {
+                    if (newSync.dirty) {
+                        newSync.dirty = false;
+                        newSync.sync.execute();
+                        newSync.timer.schedule(timeout);
+                    } else {
+                        pending.delete(key);
+                    }
+                }
+            };
+            newSync.timer.schedule(timeout);
+            break;
+        case JsonConstants.SYNC_MODE_DEBOUNCE:
+            newSync.timer = new Timer() {
+                @Override
+                public void run() {
+                    runPending(key, newSync);
+                }
+            };
+            newSync.timer.schedule(timeout);
+            break;
+        case JsonConstants.SYNC_MODE_IDLE:
+            requestIdleCallback(() -> runPending(key, newSync), timeout);
+            break;
+        default:
+            assert JsonConstants.SYNC_MODE_COALESCE.equals(mode);
+            requestAnimationFrame(() -> runPending(key, newSync));
+        }
+    }
+
+    /**
+     * Runs all pending property synchronizations immediately.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        JsArray<PendingSync> syncs = pending.mapValues();
+        pending.clear();
+        for (int i = 0; i < syncs.length(); i++) {
+            PendingSync pendingSync = syncs.get(i);
+            if (pendingSync.timer != null) {
+                pendingSync.timer.cancel();
+            }
+            if (pendingSync.dirty || !JsonConstants.SYNC_MODE_THROTTLE
+                    .equals(pendingSync.mode)) {
+                pendingSync.sync.execute();
+            }
+        }
+    }
+
+    private void runPending(String key, PendingSync pendingSync) {
+        // Ignore callbacks of synchronizations that have already been flushed
+        if (pending.get(key) == pendingSync) {
+            pending.delete(key);
+            pendingSync.sync.execute();
+        }
+    }
+
+    private static native void requestAnimationFrame(Command command)
+    /*-{
+        $wnd.requestAnimationFrame($entry(function() {
+            command.@com.vaadin.client.Command::execute(*)();
+        }));
+    }-*/;
+
+    private static native void requestIdleCallback(Command command,
+            int timeout)
+    /*-{
+        var callback = $entry(function() {
+            command.@com.vaadin.client.Command::execute(*)();
+        });
+        if ($wnd.requestIdleCallback) {
+            $wnd.requestIdleCallback(callback,
+                timeout > 0 ? { timeout: timeout } : undefined);
+        } else {
+            $wnd.setTimeout(callback, timeout > 0 ? Math.min(timeout, 50) : 50);
+        }
+    }-*/;
+}
@@ -154,7 +154,9 @@ public class ServerConnector {
         message.put(JsonConstants.RPC_PROPERTY_VALUE,
                 ClientJsonCodec.encodeWithoutTypeInfo(value));
 
-        sendMessage(message);
+        ServerRpcQueue rpcQueue = registry.getServerRpcQueue();
+        rpcQueue.add(message);
+        rpcQueue.flush();
     }
 
     /**
@@ -213,6 +215,10 @@ public class ServerConnector {
     }
 
     private void sendMessage(JsonObject message) {
+        // Send delayed property values before the message so that the server
+        // sees the latest values when handling it
+        registry.getPropertySyncScheduler().flush();
+
         ServerRpcQueue rpcQueue = registry.getServerRpcQueue();
         rpcQueue.add(message);
         rpcQueue.flush();
@@ -29,9 +29,11 @@ import com.vaadin.client.flow.util.NativeFunction;
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -45,6 +47,10 @@ public class ExecuteJavaScriptProcessor {
 
     private final Registry registry;
 
+    // Compiled reusable functions by constant pool id and parameter count
+    private final JsMap<String, NativeFunction> functionCache = JsCollections
+            .map();
+
     /**
      * Creates a new processor with the given registry.
      *
@@ -101,10 +107,22 @@ public class ExecuteJavaScriptProcessor {
         }
 
         // Set the script source as the last parameter
-        String expression = invocation.getString(invocation.length() - 1);
+        JsonValue script = invocation.get(invocation.length() - 1);
+        String functionKey = null;
+        String expression;
+        if (script.getType() == JsonType.OBJECT) {
+            String functionId = ((JsonObject) script)
+                    .getString(JsonConstants.EXECUTE_FUNCTION_ID);
+            JsonValue constant = registry.getConstantPool().get(functionId);
+            assert constant != null : "No constant for function " + functionId;
+            expression = constant.asString();
+            functionKey = functionId + ":" + parameterCount;
+        } else {
+            expression = script.asString();
+        }
         parameterNamesAndCode[parameterNamesAndCode.length - 1] = expression;
 
-        invoke(parameterNamesAndCode, parameters, map);
+        invoke(parameterNamesAndCode, parameters, map, functionKey);
     }
 
     private boolean isVirtualChildAwaitingInitialization(StateNode node) {
@@ -146,14 +164,19 @@ public class ExecuteJavaScriptProcessor {
      *            an array of parameter values
      * @param nodeParameters
      *            the node parameters
+     * @param functionKey
+     *            the key for caching the compiled function of a reusable
+     *            expression, or <code>null</code> if the expression should be
+     *            compiled for this invocation only
      */
     protected void invoke(String[] parameterNamesAndCode,
-            JsArray<Object> parameters,
-            JsMap<Object, StateNode> nodeParameters) {
+            JsArray<Object> parameters, JsMap<Object, StateNode> nodeParameters,
+            String functionKey) {
         assert parameterNamesAndCode.length == parameters.length() + 1;
 
         try {
-            NativeFunction function = new NativeFunction(parameterNamesAndCode);
+            NativeFunction function = getFunction(parameterNamesAndCode,
+                    functionKey);
 
             function.apply(getContextExecutionObject(nodeParameters),
                     parameters);
@@ -176,6 +199,19 @@ public class ExecuteJavaScriptProcessor {
         }
     }
 
+    private NativeFunction getFunction(String[] parameterNamesAndCode,
+            String functionKey) {
+        if (functionKey == null) {
+            return new NativeFunction(parameterNamesAndCode);
+        }
+        NativeFunction function = functionCache.get(functionKey);
+        if (function == null) {
+            function = new NativeFunction(parameterNamesAndCode);
+            functionCache.set(functionKey, function);
+        }
+        return function;
+    }
+
     private boolean handleRemoveExistingNode(Integer removedId, int nodeId,
             JsonArray invocation) {
         if (removedId.intValue() == nodeId) {
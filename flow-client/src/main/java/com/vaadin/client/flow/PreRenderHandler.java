@@ -0,0 +1,123 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.flow;
+
+import com.vaadin.client.Console;
+import com.vaadin.client.ExistingElementMap;
+import com.vaadin.client.Registry;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.client.flow.dom.DomApi;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.dom.Element;
+import elemental.dom.Node;
+
+/**
+ * Handler for content pre-rendered into the bootstrap page by the server.
+ * <p>
+ * Each pre-rendered subtree is marked with the
+ * {@value ApplicationConstants#PRE_RENDER_ATTRIBUTE} attribute, holding the ids
+ * of the state nodes of its elements and text nodes in document order. The DOM
+ * nodes are registered in the {@link ExistingElementMap} so that they are
+ * adopted instead of created when the state nodes are bound.
+ *
+ * @author Vaadin Ltd
+ */
+public class PreRenderHandler {
+
+    private PreRenderHandler() {
+        // Only static functionality
+    }
+
+    /**
+     * Registers the pre-rendered children of the given element for being
+     * adopted by their state nodes.
+     *
+     * @param registry
+     *            the registry
+     * @param element
+     *            the element containing the pre-rendered content, typically
+     *            the body
+     */
+    public static void adopt(Registry registry, Element element) {
+        ExistingElementMap existingElementMap = registry
+                .getExistingElementMap();
+        Node child = DomApi.wrap(element).getFirstChild();
+        while (child != null) {
+            Node next = DomApi.wrap(child).getNextSibling();
+            if (getNodeType(child) == Node.ELEMENT_NODE && ((Element) child)
+                    .hasAttribute(ApplicationConstants.PRE_RENDER_ATTRIBUTE)) {
+                adoptSubtree((Element) child, existingElementMap);
+            }
+            child = next;
+        }
+    }
+
+    private static void adoptSubtree(Element root,
+            ExistingElementMap existingElementMap) {
+        String[] ids = root
+                .getAttribute(ApplicationConstants.PRE_RENDER_ATTRIBUTE)
+                .split(" ");
+        DomApi.wrap(root)
+                .removeAttribute(ApplicationConstants.PRE_RENDER_ATTRIBUTE);
+
+        JsArray<Node> nodes = JsCollections.array();
+        collectNodes(root, nodes);
+        if (nodes.length() != ids.length) {
+            Console.warn("Discarding pre-rendered content with "
+                    + nodes.length() + " nodes, expected " + ids.length);
+            DomApi.wrap(DomApi.wrap(root).getParentNode()).removeChild(root);
+            return;
+        }
+        for (int i = 0; i < ids.length; i++) {
+            existingElementMap.add(Integer.parseInt(ids[i]), nodes.get(i));
+        }
+    }
+
+    /**
+     * Collects the element and its descendants in document order. Text nodes
+     * are marked with a preceding comment, which is removed. An empty text node
+     * is created for markers without a text node, since the parser drops empty
+     * text.
+     */
+    private static void collectNodes(Element element, JsArray<Node> nodes) {
+        nodes.push(element);
+        Node child = DomApi.wrap(element).getFirstChild();
+        while (child != null) {
+            Node next = DomApi.wrap(child).getNextSibling();
+            int nodeType = getNodeType(child);
+            if (nodeType == Node.ELEMENT_NODE) {
+                collectNodes((Element) child, nodes);
+            } else if (nodeType == Node.COMMENT_NODE) {
+                Node text = next;
+                if (text == null || getNodeType(text) != Node.TEXT_NODE) {
+                    text = element.getOwnerDocument().createTextNode("");
+                    DomApi.wrap(element).insertBefore(text, next);
+                }
+                DomApi.wrap(element).removeChild(child);
+                nodes.push(text);
+                next = DomApi.wrap(text).getNextSibling();
+            }
+            child = next;
+        }
+    }
+
+    private static native int getNodeType(Node node)
+    /*-{
+        return node.nodeType;
+    }-*/;
+}
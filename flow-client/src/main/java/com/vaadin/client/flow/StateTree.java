@@ -35,8 +35,9 @@ import elemental.json.JsonObject;
  * @author Vaadin Ltd
  */
 public class StateTree {
-    // Double instead of Integer since GWT 2.8 doesn't box doubles
-    private final JsMap<Double, StateNode> idToNode = JsCollections.map();
+    // Registered nodes indexed by their id. The server reuses the ids of
+    // unregistered nodes, which keeps the array dense.
+    private final JsArray<StateNode> idToNode = JsCollections.array();
 
     private final StateNode rootNode = new StateNode(1, this);
 
@@ -94,23 +95,20 @@ public class StateTree {
         assert node.getTree() == this;
         assert !node.isUnregistered() : "Can't re-register a node";
 
-        Double key = getKey(node);
-        assert !idToNode.has(key) : "Node " + key + " is already registered";
+        int id = node.getId();
+        assert getNode(id) == null : "Node " + id + " is already registered";
 
-        idToNode.set(key, node);
+        idToNode.set(id, node);
 
         if (isUpdateInProgress()) {
             getRegistry().getInitialPropertiesHandler().nodeRegistered(node);
         }
     }
 
-    private static Double getKey(StateNode node) {
-        return Double.valueOf(node.getId());
-    }
-
     /**
      * Unregisters a node from this tree. Once the node has been unregistered,
-     * it can't be registered again.
+     * it can't be registered again. The id of the node may later be used by a
+     * new node.
      *
      * @param node
      *            the node to unregister
@@ -119,7 +117,7 @@ public class StateTree {
         assert assertValidNode(node);
         assert node != rootNode : "Root node can't be unregistered";
 
-        idToNode.delete(getKey(node));
+        idToNode.set(node.getId(), null);
         node.unregister();
     }
 
@@ -176,9 +174,10 @@ public class StateTree {
      *         is registered.
      */
     public StateNode getNode(int id) {
-        Double key = Double.valueOf(id);
-
-        return idToNode.get(key);
+        if (id < 0 || id >= idToNode.length()) {
+            return null;
+        }
+        return idToNode.get(id);
     }
 
     /**
@@ -388,6 +387,8 @@ public class StateTree {
                     "synchronizedProperties");
             nodeFeatureDebugName.set(NodeFeatures.SYNCHRONIZED_PROPERTY_EVENTS,
                     "synchronizedPropertyEvents");
+            nodeFeatureDebugName.set(NodeFeatures.SYNCHRONIZED_PROPERTY_MODES,
+                    "synchronizedPropertyModes");
             nodeFeatureDebugName.set(NodeFeatures.COMPONENT_MAPPING,
                     "componentMapping");
             nodeFeatureDebugName.set(NodeFeatures.TEMPLATE_MODELMAP,
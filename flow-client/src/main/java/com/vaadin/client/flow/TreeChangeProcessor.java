@@ -25,6 +25,7 @@ import com.vaadin.client.flow.nodefeature.NodeMap;
 import com.vaadin.client.flow.util.ClientJsonCodec;
 import com.vaadin.flow.shared.JsonConstants;
 
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.JsonValue;
@@ -54,13 +55,14 @@ public class TreeChangeProcessor {
                 .isUpdateInProgress() : "Previous tree change processing has not completed";
         try {
             tree.setUpdateInProgress(true);
-            int length = changes.length();
+            JsonArray expandedChanges = expandShapes(tree, changes);
+            int length = expandedChanges.length();
 
             JsSet<StateNode> nodes = JsCollections.set();
 
             // Attach all nodes before doing anything else
             for (int i = 0; i < length; i++) {
-                JsonObject change = changes.getObject(i);
+                JsonObject change = expandedChanges.getObject(i);
                 if (isAttach(change)) {
                     int nodeId = (int) change
                             .getNumber(JsonConstants.CHANGE_NODE);
@@ -73,7 +75,7 @@ public class TreeChangeProcessor {
 
             // Then process all non-attach changes
             for (int i = 0; i < length; i++) {
-                JsonObject change = changes.getObject(i);
+                JsonObject change = expandedChanges.getObject(i);
                 if (!isAttach(change)) {
                     nodes.add(processChange(tree, change));
                 }
@@ -85,6 +87,83 @@ public class TreeChangeProcessor {
 
     }
 
+    /**
+     * Replaces every subtree shape change with the changes it represents.
+     *
+     * @param tree
+     *            the tree to update
+     * @param changes
+     *            the JSON array of changes
+     * @return the expanded changes, or the given array if there are no subtree
+     *         shape changes
+     */
+    private static JsonArray expandShapes(StateTree tree, JsonArray changes) {
+        JsonArray expanded = null;
+        int length = changes.length();
+        for (int i = 0; i < length; i++) {
+            JsonObject change = changes.getObject(i);
+            if (JsonConstants.CHANGE_TYPE_SHAPE
+                    .equals(change.getString(JsonConstants.CHANGE_TYPE))) {
+                if (expanded == null) {
+                    expanded = Json.createArray();
+                    for (int j = 0; j < i; j++) {
+                        expanded.set(j, changes.getObject(j));
+                    }
+                }
+                expandShape(tree, change, expanded);
+            } else if (expanded != null) {
+                expanded.set(expanded.length(), change);
+            }
+        }
+        return expanded == null ? changes : expanded;
+    }
+
+    private static void expandShape(StateTree tree, JsonObject change,
+            JsonArray target) {
+        String shapeId = change.getString(JsonConstants.CHANGE_SHAPE_ID);
+        JsonArray shape = tree.getRegistry().getConstantPool().get(shapeId);
+        assert shape != null : "No subtree shape found with id " + shapeId;
+
+        JsonArray nodes = change.getArray(JsonConstants.CHANGE_SHAPE_NODES);
+        JsonArray values = change.getArray(JsonConstants.CHANGE_SHAPE_VALUES);
+
+        int length = shape.length();
+        for (int i = 0; i < length; i++) {
+            JsonObject template = shape.getObject(i);
+            JsonObject expanded = Json.createObject();
+            for (String key : template.keys()) {
+                switch (key) {
+                case JsonConstants.CHANGE_NODE:
+                case JsonConstants.CHANGE_PUT_NODE_VALUE:
+                    expanded.put(key,
+                            getIndexed(nodes, template.getNumber(key)));
+                    break;
+                case JsonConstants.CHANGE_SPLICE_ADD_NODES:
+                    JsonArray indexes = template.getArray(key);
+                    JsonArray ids = Json.createArray();
+                    for (int j = 0; j < indexes.length(); j++) {
+                        ids.set(j, getIndexed(nodes, indexes.getNumber(j)));
+                    }
+                    expanded.put(key, ids);
+                    break;
+                case JsonConstants.CHANGE_PUT_VALUE:
+                case JsonConstants.CHANGE_SPLICE_ADD:
+                    expanded.put(key,
+                            getIndexed(values, template.getNumber(key)));
+                    break;
+                default:
+                    JsonValue value = template.get(key);
+                    expanded.put(key, value);
+                }
+            }
+            target.set(target.length(), expanded);
+        }
+    }
+
+    private static JsonValue getIndexed(JsonArray array, double index) {
+        return array.get((int) index);
+    }
+
     private static boolean isAttach(JsonObject change) {
         return JsonConstants.CHANGE_TYPE_ATTACH
                 .equals(change.getString(JsonConstants.CHANGE_TYPE));
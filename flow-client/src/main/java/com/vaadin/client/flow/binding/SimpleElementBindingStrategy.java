@@ -693,8 +693,20 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
     private void handlePropertySyncDomEvent(BindingContext context) {
         NodeList propertiesList = context.node
                 .getList(NodeFeatures.SYNCHRONIZED_PROPERTIES);
+        NodeMap syncModes = context.node
+                .getMap(NodeFeatures.SYNCHRONIZED_PROPERTY_MODES);
         for (int i = 0; i < propertiesList.length(); i++) {
-            syncPropertyIfNeeded(propertiesList.get(i).toString(), context);
+            String propertyName = propertiesList.get(i).toString();
+            if (syncModes.hasPropertyValue(propertyName)) {
+                context.node.getTree().getRegistry().getPropertySyncScheduler()
+                        .schedule(context.node.getId(), propertyName,
+                                (JsonArray) syncModes.getProperty(propertyName)
+                                        .getValue(),
+                                () -> syncPropertyIfNeeded(propertyName,
+                                        context));
+            } else {
+                syncPropertyIfNeeded(propertyName, context);
+            }
         }
     }
 
@@ -729,7 +741,7 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
 
             ExistingElementMap existingElementMap = childNode.getTree()
                     .getRegistry().getExistingElementMap();
-            Node child = existingElementMap.getElement(childNode.getId());
+            Node child = existingElementMap.getNode(childNode.getId());
             if (child != null) {
                 existingElementMap.remove(childNode.getId());
                 childNode.setDomNode(child);
@@ -1005,7 +1017,7 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
 
             ExistingElementMap existingElementMap = newChild.getTree()
                     .getRegistry().getExistingElementMap();
-            Node childNode = existingElementMap.getElement(newChild.getId());
+            Node childNode = existingElementMap.getNode(newChild.getId());
             if (childNode != null) {
                 existingElementMap.remove(newChild.getId());
                 newChild.setDomNode(childNode);
@@ -31,6 +31,7 @@ import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.js.dom.JsElement;
 import elemental.json.Json;
@@ -43,6 +44,7 @@ public class ExecuteJavaScriptProcessorTest {
         private final List<String[]> parameterNamesAndCodeList = new ArrayList<>();
         private final List<JsArray<Object>> parametersList = new ArrayList<>();
         private final List<JsMap<Object, StateNode>> nodeParametersList = new ArrayList<>();
+        private final List<String> functionKeyList = new ArrayList<>();
 
         private final Registry registry;
 
@@ -68,10 +70,11 @@ public class ExecuteJavaScriptProcessorTest {
         @Override
         protected void invoke(String[] parameterNamesAndCode,
                 JsArray<Object> parameters,
-                JsMap<Object, StateNode> nodeParameters) {
+                JsMap<Object, StateNode> nodeParameters, String functionKey) {
             parameterNamesAndCodeList.add(parameterNamesAndCode);
             parametersList.add(parameters);
             nodeParametersList.add(nodeParameters);
+            functionKeyList.add(functionKey);
         }
 
         @Override
@@ -132,6 +135,39 @@ public class ExecuteJavaScriptProcessorTest {
         Assert.assertEquals(0, processor.nodeParametersList.get(1).size());
     }
 
+    @Test
+    public void execute_reusableFunction_expressionFromConstantPool() {
+        Registry registry = new Registry() {
+            {
+                set(StateTree.class, new StateTree(this));
+                set(ConstantPool.class, new ConstantPool());
+            }
+        };
+        CollectingExecuteJavaScriptProcessor processor = new CollectingExecuteJavaScriptProcessor(
+                registry);
+
+        JsonObject constants = Json.createObject();
+        constants.put("id", "script($0)");
+        registry.getConstantPool().importFromJson(constants);
+
+        JsonObject function = Json.createObject();
+        function.put(JsonConstants.EXECUTE_FUNCTION_ID, "id");
+        JsonArray invocation1 = JsonUtils.createArray(Json.create("param1"),
+                function);
+        JsonArray invocation2 = JsonUtils.createArray(Json.create("script2"));
+
+        processor.execute(JsonUtils.createArray(invocation1, invocation2));
+
+        Assert.assertEquals(2, processor.parameterNamesAndCodeList.size());
+        Assert.assertArrayEquals(new String[] { "$0", "script($0)" },
+                processor.parameterNamesAndCodeList.get(0));
+        Assert.assertEquals("param1", processor.parametersList.get(0).get(0));
+        Assert.assertEquals("id:1", processor.functionKeyList.get(0));
+
+        // Inline scripts are not cached
+        Assert.assertNull(processor.functionKeyList.get(1));
+    }
+
     @Test
     public void execute_nodeParametersAreCorrectlyPassed() {
         Registry registry = new Registry() {
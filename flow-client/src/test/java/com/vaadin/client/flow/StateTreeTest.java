@@ -137,6 +137,23 @@ public class StateTreeTest {
         Assert.assertNull(tree.getNode(node.getId()));
     }
 
+    @Test
+    public void registerNode_idOfUnregisteredNode_newNodeRegistered() {
+        tree.registerNode(node);
+        tree.unregisterNode(node);
+
+        StateNode newNode = new StateNode(node.getId(), tree);
+        tree.registerNode(newNode);
+
+        Assert.assertSame(newNode, tree.getNode(node.getId()));
+    }
+
+    @Test
+    public void getNode_idOutOfRange_returnsNull() {
+        Assert.assertNull(tree.getNode(-1));
+        Assert.assertNull(tree.getNode(1000));
+    }
+
     @Test
     public void testRemoveUnregisterListener() {
         tree.registerNode(node);
@@ -41,6 +41,7 @@ public class TreeChangeProcessorTest {
             set(StateTree.class, new StateTree(this));
             set(InitialPropertiesHandler.class,
                     new InitialPropertiesHandler(this));
+            set(ConstantPool.class, new ConstantPool());
         }
     };
     private StateTree tree = registry.getStateTree();
@@ -187,6 +188,38 @@ public class TreeChangeProcessorTest {
         Assert.assertTrue(updatedNodes.has(tree.getNode(nodeId)));
     }
 
+    @Test
+    public void testShapeChangesExpanded() {
+        int childNs = NodeFeatures.ELEMENT_CHILDREN;
+        // Node and value references are indexes into the instance arrays
+        JsonArray shape = toArray(attachChange(0),
+                putChange(0, ns, myKey, Json.create(0)),
+                nodeSpliceChange(0, childNs, 0, 0, 1), attachChange(1),
+                putChange(1, ns, myKey, Json.create(1)));
+        JsonObject constants = Json.createObject();
+        constants.put("shape", shape);
+        registry.getConstantPool().importFromJson(constants);
+
+        JsonArray changes = toArray(
+                shapeChange(2, "shape", new int[] { 2, 3 },
+                        Json.create("a"), Json.create("b")),
+                shapeChange(4, "shape", new int[] { 4, 5 },
+                        Json.create("c"), Json.create("d")));
+
+        JsSet<StateNode> updatedNodes = TreeChangeProcessor.processChanges(tree,
+                changes);
+
+        Assert.assertEquals(4, updatedNodes.size());
+        Assert.assertEquals("a", tree.getNode(2).getMap(ns).getProperty(myKey)
+                .getValue());
+        Assert.assertEquals("d", tree.getNode(5).getMap(ns).getProperty(myKey)
+                .getValue());
+        NodeList children = tree.getNode(4).getList(childNs);
+        Assert.assertEquals(1, children.length());
+        Assert.assertSame(tree.getNode(5), children.get(0));
+        Assert.assertSame(tree.getNode(4), tree.getNode(5).getParent());
+    }
+
     @Test
     public void testDetachRemovesNode() {
         AtomicInteger unregisterCount = new AtomicInteger(0);
@@ -375,6 +408,16 @@ public class TreeChangeProcessorTest {
         return json;
     }
 
+    private static JsonObject shapeChange(int node, String shapeId,
+            int[] nodes, JsonValue... values) {
+        JsonObject json = baseChange(node, JsonConstants.CHANGE_TYPE_SHAPE);
+        json.put(JsonConstants.CHANGE_SHAPE_ID, shapeId);
+        json.put(JsonConstants.CHANGE_SHAPE_NODES, Arrays.stream(nodes)
+                .mapToObj(Json::create).collect(JsonUtils.asArray()));
+        json.put(JsonConstants.CHANGE_SHAPE_VALUES, toArray(values));
+        return json;
+    }
+
     private static JsonObject spliceBaseChange(int node, int ns, int index,
             int remove) {
         JsonObject json = baseChange(node, JsonConstants.CHANGE_TYPE_SPLICE);
@@ -48,6 +48,7 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vaadin.flow.component.AbstractSinglePropertyField;
 import com.vaadin.flow.component.Component;
@@ -61,6 +62,7 @@ import com.vaadin.flow.component.HasText;
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.component.JsonSerializable;
 import com.vaadin.flow.component.NotSupported;
+import com.vaadin.flow.component.PropertyDefault;
 import com.vaadin.flow.component.Synchronize;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.HtmlImport;
@@ -809,6 +811,41 @@ public class ComponentGenerator {
         String htmlImport = String.format("frontend://%s%s", frontendDirectory,
                 importPath);
         javaClass.addAnnotation(HtmlImport.class).setStringValue(htmlImport);
+
+        if (metadata.getProperties() != null) {
+            addPropertyDefaultAnnotations(metadata, javaClass);
+        }
+    }
+
+    /**
+     * Adds a {@link PropertyDefault} annotation for each writable property
+     * with a basic type default value, so that setting a property to the value
+     * the webcomponent already has is not sent to the client.
+     */
+    private void addPropertyDefaultAnnotations(ComponentMetadata metadata,
+            JavaClassSource javaClass) {
+        metadata.getProperties().stream()
+                .filter(property -> !property.isReadOnly()
+                        && property.getDefaultValue() != null)
+                .filter(property -> !ExclusionRegistry.isPropertyExcluded(
+                        metadata.getTag(), property.getName()))
+                .forEachOrdered(property -> {
+                    String value;
+                    try {
+                        value = getObjectMapper()
+                                .writeValueAsString(property.getDefaultValue());
+                    } catch (JsonProcessingException e) {
+                        throw new ComponentGenerationException(
+                                "Error writing the default value of property \""
+                                        + property.getName()
+                                        + "\" for component \""
+                                        + metadata.getName() + "\"",
+                                e);
+                    }
+                    javaClass.addAnnotation(PropertyDefault.class)
+                            .setStringValue("name", property.getName())
+                            .setStringValue("value", value);
+                });
     }
 
     /**
@@ -24,6 +24,7 @@ public class ComponentPropertyData extends ComponentPropertyBaseData {
 
     private boolean readOnly;
     private boolean notify;
+    private Object defaultValue;
 
     /**
      * Gets whether the property is read-only or not. Read-only properties
@@ -73,4 +74,27 @@ public class ComponentPropertyData extends ComponentPropertyBaseData {
         this.notify = notify;
     }
 
+    /**
+     * Gets the default value of the property in the webcomponent.
+     * 
+     * @return the default value as a {@link String}, {@link Boolean} or
+     *         {@link Number}, or <code>null</code> if the property has no
+     *         default value or it is not a basic type literal
+     */
+    public Object getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Sets the default value of the property in the webcomponent.
+     * 
+     * @param defaultValue
+     *            the default value as a {@link String}, {@link Boolean} or
+     *            {@link Number}, or <code>null</code> if the property has no
+     *            basic type default value
+     */
+    public void setDefaultValue(Object defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
 }
@@ -206,6 +206,30 @@ public class ComponentGeneratorTest {
                 generatedClass.contains("* @param " + propertyData.getName()));
     }
 
+    @Test
+    public void generateClassWithPropertyDefaultValue_classContainsPropertyDefault() {
+        ComponentPropertyData propertyData = new ComponentPropertyData();
+        propertyData.setName("opened");
+        propertyData.setType(Collections.singleton(ComponentBasicType.BOOLEAN));
+        propertyData.setDefaultValue(false);
+        ComponentPropertyData readOnlyData = new ComponentPropertyData();
+        readOnlyData.setName("size");
+        readOnlyData.setType(Collections.singleton(ComponentBasicType.NUMBER));
+        readOnlyData.setReadOnly(true);
+        readOnlyData.setDefaultValue(0);
+        componentMetadata
+                .setProperties(Arrays.asList(propertyData, readOnlyData));
+
+        String generatedClass = generator.generateClass(componentMetadata,
+                "com.my.test", null);
+
+        Assert.assertTrue("No PropertyDefault annotation found",
+                generatedClass.contains(
+                        "@PropertyDefault(name = \"opened\", value = \"false\")"));
+        Assert.assertFalse("PropertyDefault found for read-only property",
+                generatedClass.contains("name = \"size\""));
+    }
+
     @Test
     public void generateClassWithGetterAndSetter_methodContainsJavaDoc() {
         ComponentPropertyData propertyData = new ComponentPropertyData();
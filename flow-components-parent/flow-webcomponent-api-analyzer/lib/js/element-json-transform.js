@@ -91,6 +91,25 @@ const getType = (type) => {
   }
 };
 
+const getDefaultValue = (defaultValue) => {
+  // Polymer analyzer gives the default value as the source code of the
+  // initializer, e.g. "false", "0" or "'foo'"; only literals are supported
+  if (typeof defaultValue !== 'string') {
+    return undefined;
+  }
+  let source = defaultValue.trim();
+  if (source.length > 1 && source.startsWith("'") && source.endsWith("'")) {
+    source = JSON.stringify(source.substring(1, source.length - 1).replace(/\\'/g, "'"));
+  }
+  try {
+    const value = JSON.parse(source);
+    const type = typeof value;
+    return type === 'string' || type === 'boolean' || type === 'number' ? value : undefined;
+  } catch (e) {
+    return undefined;
+  }
+};
+
 const isOptional = (type) => {
   if (typeof type !== 'string') {
     console.warn(`isOptional called with non-string parameter ${type}`);
@@ -187,8 +206,12 @@ module.exports = class ElementJsonTransform extends Transform {
    * {"name": "objectProperty", "type": "OBJECT"},
    * {"name": "stringReadOnlyProperty", "type": "STRING", "readOnly": true}
    * {"name": "propertyWithNotify", "type": "STRING", "notify": true}
+   * {"name": "propertyWithDefault", "type": "BOOLEAN", "defaultValue": false}
    * ]
    *
+   * The default value is included only when it is a string, boolean or number
+   * literal.
+   *
    * Inherited properties are skipped.
    *
    * @param properties a Map of the PolymerElement.properties
@@ -212,6 +235,10 @@ module.exports = class ElementJsonTransform extends Transform {
         if (property.notify) {
           propertyJson.notify = true;
         }
+        const defaultValue = getDefaultValue(property.default);
+        if (typeof defaultValue !== 'undefined') {
+          propertyJson.defaultValue = defaultValue;
+        }
         propertiesJson.push(propertyJson);
       }
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.vaadin.flow.data.binder;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A functional interface for validating values using slow operations, such as
+ * checking the uniqueness of a value against a database or a remote service.
+ * Unlike a {@link Validator}, an asynchronous validator returns a completion
+ * stage that is completed with the result of the validation.
+ * <p>
+ * Asynchronous validators added using
+ * {@link Binder.BindingBuilder#withAsyncValidator(AsyncValidator)} are invoked
+ * by a background thread without holding the session lock. The validator may
+ * therefore not access any UI state. The given value context can be used for
+ * reading the locale, but not for modifying the component.
+ *
+ * @param <T>
+ *            the type of the value to validate
+ *
+ * @see Validator
+ */
+@FunctionalInterface
+public interface AsyncValidator<T> extends Serializable {
+
+    /**
+     * Starts validating the given value. Returns a completion stage that is
+     * completed with a {@code ValidationResult} representing the outcome of
+     * the validation.
+     *
+     * @param value
+     *            the input value to validate
+     * @param context
+     *            the value context for validation
+     * @return a completion stage for the validation result, not
+     *         <code>null</code>
+     */
+    CompletionStage<ValidationResult> apply(T value, ValueContext context);
+
+    /**
+     * Returns an asynchronous validator that applies the given synchronous
+     * validator. The validator is run by the thread that runs the
+     * asynchronous validation.
+     *
+     * @param validator
+     *            the validator to wrap, not <code>null</code>
+     * @param <T>
+     *            the value type
+     * @return an asynchronous validator using the given validator
+     */
+    static <T> AsyncValidator<T> from(Validator<T> validator) {
+        return (value, context) -> CompletableFuture
+                .completedFuture(validator.apply(value, context));
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -32,6 +33,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -55,6 +59,9 @@ import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.internal.ReflectTools;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.Registration;
 
 /**
@@ -331,6 +338,36 @@ public class Binder<BEAN> implements Serializable {
         BindingBuilder<BEAN, TARGET> withValidator(
                 Validator<? super TARGET> validator);
 
+        /**
+         * Adds an asynchronous validator to this binding. Asynchronous
+         * validators are applied after all synchronous converters and
+         * validators have passed. They are run by a background thread using
+         * the {@link com.vaadin.flow.server.VaadinService#getExecutor()
+         * service executor} without holding the session lock, and their
+         * results are applied using
+         * {@link UI#access(com.vaadin.flow.server.Command)}.
+         * <p>
+         * While asynchronous validation is in progress, the validation status
+         * of the binding is {@link BindingValidationStatus.Status#PENDING} and
+         * the field value is not written to the backing property. Validation
+         * started for a value is cancelled when the field value changes. If
+         * the field is not attached to a UI with a session, the validators are
+         * run by the calling thread and their results are applied as soon as
+         * the returned completion stages complete.
+         * <p>
+         * Converters cannot be added after an asynchronous validator.
+         *
+         * @see Binder#setAsyncValidationDelay(int)
+         *
+         * @param validator
+         *            the asynchronous validator to add, not null
+         * @return this binding, for chaining
+         * @throws IllegalStateException
+         *             if {@code bind} has already been called
+         */
+        BindingBuilder<BEAN, TARGET> withAsyncValidator(
+                AsyncValidator<? super TARGET> validator);
+
         /**
          * A convenience method to add a validator to this binding using the
          * {@link Validator#from(SerializablePredicate, String)} factory method.
@@ -724,6 +761,8 @@ public class Binder<BEAN> implements Serializable {
          */
         private Converter<FIELDVALUE, ?> converterValidatorChain;
 
+        private final List<AsyncValidator<?>> asyncValidators = new ArrayList<>();
+
         /**
          * Creates a new binding builder associated with the given field.
          * Initializes the builder with the given converter chain and status
@@ -827,6 +866,16 @@ public class Binder<BEAN> implements Serializable {
             return this;
         }
 
+        @Override
+        public BindingBuilder<BEAN, TARGET> withAsyncValidator(
+                AsyncValidator<? super TARGET> validator) {
+            checkUnbound();
+            Objects.requireNonNull(validator, "validator cannot be null");
+
+            asyncValidators.add(validator);
+            return this;
+        }
+
         @Override
         public <NEWTARGET> BindingBuilder<BEAN, NEWTARGET> withConverter(
                 Converter<TARGET, NEWTARGET> converter) {
@@ -883,6 +932,10 @@ public class Binder<BEAN> implements Serializable {
                 boolean resetNullRepresentation) {
             checkUnbound();
             Objects.requireNonNull(converter, "converter cannot be null");
+            if (!asyncValidators.isEmpty()) {
+                throw new IllegalStateException(
+                        "cannot add a converter after an asynchronous validator");
+            }
 
             if (resetNullRepresentation) {
                 getBinder().initialConverters.get(field).setIdentity();
@@ -961,6 +1014,30 @@ public class Binder<BEAN> implements Serializable {
          */
         private final Converter<FIELDVALUE, TARGET> converterValidatorChain;
 
+        /**
+         * The status of the latest validation, kept for incremental
+         * validation until the field value changes.
+         */
+        private BindingValidationStatus<TARGET> validationStatus;
+
+        private final List<AsyncValidator<? super TARGET>> asyncValidators;
+
+        /**
+         * Incremented whenever asynchronous validation is started or
+         * cancelled so that results of superseded validations are ignored.
+         */
+        private volatile int asyncGeneration;
+
+        private transient CompletableFuture<List<ValidationResult>> asyncValidation;
+
+        private TARGET asyncValue;
+
+        /**
+         * The asynchronous validation results for {@link #asyncValue}, or
+         * <code>null</code> if validation is pending or has not been started.
+         */
+        private List<ValidationResult> asyncResults;
+
         public BindingImpl(BindingBuilderImpl<BEAN, FIELDVALUE, TARGET> builder,
                 ValueProvider<BEAN, TARGET> getter,
                 Setter<BEAN, TARGET> setter) {
@@ -968,6 +1045,7 @@ public class Binder<BEAN> implements Serializable {
             field = builder.field;
             statusHandler = builder.statusHandler;
             converterValidatorChain = ((Converter<FIELDVALUE, TARGET>) builder.converterValidatorChain);
+            asyncValidators = (List) new ArrayList<>(builder.asyncValidators);
 
             onValueChange = getField()
                     .addValueChangeListener(this::handleFieldValueChange);
@@ -1003,6 +1081,9 @@ public class Binder<BEAN> implements Serializable {
             Objects.requireNonNull(binder,
                     "This Binding is no longer attached to a Binder");
             BindingValidationStatus<TARGET> status = doValidation();
+            if (getBinder().isIncrementalValidation()) {
+                validationStatus = status;
+            }
             if (fireEvent) {
                 getBinder().getValidationStatusHandler()
                         .statusChange(new BinderValidationStatus<>(getBinder(),
@@ -1019,6 +1100,7 @@ public class Binder<BEAN> implements Serializable {
          */
         @Override
         public void unbind() {
+            cancelAsyncValidation();
             if (onValueChange != null) {
                 onValueChange.remove();
                 onValueChange = null;
@@ -1054,7 +1136,160 @@ public class Binder<BEAN> implements Serializable {
          * @return the validation status
          */
         private BindingValidationStatus<TARGET> doValidation() {
-            return toValidationStatus(doConversion());
+            Result<TARGET> result = doConversion();
+            if (asyncValidators.isEmpty() || result.isError()) {
+                return toValidationStatus(result);
+            }
+            TARGET value = result.getOrThrow(IllegalStateException::new);
+            if (asyncResults == null && asyncValidation == null
+                    || !Objects.equals(value, asyncValue)) {
+                startAsyncValidation(value);
+            }
+            if (asyncResults != null) {
+                for (ValidationResult asyncResult : asyncResults) {
+                    result = result.flatMap(
+                            target -> new ValidationResultWrap<>(target,
+                                    asyncResult));
+                }
+                return toValidationStatus(result);
+            }
+            return BindingValidationStatus.createPendingStatus(this);
+        }
+
+        /**
+         * Starts running the asynchronous validators for the given value,
+         * cancelling any validation in progress.
+         *
+         * @param value
+         *            the converted field value to validate
+         */
+        private void startAsyncValidation(TARGET value) {
+            cancelAsyncValidation();
+            int generation = asyncGeneration;
+            asyncValue = value;
+
+            ValueContext context = createValueContext();
+            UI ui = context.getComponent().flatMap(Component::getUI)
+                    .filter(componentUi -> componentUi.getSession() != null)
+                    .orElseGet(UI::getCurrent);
+            VaadinSession session = ui != null && ui.getSession() != null
+                    ? ui.getSession()
+                    : VaadinSession.getCurrent();
+            if (session == null) {
+                // No session to lock, results are handled in the thread
+                // completing the validation
+                CompletableFuture<List<ValidationResult>> validation = runAsyncValidators(
+                        value, context);
+                if (validation.isDone()) {
+                    // Already completed, no need to notify the binder
+                    validation.whenComplete(this::storeAsyncResults);
+                } else {
+                    asyncValidation = validation;
+                    validation.whenComplete((results,
+                            error) -> handleAsyncResults(generation, results,
+                                    error));
+                }
+                return;
+            }
+            VaadinService service = session.getService();
+            CompletableFuture<Void> delayed = new CompletableFuture<>();
+            int delay = getBinder().getAsyncValidationDelay();
+            if (delay > 0) {
+                service.getScheduledExecutor().schedule(() -> {
+                    delayed.complete(null);
+                }, delay, TimeUnit.MILLISECONDS);
+            } else {
+                delayed.complete(null);
+            }
+            asyncValidation = delayed.thenComposeAsync(
+                    ignore -> generation == asyncGeneration
+                            ? runAsyncValidators(value, context)
+                            : new CompletableFuture<>(),
+                    service.getExecutor());
+            asyncValidation.whenComplete((results, error) -> {
+                Command command = () -> handleAsyncResults(generation,
+                        results, error);
+                if (ui != null && ui.getSession() == session) {
+                    ui.access(command);
+                } else {
+                    session.access(command);
+                }
+            });
+        }
+
+        private CompletableFuture<List<ValidationResult>> runAsyncValidators(
+                TARGET value, ValueContext context) {
+            List<CompletableFuture<ValidationResult>> futures = asyncValidators
+                    .stream()
+                    .map(validator -> validator.apply(value, context)
+                            .toCompletableFuture())
+                    .collect(Collectors.toList());
+            return CompletableFuture
+                    .allOf(futures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignore -> futures.stream()
+                            .map(CompletableFuture::join)
+                            .collect(Collectors.toList()));
+        }
+
+        /**
+         * Stores the results of an asynchronous validation and lets the binder
+         * act on them, unless the validation has been superseded.
+         */
+        private void handleAsyncResults(int generation,
+                List<ValidationResult> results, Throwable error) {
+            if (generation != asyncGeneration || binder == null) {
+                return;
+            }
+            storeAsyncResults(results, error);
+            getBinder().handleAsyncValidationResult(this);
+        }
+
+        private void storeAsyncResults(List<ValidationResult> results,
+                Throwable error) {
+            asyncValidation = null;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException
+                        && error.getCause() != null ? error.getCause()
+                                : error;
+                LoggerFactory.getLogger(Binder.class.getName())
+                        .error("Asynchronous validation failed", cause);
+                asyncResults = Collections.singletonList(ValidationResult
+                        .error(String.valueOf(cause.getMessage())));
+            } else {
+                asyncResults = results;
+            }
+            validationStatus = null;
+        }
+
+        /**
+         * Cancels any asynchronous validation in progress and discards the
+         * results of previous asynchronous validations.
+         */
+        private void cancelAsyncValidation() {
+            asyncGeneration++;
+            if (asyncValidation != null) {
+                asyncValidation.cancel(true);
+                asyncValidation = null;
+            }
+            asyncValue = null;
+            asyncResults = null;
+        }
+
+        /**
+         * Returns the status of the latest validation if incremental
+         * validation is enabled and the field value has not changed since,
+         * otherwise validates the field value.
+         *
+         * @return the validation status
+         */
+        private BindingValidationStatus<TARGET> validateIfChanged() {
+            if (!getBinder().isIncrementalValidation()) {
+                return doValidation();
+            }
+            if (validationStatus == null) {
+                validationStatus = doValidation();
+            }
+            return validationStatus;
         }
 
         /**
@@ -1082,6 +1317,10 @@ public class Binder<BEAN> implements Serializable {
             assert bean != null;
             assert onValueChange != null;
             onValueChange.remove();
+            validationStatus = null;
+            if (!asyncValidators.isEmpty()) {
+                cancelAsyncValidation();
+            }
             try {
                 getField().setValue(convertDataToFieldType(bean));
             } finally {
@@ -1105,6 +1344,7 @@ public class Binder<BEAN> implements Serializable {
          */
         private void handleFieldValueChange(
                 ValueChangeEvent<?, FIELDVALUE> event) {
+            validationStatus = null;
             // Inform binder of changes; if setBean: writeIfValid
             getBinder().handleFieldValueChange(this);
             getBinder().fireEvent(event);
@@ -1267,6 +1507,16 @@ public class Binder<BEAN> implements Serializable {
 
     private final List<Validator<? super BEAN>> validators = new ArrayList<>();
 
+    private final Map<Validator<? super BEAN>, Set<String>> validatorDependencies = new IdentityHashMap<>();
+
+    private boolean incrementalValidation;
+
+    private int asyncValidationDelay;
+
+    private final Map<Validator<? super BEAN>, ValidationResult> beanValidationResults = new IdentityHashMap<>();
+
+    private final Set<Binding<BEAN, ?>> changedSinceBeanValidation = new HashSet<>();
+
     private final Map<HasValue<?, ?>, ConverterDelegate<?>> initialConverters = new IdentityHashMap<>();
 
     private HashMap<Class<?>, List<Consumer<?>>> listeners = new HashMap<>();
@@ -1366,6 +1616,9 @@ public class Binder<BEAN> implements Serializable {
      */
     protected void handleFieldValueChange(Binding<BEAN, ?> binding) {
         changedBindings.add(binding);
+        if (incrementalValidation) {
+            changedSinceBeanValidation.add(binding);
+        }
         if (getBean() != null) {
             doWriteIfValid(getBean(), changedBindings);
         } else {
@@ -1627,6 +1880,7 @@ public class Binder<BEAN> implements Serializable {
             clearFields();
         } else {
             changedBindings.clear();
+            clearValidationResults();
             getBindings().forEach(binding -> binding.initFieldValue(bean));
             getValidationStatusHandler().statusChange(
                     BinderValidationStatus.createUnresolvedStatus(this));
@@ -1654,12 +1908,13 @@ public class Binder<BEAN> implements Serializable {
      *            the object to which to write the field values, not
      *            {@code null}
      * @throws ValidationException
-     *             if some of the bound field values fail to validate
+     *             if some of the bound field values fail to validate or
+     *             asynchronous validation is pending
      */
     public void writeBean(BEAN bean) throws ValidationException {
         BinderValidationStatus<BEAN> status = doWriteIfValid(bean,
                 new ArrayList<>(bindings));
-        if (status.hasErrors()) {
+        if (!status.isOk()) {
             throw new ValidationException(status.getFieldValidationErrors(),
                     status.getBeanValidationErrors());
         }
@@ -1715,8 +1970,8 @@ public class Binder<BEAN> implements Serializable {
         List<BindingValidationStatus<?>> bindingResults = bindings.stream()
                 .map(b -> b.validate(false)).collect(Collectors.toList());
 
-        if (bindingResults.stream()
-                .noneMatch(BindingValidationStatus::isError)) {
+        if (bindingResults.stream().noneMatch(
+                status -> status.isError() || status.isPending())) {
             // Store old bean values so we can restore them if validators fail
             Map<Binding<BEAN, ?>, Object> oldValues = getBeanState(bean,
                     bindings);
@@ -1815,6 +2070,129 @@ public class Binder<BEAN> implements Serializable {
         return this;
     }
 
+    /**
+     * Adds a bean level validator that only depends on the given bean
+     * properties.
+     * <p>
+     * The validator works like one added using
+     * {@link #withValidator(Validator)}. In addition, when
+     * {@link #setIncrementalValidation(boolean) incremental validation} is
+     * enabled, the validator is only run again if the field bound to one of
+     * the given properties has changed since the validator was last run.
+     * Otherwise, its previous result is reused. The properties must be bound
+     * using {@link BindingBuilder#bind(String)}; a validator depending on a
+     * property that is not bound by name is always run.
+     *
+     * @see #setIncrementalValidation(boolean)
+     *
+     * @param validator
+     *            the validator to add, not null
+     * @param propertyNames
+     *            the names of the bound properties the validator depends on
+     * @return this binder, for chaining
+     */
+    public Binder<BEAN> withValidator(Validator<? super BEAN> validator,
+            String... propertyNames) {
+        withValidator(validator);
+        validatorDependencies.put(validator,
+                new HashSet<>(Arrays.asList(propertyNames)));
+        return this;
+    }
+
+    /**
+     * Sets whether validation is incremental. Incremental validation is
+     * disabled by default.
+     * <p>
+     * With incremental validation, {@link #validate()} and value changes in
+     * bound fields only run the validators of a binding if the value of its
+     * field has changed since the binding was last validated. Bean level
+     * validators added using {@link #withValidator(Validator, String...)}
+     * are only run if one of the properties they depend on has changed, while
+     * other bean level validators are always run.
+     * <p>
+     * Incremental validation assumes that validators only depend on the field
+     * value or the bound bean. If a binding validator also depends on other
+     * state, such as the value of another field, the binding should be
+     * validated explicitly using {@link Binding#validate()} when that state
+     * changes. Previous results are discarded when a bean is set or read and
+     * when this setting is changed.
+     *
+     * @param incrementalValidation
+     *            <code>true</code> to only re-run validators affected by
+     *            changes, <code>false</code> to always run all validators
+     */
+    public void setIncrementalValidation(boolean incrementalValidation) {
+        this.incrementalValidation = incrementalValidation;
+        clearValidationResults();
+    }
+
+    /**
+     * Gets whether validation is incremental.
+     *
+     * @see #setIncrementalValidation(boolean)
+     *
+     * @return <code>true</code> if validation is incremental,
+     *         <code>false</code> otherwise
+     */
+    public boolean isIncrementalValidation() {
+        return incrementalValidation;
+    }
+
+    /**
+     * Sets the delay in milliseconds before asynchronous validation of a
+     * changed field value is started. If the value changes again within the
+     * delay, validation of the previous value is never started. This can be
+     * used to avoid running expensive validators for each intermediate value
+     * when a field is updated frequently, e.g. while the user is typing. The
+     * default delay is 0.
+     *
+     * @see BindingBuilder#withAsyncValidator(AsyncValidator)
+     *
+     * @param asyncValidationDelay
+     *            the delay in milliseconds, not negative
+     */
+    public void setAsyncValidationDelay(int asyncValidationDelay) {
+        if (asyncValidationDelay < 0) {
+            throw new IllegalArgumentException(
+                    "Delay cannot be negative: " + asyncValidationDelay);
+        }
+        this.asyncValidationDelay = asyncValidationDelay;
+    }
+
+    /**
+     * Gets the delay in milliseconds before asynchronous validation of a
+     * changed field value is started.
+     *
+     * @see #setAsyncValidationDelay(int)
+     *
+     * @return the delay in milliseconds
+     */
+    public int getAsyncValidationDelay() {
+        return asyncValidationDelay;
+    }
+
+    /**
+     * Handles the completion of asynchronous validation of the given binding.
+     * Writes the bean if a bean is set and the binding has changes, otherwise
+     * validates the binding to notify status handlers.
+     *
+     * @param binding
+     *            the binding whose asynchronous validation has completed
+     */
+    private void handleAsyncValidationResult(Binding<BEAN, ?> binding) {
+        if (getBean() != null && changedBindings.contains(binding)) {
+            doWriteIfValid(getBean(), changedBindings);
+        } else {
+            binding.validate();
+        }
+    }
+
+    private void clearValidationResults() {
+        beanValidationResults.clear();
+        changedSinceBeanValidation.clear();
+        getBindings().forEach(binding -> binding.validationStatus = null);
+    }
+
     /**
      * A convenience method to add a validator to this binder using the
      * {@link Validator#from(SerializablePredicate, String)} factory method.
@@ -1974,7 +2352,7 @@ public class Binder<BEAN> implements Serializable {
      * @return an immutable list of validation results for bindings
      */
     private List<BindingValidationStatus<?>> validateBindings() {
-        return getBindings().stream().map(BindingImpl::doValidation)
+        return getBindings().stream().map(BindingImpl::validateIfChanged)
                 .collect(Collectors.collectingAndThen(Collectors.toList(),
                         Collections::unmodifiableList));
     }
@@ -1994,10 +2372,33 @@ public class Binder<BEAN> implements Serializable {
      */
     private List<ValidationResult> validateBean(BEAN bean) {
         Objects.requireNonNull(bean, "bean cannot be null");
-        return validators.stream()
-                .map(validator -> validator.apply(bean, new ValueContext()))
+        if (!incrementalValidation || bean != getBean()) {
+            return validators.stream()
+                    .map(validator -> validator.apply(bean, new ValueContext()))
+                    .collect(Collectors.collectingAndThen(Collectors.toList(),
+                            Collections::unmodifiableList));
+        }
+        List<ValidationResult> results = validators.stream()
+                .map(validator -> validateBeanIfChanged(validator, bean))
                 .collect(Collectors.collectingAndThen(Collectors.toList(),
                         Collections::unmodifiableList));
+        changedSinceBeanValidation.clear();
+        return results;
+    }
+
+    private ValidationResult validateBeanIfChanged(
+            Validator<? super BEAN> validator, BEAN bean) {
+        ValidationResult result = beanValidationResults.get(validator);
+        Set<String> dependencies = validatorDependencies.get(validator);
+        if (result == null || dependencies == null
+                || dependencies.stream().map(boundProperties::get)
+                        .anyMatch(binding -> binding == null
+                                || changedSinceBeanValidation
+                                        .contains(binding))) {
+            result = validator.apply(bean, new ValueContext());
+            beanValidationResults.put(validator, result);
+        }
+        return result;
     }
 
     /**
@@ -2367,6 +2768,7 @@ public class Binder<BEAN> implements Serializable {
 
     private void doRemoveBean(boolean fireStatusEvent) {
         changedBindings.clear();
+        clearValidationResults();
         if (bean != null) {
             bean = null;
         }
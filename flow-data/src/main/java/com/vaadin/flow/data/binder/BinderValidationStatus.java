@@ -101,12 +101,25 @@ public class BinderValidationStatus<BEAN> implements Serializable {
     }
 
     /**
-     * Gets whether validation for the binder passed or not.
+     * Gets whether validation for the binder passed or not. Validation has not
+     * passed while asynchronous validation is pending.
      *
      * @return {@code true} if validation has passed, {@code false} if not
      */
     public boolean isOk() {
-        return !hasErrors();
+        return !hasErrors() && !isPending();
+    }
+
+    /**
+     * Gets whether asynchronous validation of any field is still in progress.
+     *
+     * @see AsyncValidator
+     *
+     * @return {@code true} if validation is pending, {@code false} otherwise
+     */
+    public boolean isPending() {
+        return bindingStatuses.stream()
+                .anyMatch(BindingValidationStatus::isPending);
     }
 
     /**
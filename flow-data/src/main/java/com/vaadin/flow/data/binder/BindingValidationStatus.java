@@ -69,7 +69,14 @@ public class BindingValidationStatus<TARGET> implements Serializable {
          * In practice this status means that the value might be invalid, but
          * validation errors should be hidden.
          */
-        UNRESOLVED;
+        UNRESOLVED,
+        /**
+         * Pending status, the value has passed all synchronous validators but
+         * asynchronous validation is still in progress.
+         *
+         * @see AsyncValidator
+         */
+        PENDING;
     }
 
     private final Status status;
@@ -110,6 +117,30 @@ public class BindingValidationStatus<TARGET> implements Serializable {
         this.result = result;
     }
 
+    private BindingValidationStatus(Binding<?, TARGET> source, Status status) {
+        Objects.requireNonNull(source, "Event source may not be null");
+
+        binding = source;
+        this.status = status;
+        results = Collections.emptyList();
+    }
+
+    /**
+     * Convenience method for creating a {@link Status#PENDING} validation
+     * status for the given binding.
+     *
+     * @param source
+     *            the source binding
+     * @return pending validation status
+     * @param <TARGET>
+     *            the target data type of the binding which is being
+     *            validated
+     */
+    public static <TARGET> BindingValidationStatus<TARGET> createPendingStatus(
+            Binding<?, TARGET> source) {
+        return new BindingValidationStatus<>(source, Status.PENDING);
+    }
+
     /**
      * Convenience method for creating a {@link Status#UNRESOLVED} validation
      * status for the given binding.
@@ -145,6 +176,15 @@ public class BindingValidationStatus<TARGET> implements Serializable {
         return status == Status.ERROR;
     }
 
+    /**
+     * Gets whether asynchronous validation is still in progress.
+     *
+     * @return {@code true} if validation is pending, {@code false} otherwise
+     */
+    public boolean isPending() {
+        return status == Status.PENDING;
+    }
+
     /**
      * Gets error validation message if status is {@link Status#ERROR}.
      *
@@ -161,7 +201,7 @@ public class BindingValidationStatus<TARGET> implements Serializable {
     /**
      * Gets the validation result if status is either {@link Status#OK} or
      * {@link Status#ERROR} or an empty optional if status is
-     * {@link Status#UNRESOLVED}.
+     * {@link Status#UNRESOLVED} or {@link Status#PENDING}.
      *
      * @return the validation result
      */
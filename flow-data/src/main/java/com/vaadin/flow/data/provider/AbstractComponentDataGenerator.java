@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,12 +38,18 @@ public abstract class AbstractComponentDataGenerator<T>
 
     private final Map<String, Component> renderedComponents = new HashMap<>();
 
+    /**
+     * Components of destroyed items kept for reuse. The components stay
+     * attached to the container.
+     */
+    private final Deque<Component> recycledComponents = new ArrayDeque<>();
+
     @Override
     public void refreshData(T item) {
         String itemKey = getItemKey(item);
         Component oldComponent = getRenderedComponent(itemKey);
         if (oldComponent != null) {
-            Component recreatedComponent = createComponent(item);
+            Component recreatedComponent = updateComponent(oldComponent, item);
 
             int oldId = oldComponent.getElement().getNode().getId();
             int newId = recreatedComponent.getElement().getNode().getId();
@@ -57,7 +65,11 @@ public abstract class AbstractComponentDataGenerator<T>
         String itemKey = getItemKey(item);
         Component renderedComponent = renderedComponents.remove(itemKey);
         if (renderedComponent != null) {
-            renderedComponent.getElement().removeFromParent();
+            if (recycledComponents.size() < getRecyclingPoolSize()) {
+                recycledComponents.push(renderedComponent);
+            } else {
+                renderedComponent.getElement().removeFromParent();
+            }
         }
     }
 
@@ -66,6 +78,9 @@ public abstract class AbstractComponentDataGenerator<T>
         renderedComponents.values().forEach(
                 component -> component.getElement().removeFromParent());
         renderedComponents.clear();
+        recycledComponents.forEach(
+                component -> component.getElement().removeFromParent());
+        recycledComponents.clear();
     }
 
     /**
@@ -84,6 +99,33 @@ public abstract class AbstractComponentDataGenerator<T>
      */
     protected abstract Component createComponent(T item);
 
+    /**
+     * Updates an existing component to represent the provided item. The
+     * default implementation creates a new component using
+     * {@link #createComponent(Object)}.
+     *
+     * @param currentComponent
+     *            the component currently representing another item or a
+     *            previous version of the item, not <code>null</code>
+     * @param item
+     *            the data item, possibly <code>null</code>
+     * @return the updated component or a new component which represents the
+     *         provided item
+     */
+    protected Component updateComponent(Component currentComponent, T item) {
+        return createComponent(item);
+    }
+
+    /**
+     * Gets the maximum number of components of destroyed items to keep for
+     * reuse. The default implementation returns 0, which disables recycling.
+     *
+     * @return the maximum number of recycled components
+     */
+    protected int getRecyclingPoolSize() {
+        return 0;
+    }
+
     /**
      * Gets a unique key for a given item. Items with the same keys are
      * considered equal.
@@ -111,6 +153,35 @@ public abstract class AbstractComponentDataGenerator<T>
         renderedComponents.put(itemKey, component);
     }
 
+    /**
+     * Gets a component for the provided item and registers it for future use
+     * during the lifecycle of the generator. A recycled component is updated
+     * using {@link #updateComponent(Component, Object)} if available,
+     * otherwise a new component is created and appended to the container.
+     *
+     * @param itemKey
+     *            the key of the model item
+     * @param item
+     *            the data item, possibly <code>null</code>
+     * @return the registered component
+     */
+    protected Component createAndRegisterComponent(String itemKey, T item) {
+        Component recycledComponent = recycledComponents.poll();
+        if (recycledComponent == null) {
+            Component component = createComponent(item);
+            registerRenderedComponent(itemKey, component);
+            return component;
+        }
+        Component component = updateComponent(recycledComponent, item);
+        if (component == recycledComponent) {
+            renderedComponents.put(itemKey, component);
+        } else {
+            recycledComponent.getElement().removeFromParent();
+            registerRenderedComponent(itemKey, component);
+        }
+        return component;
+    }
+
     protected Component getRenderedComponent(String itemKey) {
         return renderedComponents.get(itemKey);
     }
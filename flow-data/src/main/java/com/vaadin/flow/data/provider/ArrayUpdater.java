@@ -72,6 +72,27 @@ public interface ArrayUpdater extends Serializable {
      */
     Update startUpdate(int sizeChange);
 
+    /**
+     * Starts update of an array whose size may be an estimate. The size is
+     * an estimate when the data communicator is not using a defined size and
+     * has not yet found the end of the data. The client should then allow
+     * scrolling to the end of the estimated size so that more items can be
+     * requested, after which the size grows.
+     * <p>
+     * The default implementation ignores whether the size is an estimate and
+     * delegates to {@link #startUpdate(int)}.
+     *
+     * @param sizeChange
+     *            the size of the array where changes happened
+     * @param sizeEstimate
+     *            {@code true} if the size is an estimate, {@code false} if it
+     *            is the exact size
+     * @return array update strategy
+     */
+    default Update startUpdate(int sizeChange, boolean sizeEstimate) {
+        return startUpdate(sizeChange);
+    }
+
     /**
      * Initialize the array.
      */
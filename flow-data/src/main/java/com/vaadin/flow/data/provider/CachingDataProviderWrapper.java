@@ -0,0 +1,424 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * A data provider that wraps another data provider and caches the fetched
+ * items in pages. Queries are aligned to pages of a fixed size, so that
+ * overlapping queries, e.g. when the user scrolls back and forth, are served
+ * from the cache instead of querying the wrapped data provider again. The
+ * sizes reported by the wrapped data provider are cached as well.
+ * <p>
+ * Pages are cached separately for each combination of filter and sorting, and
+ * the least recently used pages are evicted when the cache is full. After a
+ * query, the page following the last fetched page is prefetched in the
+ * background using the {@link VaadinService#getExecutor() service executor},
+ * unless prefetching has been disabled. The wrapped data provider must
+ * therefore support being queried from a thread other than the request thread
+ * when prefetching is enabled.
+ * <p>
+ * The cache is cleared when the wrapped data provider is refreshed, and
+ * cached instances of an item are replaced when the item is refreshed. The
+ * wrapper starts listening to the wrapped data provider when it caches data.
+ * It stops listening and clears the cache when the last listener added to the
+ * wrapper is removed, e.g. when the component using the wrapper is detached.
+ *
+ * @author Vaadin Ltd
+ *
+ * @param <T>
+ *            the data provider item type
+ * @param <F>
+ *            the query filter type
+ */
+public class CachingDataProviderWrapper<T, F>
+        extends DataProviderWrapper<T, F, F> {
+
+    /**
+     * The default number of items in a page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * The default maximum number of cached pages.
+     */
+    public static final int DEFAULT_MAX_PAGES = 20;
+
+    private final int pageSize;
+    private final LruCache<List<T>> cache;
+    private final LruCache<Integer> sizes;
+    private boolean prefetch = true;
+
+    // Listeners added to this wrapper, guarded by the cache
+    private int listenerCount;
+
+    // Listener for changes in the wrapped data provider while data is cached,
+    // guarded by the cache
+    private Registration dataChangeRegistration;
+
+    /**
+     * Incremented whenever the cache is cleared so that pages fetched in the
+     * background before clearing are discarded.
+     */
+    private volatile int generation;
+
+    /**
+     * Creates a new caching wrapper using the default page size and cache
+     * size.
+     *
+     * @param dataProvider
+     *            the data provider to wrap, not <code>null</code>
+     */
+    public CachingDataProviderWrapper(DataProvider<T, F> dataProvider) {
+        this(dataProvider, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    /**
+     * Creates a new caching wrapper using the given page size and cache size.
+     *
+     * @param dataProvider
+     *            the data provider to wrap, not <code>null</code>
+     * @param pageSize
+     *            the number of items fetched from the wrapped data provider
+     *            at a time, greater than 0
+     * @param maxPages
+     *            the maximum number of pages to cache, greater than 0
+     */
+    public CachingDataProviderWrapper(DataProvider<T, F> dataProvider,
+            int pageSize, int maxPages) {
+        super(dataProvider);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(
+                    "Page size must be greater than 0: " + pageSize);
+        }
+        if (maxPages < 1) {
+            throw new IllegalArgumentException(
+                    "Max pages must be greater than 0: " + maxPages);
+        }
+        this.pageSize = pageSize;
+        cache = new LruCache<>(maxPages);
+        sizes = new LruCache<>(maxPages);
+    }
+
+    /**
+     * Sets whether the page following the last fetched page is prefetched in
+     * the background. Prefetching is enabled by default.
+     *
+     * @param prefetch
+     *            {@code true} to prefetch pages, {@code false} to only fetch
+     *            pages when they are queried
+     */
+    public void setPrefetch(boolean prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Gets whether pages are prefetched in the background.
+     *
+     * @see #setPrefetch(boolean)
+     *
+     * @return {@code true} if pages are prefetched, {@code false} otherwise
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Gets the number of items fetched from the wrapped data provider at a
+     * time.
+     *
+     * @return the page size
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Removes all cached pages and sizes.
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            generation++;
+            cache.clear();
+            sizes.clear();
+        }
+    }
+
+    @Override
+    public Registration addDataProviderListener(
+            DataProviderListener<T> listener) {
+        Registration registration = super.addDataProviderListener(listener);
+        synchronized (cache) {
+            listenerCount++;
+        }
+        AtomicBoolean removed = new AtomicBoolean();
+        return () -> {
+            if (removed.compareAndSet(false, true)) {
+                registration.remove();
+                handleListenerRemoved();
+            }
+        };
+    }
+
+    private void handleListenerRemoved() {
+        Registration registration = null;
+        synchronized (cache) {
+            listenerCount--;
+            if (listenerCount == 0) {
+                // Changes are not tracked anymore, so nothing can be cached
+                clearCache();
+                registration = dataChangeRegistration;
+                dataChangeRegistration = null;
+            }
+        }
+        if (registration != null) {
+            registration.remove();
+        }
+    }
+
+    private void listenToDataChanges() {
+        synchronized (cache) {
+            if (dataChangeRegistration == null) {
+                dataChangeRegistration = dataProvider
+                        .addDataProviderListener(this::handleDataChange);
+            }
+        }
+    }
+
+    @Override
+    protected F getFilter(Query<T, F> query) {
+        return query.getFilter().orElse(null);
+    }
+
+    @Override
+    public int size(Query<T, F> query) {
+        QueryKey<T, F> key = new QueryKey<>(query, -1);
+        synchronized (cache) {
+            Integer cached = sizes.get(key);
+            if (cached != null) {
+                return cached.intValue();
+            }
+            listenToDataChanges();
+        }
+        int currentGeneration = generation;
+        int size = super.size(query);
+        synchronized (cache) {
+            if (currentGeneration == generation) {
+                sizes.put(key, Integer.valueOf(size));
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Stream<T> fetch(Query<T, F> query) {
+        int offset = query.getOffset();
+        int limit = query.getLimit();
+        if (limit <= 0) {
+            return Stream.empty();
+        }
+        long end = (long) offset + limit;
+        int firstPage = offset / pageSize;
+        int lastPage = (int) ((end - 1) / pageSize);
+
+        List<T> items = new ArrayList<>();
+        int page = firstPage;
+        boolean endReached = false;
+        while (page <= lastPage && !endReached) {
+            List<T> pageItems = getPage(query, page);
+            int pageStart = page * pageSize;
+            int from = Math.max(0, offset - pageStart);
+            int to = (int) Math.min(pageItems.size(), end - pageStart);
+            if (from < to) {
+                items.addAll(pageItems.subList(from, to));
+            }
+            endReached = pageItems.size() < pageSize;
+            page++;
+        }
+
+        if (prefetch && !endReached) {
+            prefetch(query, lastPage + 1);
+        }
+        return items.stream();
+    }
+
+    private List<T> getPage(Query<T, F> query, int page) {
+        QueryKey<T, F> key = new QueryKey<>(query, page);
+        synchronized (cache) {
+            List<T> cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            listenToDataChanges();
+        }
+        int currentGeneration = generation;
+        List<T> pageItems = fetchPage(query, page);
+        put(key, pageItems, currentGeneration);
+        return pageItems;
+    }
+
+    /**
+     * Fetches a page from the wrapped data provider. Pages are never modified
+     * after fetching, so they can be read without holding the cache lock.
+     */
+    private List<T> fetchPage(Query<T, F> query, int page) {
+        List<T> items = dataProvider
+                .fetch(new Query<>(page * pageSize, pageSize,
+                        query.getSortOrders(), query.getInMemorySorting(),
+                        getFilter(query)))
+                .collect(Collectors.toCollection(ArrayList::new));
+        return Collections.unmodifiableList(items);
+    }
+
+    private void put(QueryKey<T, F> key, List<T> value, int fetchGeneration) {
+        synchronized (cache) {
+            if (fetchGeneration == generation) {
+                cache.put(key, value);
+            }
+        }
+    }
+
+    private void prefetch(Query<T, F> query, int page) {
+        QueryKey<T, F> key = new QueryKey<>(query, page);
+        synchronized (cache) {
+            if (cache.containsKey(key)) {
+                return;
+            }
+        }
+        VaadinService service = VaadinService.getCurrent();
+        if (service == null) {
+            return;
+        }
+        Executor executor = service.getExecutor();
+        int currentGeneration = generation;
+        try {
+            executor.execute(() -> {
+                try {
+                    put(key, fetchPage(query, page), currentGeneration);
+                } catch (RuntimeException e) {
+                    getLogger().debug("Prefetching page {} failed", page, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            getLogger().debug("Prefetching page {} was rejected", page, e);
+        }
+    }
+
+    private void handleDataChange(DataChangeEvent<T> event) {
+        if (event instanceof DataRefreshEvent) {
+            T item = ((DataRefreshEvent<T>) event).getItem();
+            Object id = getId(item);
+            synchronized (cache) {
+                cache.entrySet().forEach(entry -> {
+                    List<T> page = entry.getValue();
+                    if (page.stream().anyMatch(cached -> cached != null
+                            && Objects.equals(getId(cached), id))) {
+                        // Replace the page instead of modifying it, since it
+                        // may be read without holding the lock
+                        entry.setValue(Collections.unmodifiableList(page
+                                .stream()
+                                .map(cached -> cached != null && Objects
+                                        .equals(getId(cached), id) ? item
+                                                : cached)
+                                .collect(Collectors.toList())));
+                    }
+                });
+            }
+        } else {
+            clearCache();
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory
+                .getLogger(CachingDataProviderWrapper.class.getName());
+    }
+
+    /**
+     * Identifies a cached page or size by the filter and sorting of the query
+     * and the page index.
+     */
+    private static class QueryKey<T, F> implements Serializable {
+        private final Object filter;
+        private final List<String> sortOrders;
+        private final Comparator<T> inMemorySorting;
+        private final int page;
+
+        private QueryKey(Query<T, F> query, int page) {
+            filter = query.getFilter().orElse(null);
+            sortOrders = query.getSortOrders().stream()
+                    .map(order -> order.getSorted() + " "
+                            + order.getDirection())
+                    .collect(Collectors.toList());
+            inMemorySorting = query.getInMemorySorting();
+            this.page = page;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, sortOrders, inMemorySorting,
+                    Integer.valueOf(page));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey<?, ?> other = (QueryKey<?, ?>) obj;
+            return page == other.page && Objects.equals(filter, other.filter)
+                    && sortOrders.equals(other.sortOrders)
+                    && Objects.equals(inMemorySorting, other.inMemorySorting);
+        }
+    }
+
+    /**
+     * A least recently used cache of pages or sizes.
+     */
+    private static class LruCache<V> extends LinkedHashMap<QueryKey<?, ?>, V> {
+        private final int maxEntries;
+
+        private LruCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<QueryKey<?, ?>, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
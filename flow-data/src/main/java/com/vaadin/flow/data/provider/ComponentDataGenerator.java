@@ -75,8 +75,8 @@ public class ComponentDataGenerator<T>
         if (oldRenderedComponent != null) {
             nodeId = oldRenderedComponent.getElement().getNode().getId();
         } else {
-            Component renderedComponent = createComponent(item);
-            registerRenderedComponent(itemKey, renderedComponent);
+            Component renderedComponent = createAndRegisterComponent(itemKey,
+                    item);
 
             nodeId = renderedComponent.getElement().getNode().getId();
         }
@@ -89,6 +89,16 @@ public class ComponentDataGenerator<T>
         return componentRenderer.createComponent(item);
     }
 
+    @Override
+    protected Component updateComponent(Component currentComponent, T item) {
+        return componentRenderer.updateComponent(currentComponent, item);
+    }
+
+    @Override
+    protected int getRecyclingPoolSize() {
+        return componentRenderer.getRecyclingPoolSize();
+    }
+
     @Override
     protected String getItemKey(T item) {
         if (keyMapper == null) {
@@ -24,11 +24,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.data.provider.ArrayUpdater.Update;
 import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 import com.vaadin.flow.function.SerializableComparator;
@@ -74,6 +79,30 @@ public class DataCommunicator<T> implements Serializable {
     // Last total size value sent to the client
     private int assumedSize;
 
+    private boolean definedSize = true;
+    private int sizeEstimate = 200;
+    private int sizeEstimateIncrease = 200;
+
+    // Whether assumedSize is known to be the exact size in undefined mode
+    private boolean sizeKnown;
+    private boolean exactSizeRequested;
+
+    private boolean asyncFetch;
+
+    // Incremented whenever fetched data becomes stale, e.g. on reset
+    private int dataGeneration;
+
+    // Result of the latest background fetch, consumed by the next flush
+    private transient FetchResult<T> fetchResult;
+    private transient CompletableFuture<?> pendingFetch;
+    private boolean asyncFetchFailed;
+
+    private boolean incrementalRefresh;
+    private boolean activeRefreshRequested;
+
+    // The JSON last sent for each key in incremental refresh mode
+    private final HashMap<String, String> sentJson = new HashMap<>();
+
     private boolean resendEntireRange = true;
     private boolean assumeEmptyClient = true;
 
@@ -146,6 +175,10 @@ public class DataCommunicator<T> implements Serializable {
      */
     public void reset() {
         resendEntireRange = true;
+        sizeKnown = false;
+        dataGeneration++;
+        activeRefreshRequested = false;
+        sentJson.clear();
         dataGenerator.destroyAllData();
         updatedData.clear();
         requestFlush();
@@ -288,6 +321,208 @@ public class DataCommunicator<T> implements Serializable {
         return Collections.unmodifiableList(backEndSorting);
     }
 
+    /**
+     * Sets whether the size of the data is defined using a count query. By
+     * default the size is defined, and the data provider is queried for the
+     * size whenever the data is reset, e.g. when the filter changes.
+     * <p>
+     * When the size is not defined, the communicator does not run count
+     * queries. Instead, the client is told that the size is the
+     * {@link #setSizeEstimate(int) estimate}. The estimate is increased by
+     * {@link #setSizeEstimateIncrease(int)} items whenever the client requests
+     * items at the end of the estimated size, until the data provider returns
+     * less items than requested, at which point the exact size is known. An
+     * exact count can be requested using {@link #requestExactSize()}.
+     *
+     * @param definedSize
+     *            {@code true} to query the size from the data provider,
+     *            {@code false} to estimate the size based on fetched items
+     */
+    public void setDefinedSize(boolean definedSize) {
+        if (this.definedSize != definedSize) {
+            this.definedSize = definedSize;
+            reset();
+        }
+    }
+
+    /**
+     * Gets whether the size of the data is defined using a count query.
+     *
+     * @see #setDefinedSize(boolean)
+     *
+     * @return {@code true} if the size is defined, {@code false} if it is
+     *         estimated
+     */
+    public boolean isDefinedSize() {
+        return definedSize;
+    }
+
+    /**
+     * Sets the size to assume when the size is not defined and no items have
+     * been fetched yet. The default estimate is 200.
+     *
+     * @see #setDefinedSize(boolean)
+     *
+     * @param sizeEstimate
+     *            the initial size estimate, greater than 0
+     */
+    public void setSizeEstimate(int sizeEstimate) {
+        if (sizeEstimate < 1) {
+            throw new IllegalArgumentException(
+                    "Size estimate must be greater than 0: " + sizeEstimate);
+        }
+        this.sizeEstimate = sizeEstimate;
+        if (!definedSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Gets the size to assume when the size is not defined.
+     *
+     * @see #setSizeEstimate(int)
+     *
+     * @return the initial size estimate
+     */
+    public int getSizeEstimate() {
+        return sizeEstimate;
+    }
+
+    /**
+     * Sets how many items the estimated size grows by when the client requests
+     * items at the end of the estimated size. The default increase is 200.
+     *
+     * @see #setDefinedSize(boolean)
+     *
+     * @param sizeEstimateIncrease
+     *            the size estimate increase, greater than 0
+     */
+    public void setSizeEstimateIncrease(int sizeEstimateIncrease) {
+        if (sizeEstimateIncrease < 1) {
+            throw new IllegalArgumentException(
+                    "Size estimate increase must be greater than 0: "
+                            + sizeEstimateIncrease);
+        }
+        this.sizeEstimateIncrease = sizeEstimateIncrease;
+    }
+
+    /**
+     * Gets how many items the estimated size grows by.
+     *
+     * @see #setSizeEstimateIncrease(int)
+     *
+     * @return the size estimate increase
+     */
+    public int getSizeEstimateIncrease() {
+        return sizeEstimateIncrease;
+    }
+
+    /**
+     * Requests the exact size to be queried from the data provider and sent to
+     * the client when the size is not defined, e.g. when the user wants to
+     * scroll to the end of the data. Has no effect when the size is defined,
+     * since the exact size is then always used.
+     *
+     * @see #setDefinedSize(boolean)
+     */
+    public void requestExactSize() {
+        if (!definedSize && !sizeKnown) {
+            exactSizeRequested = true;
+            requestFlush();
+        }
+    }
+
+    /**
+     * Gets whether the size last sent to the client is an estimate.
+     *
+     * @see #setDefinedSize(boolean)
+     *
+     * @return {@code true} if the size is an estimate, {@code false} if it is
+     *         the exact size
+     */
+    public boolean isSizeEstimated() {
+        return !definedSize && !sizeKnown;
+    }
+
+    /**
+     * Sets whether items and the size are fetched from the data provider in
+     * the background. By default, data is fetched while handling the request,
+     * with the session locked.
+     * <p>
+     * When fetching in the background, the count query and the query for the
+     * requested items are run concurrently using the
+     * {@link com.vaadin.flow.server.VaadinService#getExecutor() service
+     * executor} without holding the session lock. The results are sent to the
+     * client using {@link UI#access(com.vaadin.flow.server.Command)}, so the
+     * client only receives them in the next response, e.g. through server push
+     * or polling. Results are discarded if the data is reset or the requested
+     * range changes while they are fetched. The data provider must support
+     * being queried from a background thread.
+     *
+     * @param asyncFetch
+     *            {@code true} to fetch data in the background, {@code false}
+     *            to fetch data while handling the request
+     */
+    public void setAsyncFetch(boolean asyncFetch) {
+        this.asyncFetch = asyncFetch;
+        if (!asyncFetch) {
+            cancelAsyncFetch();
+        }
+    }
+
+    /**
+     * Gets whether items and the size are fetched from the data provider in
+     * the background.
+     *
+     * @see #setAsyncFetch(boolean)
+     *
+     * @return {@code true} if data is fetched in the background,
+     *         {@code false} otherwise
+     */
+    public boolean isAsyncFetch() {
+        return asyncFetch;
+    }
+
+    /**
+     * Sets whether refreshing all data only sends the items that have changed.
+     * By default, {@link DataProvider#refreshAll()} resets the data
+     * communicator, so that all active items are regenerated and resent to the
+     * client.
+     * <p>
+     * In incremental mode, the active items are fetched again instead and
+     * compared with what was last sent to the client, using the identity of
+     * each item and its generated JSON. Only the items that differ are
+     * refreshed and sent. All data is still resent if the size of the data has
+     * changed, or if fewer items than before are found in the active range.
+     * <p>
+     * The data of an item is generated using the components already rendered
+     * for it when comparing, so a change that only affects the rendered
+     * components of an item is not detected. Use
+     * {@link DataProvider#refreshItem(Object)} to refresh such items.
+     *
+     * @param incrementalRefresh
+     *            {@code true} to only send changed items when all data is
+     *            refreshed, {@code false} to resend all items
+     */
+    public void setIncrementalRefresh(boolean incrementalRefresh) {
+        this.incrementalRefresh = incrementalRefresh;
+        if (!incrementalRefresh) {
+            sentJson.clear();
+        }
+    }
+
+    /**
+     * Gets whether refreshing all data only sends the items that have changed.
+     *
+     * @see #setIncrementalRefresh(boolean)
+     *
+     * @return {@code true} if only changed items are sent, {@code false} if
+     *         all items are resent
+     */
+    public boolean isIncrementalRefresh() {
+        return incrementalRefresh;
+    }
+
     /**
      * Getter method for finding the size of DataProvider. Can be overridden by
      * a subclass that uses a specific type of DataProvider and/or query.
@@ -330,7 +565,7 @@ public class DataCommunicator<T> implements Serializable {
                     if (event instanceof DataRefreshEvent) {
                         refresh(((DataRefreshEvent<T>) event).getItem());
                     } else {
-                        reset();
+                        handleRefreshAll();
                     }
                 });
 
@@ -338,6 +573,17 @@ public class DataCommunicator<T> implements Serializable {
         requestFlush();
     }
 
+    private void handleRefreshAll() {
+        if (incrementalRefresh && !resendEntireRange && !assumeEmptyClient) {
+            // Discard any data fetched before the refresh
+            dataGeneration++;
+            activeRefreshRequested = true;
+            requestFlush();
+        } else {
+            reset();
+        }
+    }
+
     private void handleDetach() {
         dataGenerator.destroyAllData();
         if (dataProviderUpdateRegistration != null) {
@@ -353,8 +599,15 @@ public class DataCommunicator<T> implements Serializable {
                     reset();
                     arrayUpdater.initialize();
                 }
-                flush();
                 flushRequest = null;
+                if (asyncFetch && !asyncFetchFailed && needsFetch()
+                        && !hasCurrentFetchResult()) {
+                    startAsyncFetch(context.getUI());
+                    return;
+                }
+                asyncFetchFailed = false;
+                flush();
+                fetchResult = null;
             };
             stateNode.runWhenAttached(ui -> ui.getInternals().getStateTree()
                     .beforeClientResponse(stateNode, flushRequest));
@@ -373,15 +626,30 @@ public class DataCommunicator<T> implements Serializable {
     }
 
     private void flush() {
+        if (activeRefreshRequested) {
+            activeRefreshRequested = false;
+            if (!resendEntireRange && !refreshActiveItems()) {
+                resendEntireRange = true;
+                sizeKnown = false;
+                sentJson.clear();
+                dataGenerator.destroyAllData();
+                updatedData.clear();
+            }
+        }
+
         Set<String> oldActive = new HashSet<>(activeKeyOrder);
 
-        if (resendEntireRange) {
-            assumedSize = getDataProviderSize();
+        if (definedSize) {
+            if (resendEntireRange) {
+                assumedSize = querySize();
+            }
+        } else {
+            updateEstimatedSize();
         }
 
         final Range previousActive = Range.withLength(activeStart,
                 activeKeyOrder.size());
-        final Range effectiveRequested = requestedRange
+        Range effectiveRequested = requestedRange
                 .restrictTo(Range.withLength(0, assumedSize));
 
         resendEntireRange |= !(previousActive.intersects(effectiveRequested)
@@ -391,11 +659,22 @@ public class DataCommunicator<T> implements Serializable {
         List<String> newActiveKeyOrder = collectKeysToFlush(previousActive,
                 effectiveRequested);
 
+        if (!definedSize
+                && newActiveKeyOrder.size() < effectiveRequested.length()) {
+            // The provider ran out of items, so the end has been found
+            assumedSize = effectiveRequested.getStart()
+                    + newActiveKeyOrder.size();
+            sizeKnown = true;
+            effectiveRequested = Range.withLength(effectiveRequested.getStart(),
+                    newActiveKeyOrder.size());
+        }
+
         activeKeyOrder = newActiveKeyOrder;
         activeStart = effectiveRequested.getStart();
 
         // Phase 2: Collect changes to send
-        Update update = arrayUpdater.startUpdate(assumedSize);
+        Update update = arrayUpdater.startUpdate(assumedSize,
+                isSizeEstimated());
         boolean updated = collectChangesToSend(previousActive,
                 effectiveRequested, update);
 
@@ -409,6 +688,224 @@ public class DataCommunicator<T> implements Serializable {
         unregisterPassivatedKeys();
     }
 
+    /**
+     * Fetches the active items again and sends the ones that differ from what
+     * was last sent to the client. Returns {@code false} without sending
+     * anything if the size has changed or fewer items are found, in which
+     * case everything should be resent.
+     */
+    private boolean refreshActiveItems() {
+        if (definedSize && querySize() != assumedSize) {
+            return false;
+        }
+        List<T> items = queryItems(activeStart, activeKeyOrder.size())
+                .collect(Collectors.toList());
+        if (items.size() < activeKeyOrder.size()) {
+            return false;
+        }
+
+        List<String> newActiveKeyOrder = new ArrayList<>(items.size());
+        List<JsonValue> changed = new ArrayList<>();
+        int changedStart = -1;
+        Update update = null;
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            boolean rendered = keyMapper.has(item);
+            String key = activateForRefresh(item);
+            newActiveKeyOrder.add(key);
+
+            String previousJson = key.equals(activeKeyOrder.get(i))
+                    ? sentJson.get(key)
+                    : null;
+            // Compare using the data already generated for the item, so that
+            // e.g. rendered components are not recreated for unchanged items
+            JsonValue json = generateJson(item);
+
+            if (previousJson == null
+                    || !previousJson.equals(sentJson.get(key))) {
+                if (rendered) {
+                    dataGenerator.refreshData(item);
+                    json = generateJson(item);
+                }
+                if (changedStart < 0) {
+                    changedStart = i;
+                }
+                changed.add(json);
+            } else if (changedStart >= 0) {
+                update = setChanged(update, changedStart, changed);
+                changedStart = -1;
+            }
+        }
+        if (changedStart >= 0) {
+            update = setChanged(update, changedStart, changed);
+        }
+
+        Set<String> oldActive = new HashSet<>(activeKeyOrder);
+        activeKeyOrder = newActiveKeyOrder;
+        if (update != null) {
+            passivateInactiveKeys(oldActive, newActiveKeyOrder, update, true);
+        }
+        return true;
+    }
+
+    private String activateForRefresh(T item) {
+        if (keyMapper.has(item)) {
+            keyMapper.refresh(item);
+            String key = keyMapper.key(item);
+            passivatedByUpdate.values().forEach(set -> set.remove(key));
+            return key;
+        }
+        return keyMapper.key(item);
+    }
+
+    private Update setChanged(Update update, int changedStart,
+            List<JsonValue> changed) {
+        Update result = update;
+        if (result == null) {
+            result = arrayUpdater.startUpdate(assumedSize, isSizeEstimated());
+        }
+        result.set(activeStart + changedStart, new ArrayList<>(changed));
+        changed.clear();
+        return result;
+    }
+
+    /**
+     * Updates the assumed size when the size is not defined: runs a count
+     * query if one has been requested, starts from the estimate when all data
+     * is resent, and grows the estimate when the client has requested items
+     * at its end.
+     */
+    private void updateEstimatedSize() {
+        if (exactSizeRequested) {
+            exactSizeRequested = false;
+            assumedSize = querySize();
+            sizeKnown = true;
+        } else if (resendEntireRange) {
+            assumedSize = sizeEstimate;
+        }
+        if (!sizeKnown && requestedRange.getEnd() >= assumedSize) {
+            assumedSize = requestedRange.getEnd() + sizeEstimateIncrease;
+        }
+    }
+
+    /**
+     * Checks whether the next flush would query the data provider.
+     */
+    private boolean needsFetch() {
+        if (resendEntireRange || exactSizeRequested
+                || activeRefreshRequested) {
+            return true;
+        }
+        if (!definedSize && !sizeKnown
+                && requestedRange.getEnd() >= assumedSize) {
+            return true;
+        }
+        Range effectiveRequested = requestedRange
+                .restrictTo(Range.withLength(0, assumedSize));
+        return !effectiveRequested.isEmpty()
+                && (effectiveRequested.getStart() < activeStart
+                        || effectiveRequested.getEnd() > activeStart
+                                + activeKeyOrder.size());
+    }
+
+    private boolean hasCurrentFetchResult() {
+        return fetchResult != null
+                && fetchResult.dataGeneration == dataGeneration
+                && requestedRange.isSubsetOf(fetchResult.range);
+    }
+
+    /**
+     * Gets the range to fetch in the background. When the active items are
+     * refreshed, the range also covers the currently active items.
+     */
+    private Range getFetchRange() {
+        if (!activeRefreshRequested || activeKeyOrder.isEmpty()) {
+            return requestedRange;
+        }
+        return Range.between(Math.min(requestedRange.getStart(), activeStart),
+                Math.max(requestedRange.getEnd(),
+                        activeStart + activeKeyOrder.size()));
+    }
+
+    /**
+     * Fetches the requested range, and the size if needed, using the service
+     * executor and flushes again with the results once they are available.
+     */
+    @SuppressWarnings("unchecked")
+    private void startAsyncFetch(UI ui) {
+        cancelAsyncFetch();
+        Executor executor = ui.getSession().getService().getExecutor();
+        int generation = dataGeneration;
+        Range range = getFetchRange();
+        boolean sizeNeeded = exactSizeRequested || definedSize
+                && (resendEntireRange || activeRefreshRequested);
+
+        // Capture the provider and queries while holding the session lock,
+        // the background tasks must not read the state of this communicator
+        DataProvider<T, Object> provider = (DataProvider<T, Object>) getDataProvider();
+        Query<T, Object> sizeQuery = new Query<>(getFilter());
+        Query<T, Object> fetchQuery = new Query<>(range.getStart(),
+                range.length(), new ArrayList<>(backEndSorting),
+                inMemorySorting, filter);
+
+        CompletableFuture<Integer> size = sizeNeeded
+                ? CompletableFuture.supplyAsync(() -> provider.size(sizeQuery),
+                        executor)
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<T>> items = CompletableFuture.supplyAsync(
+                () -> provider.fetch(fetchQuery).collect(Collectors.toList()),
+                executor);
+        CompletableFuture<FetchResult<T>> fetch = size.thenCombine(items,
+                (fetchedSize, fetchedItems) -> new FetchResult<>(generation,
+                        range, fetchedSize, fetchedItems));
+        pendingFetch = fetch;
+        fetch.whenComplete((result, error) -> ui.access(() -> {
+            if (pendingFetch != fetch) {
+                return;
+            }
+            pendingFetch = null;
+            if (error != null) {
+                LoggerFactory.getLogger(DataCommunicator.class.getName())
+                        .debug("Fetching data in the background failed",
+                                error);
+                // Let the next flush fetch synchronously to report the error
+                asyncFetchFailed = true;
+            } else {
+                // Stale results are ignored by hasCurrentFetchResult
+                fetchResult = result;
+            }
+            requestFlush();
+        }));
+    }
+
+    private void cancelAsyncFetch() {
+        if (pendingFetch != null) {
+            pendingFetch.cancel(false);
+            pendingFetch = null;
+        }
+        fetchResult = null;
+    }
+
+    private int querySize() {
+        if (hasCurrentFetchResult() && fetchResult.size != null) {
+            return fetchResult.size.intValue();
+        }
+        return getDataProviderSize();
+    }
+
+    private Stream<T> queryItems(int offset, int limit) {
+        if (hasCurrentFetchResult()
+                && offset >= fetchResult.range.getStart()
+                && offset + limit <= fetchResult.range.getEnd()) {
+            List<T> items = fetchResult.items;
+            int from = Math.min(items.size(),
+                    offset - fetchResult.range.getStart());
+            int to = Math.min(items.size(), from + limit);
+            return items.subList(from, to).stream();
+        }
+        return fetchFromProvider(offset, limit);
+    }
+
     private void flushUpdatedData() {
         if (updatedData.isEmpty()) {
             return;
@@ -438,6 +935,7 @@ public class DataCommunicator<T> implements Serializable {
                     dataGenerator.destroyData(item);
                     keyMapper.remove(item);
                 }
+                sentJson.remove(key);
             });
         }
     }
@@ -556,7 +1054,7 @@ public class DataCommunicator<T> implements Serializable {
 
         // XXX Explicitly refresh anything that is updated
         List<String> activeKeys = new ArrayList<>(range.length());
-        fetchFromProvider(range.getStart(), range.length()).forEach(bean -> {
+        queryItems(range.getStart(), range.length()).forEach(bean -> {
             boolean mapperHasKey = keyMapper.has(bean);
             String key = keyMapper.key(bean);
             if (mapperHasKey) {
@@ -568,10 +1066,32 @@ public class DataCommunicator<T> implements Serializable {
         return activeKeys;
     }
 
+    /**
+     * Items and size fetched in the background for a requested range.
+     */
+    private static class FetchResult<T> {
+        private final int dataGeneration;
+        private final Range range;
+        private final Integer size;
+        private final List<T> items;
+
+        private FetchResult(int dataGeneration, Range range, Integer size,
+                List<T> items) {
+            this.dataGeneration = dataGeneration;
+            this.range = range;
+            this.size = size;
+            this.items = items;
+        }
+    }
+
     private JsonValue generateJson(T item) {
         JsonObject json = Json.createObject();
-        json.put("key", getKeyMapper().key(item));
+        String key = getKeyMapper().key(item);
+        json.put("key", key);
         dataGenerator.generateData(item, json);
+        if (incrementalRefresh) {
+            sentJson.put(key, json.toJson());
+        }
         return json;
     }
 }
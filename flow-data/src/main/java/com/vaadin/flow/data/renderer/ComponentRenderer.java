@@ -25,6 +25,7 @@ import com.vaadin.flow.data.provider.DataGenerator;
 import com.vaadin.flow.data.provider.DataKeyMapper;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.function.SerializableBiFunction;
 import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.function.ValueProvider;
@@ -50,7 +51,9 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
     private SerializableSupplier<COMPONENT> componentSupplier;
     private SerializableFunction<SOURCE, COMPONENT> componentFunction;
     private SerializableBiConsumer<COMPONENT, SOURCE> itemConsumer;
+    private SerializableBiFunction<COMPONENT, SOURCE, COMPONENT> componentUpdateFunction;
     private String componentRendererTag = "flow-component-renderer";
+    private int recyclingPoolSize;
 
     /**
      * Creates a new ComponentRenderer that uses the componentSupplier to
@@ -110,6 +113,31 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
         this.componentFunction = componentFunction;
     }
 
+    /**
+     * Creates a new ComponentRenderer that uses the componentFunction to
+     * generate new {@link Component} instances, and the
+     * componentUpdateFunction to update existing component instances to
+     * represent another item.
+     * <p>
+     * The update function receives a previously rendered component and a model
+     * item, and returns the component that should represent the item. It can
+     * either return the given component after updating its state, or a new
+     * component instance. Updating components instead of creating new ones
+     * avoids creating new state nodes when items are refreshed, and when
+     * components are recycled, see {@link #setRecyclingPoolSize(int)}.
+     *
+     * @param componentFunction
+     *            a function that can generate new component instances
+     * @param componentUpdateFunction
+     *            a function that can update existing component instances
+     */
+    public ComponentRenderer(
+            SerializableFunction<SOURCE, COMPONENT> componentFunction,
+            SerializableBiFunction<COMPONENT, SOURCE, COMPONENT> componentUpdateFunction) {
+        this(componentFunction);
+        this.componentUpdateFunction = componentUpdateFunction;
+    }
+
     /**
      * Default constructor, that can be used by subclasses which supports
      * different ways of creating components, other than those defined in the
@@ -151,6 +179,41 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
         this.componentRendererTag = componentRendererTag;
     }
 
+    /**
+     * Sets the maximum number of components to keep for reuse when their items
+     * are no longer displayed. By default, the pool size is 0 and components
+     * are discarded when their items are no longer needed.
+     * <p>
+     * Recycled components are kept attached and are passed to
+     * {@link #updateComponent(Component, Object)} when a component is needed
+     * for a new item. This is only useful when the renderer can update
+     * components, e.g. when it has been created with
+     * {@link #ComponentRenderer(SerializableFunction, SerializableBiFunction)}
+     * or when {@link #updateComponent(Component, Object)} is overridden.
+     *
+     * @param recyclingPoolSize
+     *            the maximum number of recycled components per rendering, not
+     *            negative
+     */
+    public void setRecyclingPoolSize(int recyclingPoolSize) {
+        if (recyclingPoolSize < 0) {
+            throw new IllegalArgumentException(
+                    "Pool size cannot be negative: " + recyclingPoolSize);
+        }
+        this.recyclingPoolSize = recyclingPoolSize;
+    }
+
+    /**
+     * Gets the maximum number of components to keep for reuse.
+     *
+     * @see #setRecyclingPoolSize(int)
+     *
+     * @return the maximum number of recycled components per rendering
+     */
+    public int getRecyclingPoolSize() {
+        return recyclingPoolSize;
+    }
+
     private void setupTemplateWhenAttached(UI ui, Element owner,
             ComponentRendering rendering, DataKeyMapper<SOURCE> keyMapper) {
         String appId = ui.getInternals().getAppId();
@@ -208,6 +271,35 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
         return component;
     }
 
+    /**
+     * Updates an existing component to represent the given item. The default
+     * implementation uses the update function given in the constructor if
+     * available, and otherwise creates a new component using
+     * {@link #createComponent(Object)}. Subclasses can override this method to
+     * provide specific behavior.
+     *
+     * @param currentComponent
+     *            the component currently representing another item or a
+     *            previous version of the item, not <code>null</code>
+     * @param item
+     *            the model item, possibly <code>null</code>
+     * @return the component that should represent the provided item, either
+     *         the updated current component or a new component
+     */
+    @SuppressWarnings("unchecked")
+    public Component updateComponent(Component currentComponent,
+            SOURCE item) {
+        if (componentUpdateFunction != null) {
+            /*
+             * Components passed here have been created by this renderer, so
+             * they are instances of COMPONENT.
+             */
+            return componentUpdateFunction.apply((COMPONENT) currentComponent,
+                    item);
+        }
+        return createComponent(item);
+    }
+
     private class ComponentRendering extends ComponentDataGenerator<SOURCE>
             implements Rendering<SOURCE> {
 
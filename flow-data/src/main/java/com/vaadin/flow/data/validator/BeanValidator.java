@@ -27,6 +27,7 @@ import javax.validation.MessageInterpolator.Context;
 import javax.validation.Validation;
 import javax.validation.ValidatorFactory;
 import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.data.binder.Validator;
@@ -78,6 +79,7 @@ public class BeanValidator implements Validator<Object> {
 
     private String propertyName;
     private Class<?> beanType;
+    private transient Boolean constrained;
 
     /**
      * Creates a new JSR-303 {@code BeanValidator} that validates values of the
@@ -122,6 +124,9 @@ public class BeanValidator implements Validator<Object> {
      */
     @Override
     public ValidationResult apply(final Object value, ValueContext context) {
+        if (!isConstrained()) {
+            return ValidationResult.ok();
+        }
         Set<? extends ConstraintViolation<?>> violations = getJavaxBeanValidator()
                 .validateValue(beanType, propertyName, value);
 
@@ -134,6 +139,26 @@ public class BeanValidator implements Validator<Object> {
         return result.orElse(ValidationResult.ok());
     }
 
+    /**
+     * Checks whether the validated property has any constraints. The result
+     * is computed once so that values of unconstrained properties can be
+     * accepted without running the JSR-303 validator.
+     *
+     * @return {@code false} if the property is known to have no constraints,
+     *         {@code true} otherwise
+     */
+    private boolean isConstrained() {
+        if (constrained == null) {
+            PropertyDescriptor descriptor = getJavaxBeanValidator()
+                    .getConstraintsForClass(beanType)
+                    .getConstraintsForProperty(propertyName);
+            // Unknown properties are left for validateValue to report
+            constrained = descriptor == null
+                    || descriptor.hasConstraints();
+        }
+        return constrained;
+    }
+
     @Override
     public String toString() {
         return String.format("%s[%s.%s]", getClass().getSimpleName(),
@@ -156,7 +181,7 @@ public class BeanValidator implements Validator<Object> {
      * @return the validator to use
      */
     public javax.validation.Validator getJavaxBeanValidator() {
-        return getJavaxBeanValidatorFactory().getValidator();
+        return LazyFactoryInitializer.VALIDATOR;
     }
 
     /**
@@ -190,6 +215,8 @@ public class BeanValidator implements Validator<Object> {
 
     private static class LazyFactoryInitializer implements Serializable {
         private static final ValidatorFactory FACTORY = getFactory();
+        private static final javax.validation.Validator VALIDATOR = FACTORY
+                .getValidator();
 
         private LazyFactoryInitializer() {
         }
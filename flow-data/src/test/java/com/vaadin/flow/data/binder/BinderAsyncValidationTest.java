@@ -0,0 +1,224 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.binder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.data.binder.Binder.Binding;
+import com.vaadin.flow.data.binder.BindingValidationStatus.Status;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.tests.data.bean.Person;
+
+public class BinderAsyncValidationTest
+        extends BinderTestBase<Binder<Person>, Person> {
+
+    private static final Map<String, CompletableFuture<ValidationResult>> validations = new HashMap<>();
+
+    private final AsyncValidator<String> asyncValidator = (value,
+            context) -> validations.computeIfAbsent(value,
+                    key -> new CompletableFuture<>());
+
+    @Before
+    public void setUp() {
+        validations.clear();
+        binder = new Binder<>();
+        item = new Person();
+        item.setFirstName("Johannes");
+    }
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void asyncValidator_statusPendingUntilCompleted() {
+        Binding<Person, String> binding = binder.forField(nameField)
+                .withAsyncValidator(asyncValidator)
+                .bind(Person::getFirstName, Person::setFirstName);
+
+        nameField.setValue("foo");
+        BindingValidationStatus<String> status = binding.validate();
+        Assert.assertEquals(Status.PENDING, status.getStatus());
+        Assert.assertTrue(binder.validate().isPending());
+        Assert.assertFalse(binder.validate().isOk());
+        Assert.assertFalse(binder.validate().hasErrors());
+
+        validations.get("foo").complete(ValidationResult.error("taken"));
+
+        status = binding.validate();
+        Assert.assertEquals(Status.ERROR, status.getStatus());
+        Assert.assertEquals("taken", status.getMessage().get());
+        assertInvalidField("taken", nameField);
+    }
+
+    @Test
+    public void asyncValidator_beanWrittenWhenValidationPasses() {
+        binder.forField(nameField).withAsyncValidator(asyncValidator)
+                .bind(Person::getFirstName, Person::setFirstName);
+        binder.setBean(item);
+
+        nameField.setValue("foo");
+        Assert.assertEquals("Johannes", item.getFirstName());
+        Assert.assertTrue(binder.hasChanges());
+
+        validations.get("foo").complete(ValidationResult.ok());
+        Assert.assertEquals("foo", item.getFirstName());
+        Assert.assertFalse(binder.hasChanges());
+        assertValidField(nameField);
+    }
+
+    @Test
+    public void asyncValidator_supersededResultIgnored() {
+        binder.forField(nameField).withAsyncValidator(asyncValidator)
+                .bind(Person::getFirstName, Person::setFirstName);
+        binder.setBean(item);
+
+        nameField.setValue("foo");
+        nameField.setValue("bar");
+
+        validations.get("foo").complete(ValidationResult.error("taken"));
+        Assert.assertEquals("Johannes", item.getFirstName());
+        assertValidField(nameField);
+
+        validations.get("bar").complete(ValidationResult.ok());
+        Assert.assertEquals("bar", item.getFirstName());
+    }
+
+    @Test
+    public void asyncValidator_notRunForInvalidValue() {
+        binder.forField(nameField).withValidator(notEmpty)
+                .withAsyncValidator(asyncValidator)
+                .bind(Person::getFirstName, Person::setFirstName);
+
+        nameField.setValue("");
+        Assert.assertTrue(binder.validate().hasErrors());
+        Assert.assertFalse(validations.containsKey(""));
+    }
+
+    @Test
+    public void asyncValidator_completedValidationAppliedImmediately() {
+        Binding<Person, String> binding = binder.forField(nameField)
+                .withAsyncValidator(AsyncValidator.from(notEmpty))
+                .bind(Person::getFirstName, Person::setFirstName);
+
+        nameField.setValue("foo");
+        Assert.assertEquals(Status.OK, binding.validate().getStatus());
+    }
+
+    @Test
+    public void asyncValidator_failedStageReportedAsError() {
+        Binding<Person, String> binding = binder.forField(nameField)
+                .withAsyncValidator(asyncValidator)
+                .bind(Person::getFirstName, Person::setFirstName);
+
+        nameField.setValue("foo");
+        validations.get("foo")
+                .completeExceptionally(new IllegalStateException("offline"));
+
+        BindingValidationStatus<String> status = binding.validate();
+        Assert.assertTrue(status.isError());
+        Assert.assertEquals("offline", status.getMessage().get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void asyncValidator_converterAfterAsyncValidator_throws() {
+        binder.forField(nameField).withAsyncValidator(asyncValidator)
+                .withConverter(stringToInteger);
+    }
+
+    @Test
+    public void asyncValidationDelay_scheduledWithoutOccupyingExecutor() {
+        List<Runnable> scheduled = new ArrayList<>();
+        List<Runnable> executed = new ArrayList<>();
+        List<Command> accessed = new ArrayList<>();
+        VaadinService service = Mockito.mock(VaadinService.class);
+        ScheduledExecutorService scheduler = Mockito
+                .mock(ScheduledExecutorService.class);
+        Mockito.doAnswer(invocation -> {
+            Assert.assertEquals(300L, invocation.getArguments()[1]);
+            Assert.assertEquals(TimeUnit.MILLISECONDS,
+                    invocation.getArguments()[2]);
+            scheduled.add((Runnable) invocation.getArguments()[0]);
+            return null;
+        }).when(scheduler).schedule(Mockito.any(Runnable.class),
+                Mockito.anyLong(), Mockito.any());
+        Mockito.when(service.getScheduledExecutor()).thenReturn(scheduler);
+        ExecutorService executor = Mockito.mock(ExecutorService.class);
+        Mockito.doAnswer(invocation -> {
+            executed.add((Runnable) invocation.getArguments()[0]);
+            return null;
+        }).when(executor).execute(Mockito.any(Runnable.class));
+        Mockito.when(service.getExecutor()).thenReturn(executor);
+        VaadinSession.setCurrent(new VaadinSession(service) {
+            @Override
+            public Future<Void> access(Command command) {
+                accessed.add(command);
+                return null;
+            }
+        });
+
+        binder.setAsyncValidationDelay(300);
+        binder.forField(nameField).withAsyncValidator(asyncValidator)
+                .bind(Person::getFirstName, Person::setFirstName);
+        binder.setBean(item);
+
+        nameField.setValue("foo");
+        Assert.assertEquals(1, scheduled.size());
+        Assert.assertTrue(executed.isEmpty());
+
+        runAll(scheduled);
+        Assert.assertEquals(1, executed.size());
+        Assert.assertFalse(validations.containsKey("foo"));
+
+        runAll(executed);
+        validations.get("foo").complete(ValidationResult.ok());
+        Assert.assertEquals("Johannes", item.getFirstName());
+
+        // Results are handled while holding the session lock
+        Assert.assertEquals(1, accessed.size());
+        accessed.forEach(Command::execute);
+        Assert.assertEquals("foo", item.getFirstName());
+    }
+
+    private static void runAll(List<? extends Runnable> tasks) {
+        List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asyncValidationDelay_negative_throws() {
+        binder.setAsyncValidationDelay(-1);
+    }
+}
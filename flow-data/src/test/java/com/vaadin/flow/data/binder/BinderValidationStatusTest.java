@@ -18,6 +18,7 @@ package com.vaadin.flow.data.binder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Assert;
@@ -472,6 +473,70 @@ public class BinderValidationStatusTest
         assertValidField(nameField);
     }
 
+    @Test
+    public void incrementalValidation_unchangedBindingNotValidatedAgain() {
+        AtomicInteger nameValidations = new AtomicInteger();
+        AtomicInteger ageValidations = new AtomicInteger();
+        binder.forField(nameField).withValidator((value, context) -> {
+            nameValidations.incrementAndGet();
+            return ValidationResult.ok();
+        }).bind(Person::getFirstName, Person::setFirstName);
+        binder.forField(ageField).withConverter(stringToInteger)
+                .withValidator((value, context) -> {
+                    ageValidations.incrementAndGet();
+                    return ValidationResult.ok();
+                }).bind(Person::getAge, Person::setAge);
+        binder.setIncrementalValidation(true);
+        binder.setBean(item);
+
+        binder.validate();
+        Assert.assertEquals(1, nameValidations.get());
+        Assert.assertEquals(1, ageValidations.get());
+
+        nameField.setValue("Foo");
+        int ageCount = ageValidations.get();
+        binder.validate();
+        Assert.assertEquals(ageCount, ageValidations.get());
+
+        binder.setIncrementalValidation(false);
+        binder.validate();
+        Assert.assertEquals(ageCount + 1, ageValidations.get());
+    }
+
+    @Test
+    public void incrementalValidation_beanValidatorRunsOnlyWhenDependencyChanges() {
+        AtomicInteger nameValidations = new AtomicInteger();
+        AtomicInteger beanValidations = new AtomicInteger();
+        binder = new Binder<>(Person.class);
+        binder.forField(nameField).bind("firstName");
+        binder.forField(ageField).withConverter(stringToInteger).bind("age");
+        binder.withValidator((person, context) -> {
+            nameValidations.incrementAndGet();
+            return person.getFirstName().isEmpty()
+                    ? ValidationResult.error("empty")
+                    : ValidationResult.ok();
+        }, "firstName");
+        binder.withValidator((person, context) -> {
+            beanValidations.incrementAndGet();
+            return ValidationResult.ok();
+        });
+        binder.setIncrementalValidation(true);
+        binder.setBean(item);
+
+        Assert.assertTrue(binder.validate().isOk());
+        Assert.assertEquals(1, nameValidations.get());
+
+        ageField.setValue("42");
+        int beanCount = beanValidations.get();
+        Assert.assertTrue(binder.validate().isOk());
+        Assert.assertEquals(1, nameValidations.get());
+        Assert.assertEquals(beanCount + 1, beanValidations.get());
+
+        nameField.setValue("");
+        Assert.assertFalse(binder.validate().isOk());
+        Assert.assertTrue(nameValidations.get() > 1);
+    }
+
     private void assertVisible(Label label, boolean visible) {
         if (visible) {
             Assert.assertNull(label.getStyle().get("display"));
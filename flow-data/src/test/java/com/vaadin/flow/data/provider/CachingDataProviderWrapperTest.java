@@ -0,0 +1,238 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.shared.Registration;
+
+public class CachingDataProviderWrapperTest {
+
+    private final List<String> fetches = new ArrayList<>();
+    private int sizeQueries;
+    private int backEndListeners;
+    private List<String> items;
+    private CachingDataProviderWrapper<String, String> provider;
+    private DataProvider<String, String> backEnd;
+
+    @Before
+    public void setUp() {
+        items = IntStream.range(0, 25).mapToObj(Integer::toString)
+                .collect(Collectors.toCollection(ArrayList::new));
+        backEnd = new CallbackDataProvider<String, String>(query -> {
+            fetches.add(query.getOffset() + "+" + query.getLimit() + ":"
+                    + query.getFilter().orElse(""));
+            return filtered(query).skip(query.getOffset())
+                    .limit(query.getLimit());
+        }, query -> {
+            sizeQueries++;
+            return (int) filtered(query).count();
+        }) {
+            @Override
+            public Registration addDataProviderListener(
+                    DataProviderListener<String> listener) {
+                backEndListeners++;
+                Registration registration = super.addDataProviderListener(
+                        listener);
+                return () -> {
+                    backEndListeners--;
+                    registration.remove();
+                };
+            }
+        };
+        provider = new CachingDataProviderWrapper<>(backEnd, 10, 2);
+    }
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void fetch_queriesAlignedToPages() {
+        Assert.assertEquals(Arrays.asList("5", "6", "7", "8", "9", "10", "11"),
+                fetch(5, 7, null));
+        Assert.assertEquals(Arrays.asList("0+10:", "10+10:"), fetches);
+    }
+
+    @Test
+    public void fetch_cachedPageNotFetchedAgain() {
+        fetch(0, 5, null);
+        fetch(5, 5, null);
+        Assert.assertEquals(Collections.singletonList("0+10:"), fetches);
+    }
+
+    @Test
+    public void fetch_endOfData_partialPageReturned() {
+        Assert.assertEquals(Arrays.asList("23", "24"), fetch(23, 10, null));
+        Assert.assertEquals(Arrays.asList("20+10:"), fetches);
+    }
+
+    @Test
+    public void fetch_pagesCachedPerFilter() {
+        fetch(0, 5, null);
+        fetch(0, 5, "1");
+        fetch(0, 5, null);
+        Assert.assertEquals(Arrays.asList("0+10:", "0+10:1"), fetches);
+    }
+
+    @Test
+    public void fetch_leastRecentlyUsedPageEvicted() {
+        fetch(0, 1, null);
+        fetch(10, 1, null);
+        fetch(20, 1, null);
+        fetch(0, 1, null);
+        Assert.assertEquals(
+                Arrays.asList("0+10:", "10+10:", "20+10:", "0+10:"), fetches);
+    }
+
+    @Test
+    public void size_cachedUntilRefreshAll() {
+        Assert.assertEquals(25, provider.size(new Query<>()));
+        Assert.assertEquals(25, provider.size(new Query<>()));
+        Assert.assertEquals(1, sizeQueries);
+
+        items.add("25");
+        provider.refreshAll();
+        Assert.assertEquals(26, provider.size(new Query<>()));
+        Assert.assertEquals(2, sizeQueries);
+    }
+
+    @Test
+    public void refreshAll_cacheCleared() {
+        fetch(0, 5, null);
+        items.set(0, "foo");
+        backEnd.refreshAll();
+
+        Assert.assertEquals("foo", fetch(0, 1, null).get(0));
+        Assert.assertEquals(2, fetches.size());
+    }
+
+    @Test
+    public void refreshItem_cachedInstanceReplaced() {
+        fetch(0, 5, null);
+        String refreshed = new String("3");
+        backEnd.refreshItem(refreshed);
+
+        Assert.assertSame(refreshed, fetch(0, 5, null).get(3));
+        Assert.assertEquals(1, fetches.size());
+    }
+
+    @Test
+    public void lastListenerRemoved_stopsListeningAndClearsCache() {
+        Assert.assertEquals(0, backEndListeners);
+
+        Registration first = provider.addDataProviderListener(event -> {
+        });
+        Registration second = provider.addDataProviderListener(event -> {
+        });
+        fetch(0, 5, null);
+        Assert.assertEquals(3, backEndListeners);
+
+        first.remove();
+        first.remove();
+        Assert.assertEquals(2, backEndListeners);
+        fetch(0, 5, null);
+        Assert.assertEquals(1, fetches.size());
+
+        second.remove();
+        Assert.assertEquals(0, backEndListeners);
+
+        fetch(0, 5, null);
+        Assert.assertEquals(2, fetches.size());
+        Assert.assertEquals("Listening again when data is cached", 1,
+                backEndListeners);
+    }
+
+    @Test
+    public void prefetch_nextPageFetchedInBackground() {
+        VaadinService service = Mockito.mock(VaadinService.class);
+        Mockito.when(service.getExecutor())
+                .thenReturn(new DirectExecutorService());
+        VaadinService.setCurrent(service);
+
+        fetch(0, 5, null);
+        Assert.assertEquals(Arrays.asList("0+10:", "10+10:"), fetches);
+
+        fetch(10, 5, null);
+        Assert.assertEquals(Arrays.asList("0+10:", "10+10:", "20+10:"),
+                fetches);
+
+        fetch(20, 5, null);
+        Assert.assertEquals(3, fetches.size());
+    }
+
+    private List<String> fetch(int offset, int limit, String filter) {
+        return provider
+                .fetch(new Query<>(offset, limit, Collections.emptyList(),
+                        null, filter))
+                .collect(Collectors.toList());
+    }
+
+    private Stream<String> filtered(
+            Query<String, String> query) {
+        return items.stream()
+                .filter(item -> item.contains(query.getFilter().orElse("")));
+    }
+
+    private static class DirectExecutorService
+            extends AbstractExecutorService {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
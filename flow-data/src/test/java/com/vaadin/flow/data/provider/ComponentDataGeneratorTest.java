@@ -0,0 +1,107 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.html.Label;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.dom.Element;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class ComponentDataGeneratorTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private ComponentRenderer<Label, String> renderer;
+    private ComponentDataGenerator<String> generator;
+    private Element container;
+
+    @Before
+    public void setUp() {
+        renderer = new ComponentRenderer<>(item -> {
+            created.incrementAndGet();
+            return new Label(item);
+        }, (component, item) -> {
+            component.setText(item);
+            return component;
+        });
+        generator = new ComponentDataGenerator<>(renderer, item -> item);
+        container = new Element("div");
+        generator.setContainer(container);
+        generator.setNodeIdPropertyName("nodeId");
+    }
+
+    @Test
+    public void recyclingDisabled_destroyedComponentRemoved() {
+        Component component = generate("foo");
+        generator.destroyData("foo");
+        Assert.assertEquals(0, container.getChildCount());
+
+        Assert.assertNotSame(component, generate("bar"));
+        Assert.assertEquals(2, created.get());
+    }
+
+    @Test
+    public void recyclingEnabled_destroyedComponentReused() {
+        renderer.setRecyclingPoolSize(1);
+
+        Component component = generate("foo");
+        generator.destroyData("foo");
+        Assert.assertEquals(1, container.getChildCount());
+
+        Assert.assertSame(component, generate("bar"));
+        Assert.assertEquals(1, created.get());
+        Assert.assertEquals(1, container.getChildCount());
+        Assert.assertEquals("bar", container.getChild(0).getText());
+    }
+
+    @Test
+    public void recyclingEnabled_poolIsBounded() {
+        renderer.setRecyclingPoolSize(1);
+
+        generate("foo");
+        generate("bar");
+        generator.destroyData("foo");
+        generator.destroyData("bar");
+        Assert.assertEquals(1, container.getChildCount());
+
+        generator.destroyAllData();
+        Assert.assertEquals(0, container.getChildCount());
+    }
+
+    @Test
+    public void refreshData_componentUpdated() {
+        Component component = generate("foo");
+        generator.refreshData("foo");
+
+        Assert.assertSame(component, generate("foo"));
+        Assert.assertEquals(1, created.get());
+    }
+
+    private Component generate(String item) {
+        JsonObject json = Json.createObject();
+        generator.generateData(item, json);
+        Assert.assertTrue(json.hasKey("nodeId"));
+        return generator.getRenderedComponent(item);
+    }
+}
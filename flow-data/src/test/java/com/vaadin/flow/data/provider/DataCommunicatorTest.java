@@ -15,12 +15,22 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,11 +40,16 @@ import org.mockito.MockitoAnnotations;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.Range;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
 
+import elemental.json.JsonObject;
 import elemental.json.JsonValue;
 
 public class DataCommunicatorTest {
@@ -54,6 +69,12 @@ public class DataCommunicatorTest {
     public Range lastClear = null;
     public Range lastSet = null;
     public int lastUpdateId = -1;
+    public int lastSize = -1;
+    public boolean lastSizeEstimate;
+    public int sizeQueries;
+    public List<String> refreshedItems = new ArrayList<>();
+    public boolean runningBackgroundTasks;
+    public int foregroundQueries;
 
     @Before
     public void init() {
@@ -65,6 +86,8 @@ public class DataCommunicatorTest {
         lastClear = null;
         lastSet = null;
         lastUpdateId = -1;
+        lastSize = -1;
+        sizeQueries = 0;
 
         update = new ArrayUpdater.Update() {
 
@@ -86,12 +109,23 @@ public class DataCommunicatorTest {
 
         Mockito.when(arrayUpdater.startUpdate(Mockito.anyInt()))
                 .thenReturn(update);
+        Mockito.when(arrayUpdater.startUpdate(Mockito.anyInt(),
+                Mockito.anyBoolean())).thenAnswer(invocation -> {
+                    lastSize = (Integer) invocation.getArguments()[0];
+                    lastSizeEstimate = (Boolean) invocation.getArguments()[1];
+                    return update;
+                });
 
         dataCommunicator = new DataCommunicator<>(dataGenerator, arrayUpdater,
                 data -> {
                 }, element.getNode());
     }
 
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
     @Test
     public void communicator_with_0_items_should_not_refresh_all() {
         dataCommunicator.setRequestedRange(0, 0);
@@ -185,6 +219,342 @@ public class DataCommunicatorTest {
                 dataCommunicator.getKeyMapper().get("1"));
     }
 
+    @Test
+    public void undefinedSize_sizeEstimatedWithoutCountQuery() {
+        dataCommunicator.setDefinedSize(false);
+        dataCommunicator.setDataProvider(createDataProvider(1000), null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(0, sizeQueries);
+        Assert.assertEquals(200, lastSize);
+        Assert.assertTrue(lastSizeEstimate);
+        Assert.assertEquals(Range.withLength(0, 50), lastSet);
+    }
+
+    @Test
+    public void undefinedSize_requestAtEnd_estimateGrows() {
+        dataCommunicator.setDefinedSize(false);
+        dataCommunicator.setSizeEstimateIncrease(100);
+        dataCommunicator.setDataProvider(createDataProvider(1000), null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        dataCommunicator.setRequestedRange(150, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(0, sizeQueries);
+        Assert.assertEquals(300, lastSize);
+        Assert.assertTrue(lastSizeEstimate);
+        Assert.assertEquals(Range.withLength(150, 50), lastSet);
+    }
+
+    @Test
+    public void undefinedSize_endOfDataFetched_exactSizeKnown() {
+        dataCommunicator.setDefinedSize(false);
+        dataCommunicator.setDataProvider(createDataProvider(120), null);
+        dataCommunicator.setRequestedRange(100, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(0, sizeQueries);
+        Assert.assertEquals(120, lastSize);
+        Assert.assertFalse(lastSizeEstimate);
+        Assert.assertEquals(Range.withLength(100, 20), lastSet);
+    }
+
+    @Test
+    public void undefinedSize_requestExactSize_countQueried() {
+        dataCommunicator.setDefinedSize(false);
+        dataCommunicator.setDataProvider(createDataProvider(1000), null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        dataCommunicator.requestExactSize();
+        fakeClientCommunication();
+
+        Assert.assertEquals(1, sizeQueries);
+        Assert.assertEquals(1000, lastSize);
+        Assert.assertFalse(dataCommunicator.isSizeEstimated());
+
+        dataCommunicator.reset();
+        fakeClientCommunication();
+        Assert.assertEquals(1, sizeQueries);
+        Assert.assertTrue(dataCommunicator.isSizeEstimated());
+    }
+
+    @Test
+    public void definedSize_countQueriedOnReset() {
+        dataCommunicator.setDataProvider(createDataProvider(1000), null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(1, sizeQueries);
+        Assert.assertEquals(1000, lastSize);
+        Assert.assertFalse(lastSizeEstimate);
+    }
+
+    @Test
+    public void asyncFetch_dataSentAfterBackgroundFetch() {
+        List<Runnable> tasks = setUpAsyncFetch();
+        dataCommunicator.setDataProvider(createDataProvider(100), null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        Assert.assertNull(lastSet);
+        Assert.assertEquals("Size and items should be fetched concurrently",
+                2, tasks.size());
+
+        runAll(tasks);
+        fakeClientCommunication();
+
+        Assert.assertEquals(Range.withLength(0, 50), lastSet);
+        Assert.assertEquals(100, lastSize);
+        Assert.assertEquals(1, sizeQueries);
+
+        lastSet = null;
+        dataCommunicator.confirmUpdate(lastUpdateId);
+        fakeClientCommunication();
+        Assert.assertTrue("No fetch needed for confirmation",
+                tasks.isEmpty());
+    }
+
+    @Test
+    public void asyncFetch_requestedRangeChanged_staleResultDiscarded() {
+        List<Runnable> tasks = setUpAsyncFetch();
+        dataCommunicator.setDataProvider(createDataProvider(100), null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        dataCommunicator.setRequestedRange(10, 50);
+        runAll(tasks);
+        fakeClientCommunication();
+
+        Assert.assertNull(lastSet);
+        Assert.assertEquals(2, tasks.size());
+
+        runAll(tasks);
+        fakeClientCommunication();
+        Assert.assertEquals(Range.withLength(10, 50), lastSet);
+    }
+
+    @Test
+    public void asyncFetch_stateChangedWhileFetching_queriesUseStartState() {
+        List<Runnable> tasks = setUpAsyncFetch();
+        List<Object> filters = new ArrayList<>();
+        AbstractDataProvider<String, Object> provider = createDataProvider(
+                100);
+        SerializableConsumer<Object> filterSetter = dataCommunicator
+                .setDataProvider(new AbstractDataProvider<String, Object>() {
+                    @Override
+                    public boolean isInMemory() {
+                        return false;
+                    }
+
+                    @Override
+                    public int size(Query<String, Object> query) {
+                        filters.add(query.getFilter().orElse(null));
+                        return provider.size(query);
+                    }
+
+                    @Override
+                    public Stream<String> fetch(Query<String, Object> query) {
+                        filters.add(query.getFilter().orElse(null));
+                        return provider.fetch(query);
+                    }
+                }, "initial");
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+        Assert.assertEquals(2, tasks.size());
+
+        filterSetter.accept("changed");
+        dataCommunicator.setDataProvider(createDataProvider(10), null);
+        runAll(tasks);
+
+        Assert.assertEquals(Arrays.asList("initial", "initial"), filters);
+    }
+
+    @Test
+    public void incrementalRefresh_onlyChangedItemsSent() {
+        Map<String, String> values = new HashMap<>();
+        setUpIncrementalRefresh(values);
+
+        values.put("3", "changed");
+        dataCommunicator.getDataProvider().refreshAll();
+        fakeClientCommunication();
+
+        Assert.assertEquals(Range.withLength(3, 1), lastSet);
+        Assert.assertNull(lastClear);
+        Assert.assertEquals(Collections.singletonList("3"), refreshedItems);
+    }
+
+    @Test
+    public void incrementalRefresh_noChanges_nothingSent() {
+        setUpIncrementalRefresh(new HashMap<>());
+        int updateId = lastUpdateId;
+
+        dataCommunicator.getDataProvider().refreshAll();
+        fakeClientCommunication();
+
+        Assert.assertNull(lastSet);
+        Assert.assertEquals(updateId, lastUpdateId);
+        Assert.assertTrue("Unchanged items should not be refreshed",
+                refreshedItems.isEmpty());
+    }
+
+    @Test
+    public void incrementalRefresh_sizeChanged_allItemsResent() {
+        List<String> ids = setUpIncrementalRefresh(new HashMap<>());
+
+        ids.add(0, "new");
+        dataCommunicator.getDataProvider().refreshAll();
+        fakeClientCommunication();
+
+        Assert.assertEquals(Range.withLength(0, 10), lastClear);
+        Assert.assertEquals(Range.withLength(0, 11), lastSet);
+        Assert.assertEquals(11, lastSize);
+    }
+
+    @Test
+    public void asyncFetch_incrementalRefresh_providerOnlyQueriedInBackground() {
+        List<Runnable> tasks = setUpAsyncFetch();
+        Map<String, String> values = new HashMap<>();
+        setUpIncrementalRefresh(values);
+        dataCommunicator.setAsyncFetch(true);
+        // Ignore the fetch of the communicator replaced by the setup
+        tasks.clear();
+        foregroundQueries = 0;
+
+        values.put("3", "changed");
+        dataCommunicator.getDataProvider().refreshAll();
+        fakeClientCommunication();
+
+        Assert.assertNull(lastSet);
+        Assert.assertEquals("Size and items should be fetched concurrently",
+                2, tasks.size());
+
+        runAll(tasks);
+        fakeClientCommunication();
+
+        Assert.assertEquals(Range.withLength(3, 1), lastSet);
+        Assert.assertNull(lastClear);
+        Assert.assertEquals(Collections.singletonList("3"), refreshedItems);
+        Assert.assertEquals(
+                "The provider should not be queried while the session is locked",
+                0, foregroundQueries);
+    }
+
+    private List<String> setUpIncrementalRefresh(Map<String, String> values) {
+        List<String> ids = IntStream.range(0, 10).mapToObj(Integer::toString)
+                .collect(Collectors.toCollection(ArrayList::new));
+        // Refreshing an item changes its generated data like a recreated
+        // component changes the node id of a row
+        Map<String, Integer> refreshCounts = new HashMap<>();
+        dataCommunicator = new DataCommunicator<>(new DataGenerator<String>() {
+            @Override
+            public void generateData(String item, JsonObject json) {
+                json.put("value", values.getOrDefault(item, item));
+                json.put("refreshCount", refreshCounts.getOrDefault(item, 0));
+            }
+
+            @Override
+            public void refreshData(String item) {
+                refreshedItems.add(item);
+                refreshCounts.merge(item, 1, Integer::sum);
+            }
+        }, arrayUpdater, data -> {
+        }, element.getNode());
+        dataCommunicator.setIncrementalRefresh(true);
+        dataCommunicator.setDataProvider(
+                DataProvider.fromCallbacks(query -> {
+                    countForegroundQuery();
+                    return ids.stream().skip(query.getOffset())
+                            .limit(query.getLimit());
+                }, query -> {
+                    countForegroundQuery();
+                    return ids.size();
+                }),
+                null);
+        dataCommunicator.setRequestedRange(0, 20);
+        fakeClientCommunication();
+
+        Assert.assertEquals(Range.withLength(0, 10), lastSet);
+        lastSet = null;
+        lastClear = null;
+        return ids;
+    }
+
+    private void countForegroundQuery() {
+        if (!runningBackgroundTasks) {
+            foregroundQueries++;
+        }
+    }
+
+    private List<Runnable> setUpAsyncFetch() {
+        List<Runnable> tasks = new ArrayList<>();
+        VaadinService service = Mockito.mock(VaadinService.class);
+        Mockito.when(service.getExecutor())
+                .thenReturn(new AbstractExecutorService() {
+                    @Override
+                    public void execute(Runnable command) {
+                        tasks.add(command);
+                    }
+
+                    @Override
+                    public void shutdown() {
+                    }
+
+                    @Override
+                    public List<Runnable> shutdownNow() {
+                        return Collections.emptyList();
+                    }
+
+                    @Override
+                    public boolean isShutdown() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isTerminated() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean awaitTermination(long timeout,
+                            TimeUnit unit) {
+                        return true;
+                    }
+                });
+        Mockito.when(service.getMetrics()).thenReturn(ServiceMetrics.NO_OP);
+
+        VaadinSession session = new AlwaysLockedVaadinSession(service) {
+            @Override
+            public Future<Void> access(Command command) {
+                command.execute();
+                return null;
+            }
+        };
+        VaadinSession.setCurrent(session);
+        ui = new MockUI(session);
+        element = new Element("div");
+        ui.getElement().appendChild(element);
+        dataCommunicator = new DataCommunicator<>(dataGenerator, arrayUpdater,
+                data -> {
+                }, element.getNode());
+        dataCommunicator.setAsyncFetch(true);
+        return tasks;
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        runningBackgroundTasks = true;
+        try {
+            toRun.forEach(Runnable::run);
+        } finally {
+            runningBackgroundTasks = false;
+        }
+    }
+
     private void fakeClientCommunication() {
         ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
         ui.getInternals().getStateTree().collectChanges(ignore -> {
@@ -213,6 +583,30 @@ public class DataCommunicatorTest {
         };
     }
 
+    private AbstractDataProvider<String, Object> createDataProvider(
+            int size) {
+        return new AbstractDataProvider<String, Object>() {
+            @Override
+            public boolean isInMemory() {
+                return false;
+            }
+
+            @Override
+            public int size(Query<String, Object> query) {
+                sizeQueries++;
+                return size;
+            }
+
+            @Override
+            public Stream<String> fetch(Query<String, Object> query) {
+                return IntStream
+                        .range(query.getOffset(), Math.min(size,
+                                query.getLimit() + query.getOffset()))
+                        .mapToObj(Integer::toString);
+            }
+        };
+    }
+
     public static class MockUI extends UI {
 
         public MockUI() {
@@ -79,6 +79,11 @@ public class BeanValidatorTest extends ValidatorTestBase {
         assertPasses(null, validator("nickname"));
     }
 
+    @Test
+    public void testUnconstrainedPropertyPasses() {
+        assertPasses("anything", validator("writeOnlyProperty"));
+    }
+
     @After
     public void tearDown() {
         UI.setCurrent(null);
@@ -83,6 +83,19 @@ public abstract class ClassPathIntrospector {
                 annotatedByRepeatedAnnotation.stream());
     }
 
+    /**
+     * Gets the classes extending or implementing the given
+     * {@code typeInProjectContext} type.
+     *
+     * @param typeInProjectContext
+     *            the type loaded in the project class loader
+     * @return all subtypes of the given type
+     */
+    protected Stream<Class<?>> getSubtypes(Class<?> typeInProjectContext) {
+        return reflections.getSubTypesOf(typeInProjectContext).stream()
+                .map(type -> (Class<?>) type);
+    }
+
     /**
      * Returns the annotation class by its FQN.
      * <p>
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * Stores the hashes of the inputs of the frontend build steps, so that a step
+ * can be skipped when its inputs have not changed since the previous build.
+ * <p>
+ * The hashes are stored as a JSON object in a file that is read and written on
+ * each access, so that the same file can be shared by different goals.
+ *
+ * @author Vaadin Ltd.
+ */
+public class FrontendBuildCache {
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(FrontendBuildCache.class);
+
+    private final File cacheFile;
+
+    /**
+     * Creates a cache that stores the hashes in the given file.
+     *
+     * @param cacheFile
+     *            the file to store the hashes in, not {@code null}
+     */
+    public FrontendBuildCache(File cacheFile) {
+        this.cacheFile = Objects.requireNonNull(cacheFile);
+    }
+
+    /**
+     * Checks whether the given hash matches the hash stored for the step.
+     *
+     * @param step
+     *            the name of the build step, not {@code null}
+     * @param inputHash
+     *            the hash of the current inputs of the step, not {@code null}
+     * @return {@code true} if the inputs have not changed since the hash was
+     *         stored, {@code false} otherwise
+     */
+    public synchronized boolean isUpToDate(String step, String inputHash) {
+        JsonObject hashes = readHashes();
+        return hashes.hasKey(step)
+                && inputHash.equals(hashes.getString(step));
+    }
+
+    /**
+     * Stores the hash of the inputs of a successfully completed step.
+     *
+     * @param step
+     *            the name of the build step, not {@code null}
+     * @param inputHash
+     *            the hash of the inputs of the step, not {@code null}
+     */
+    public synchronized void update(String step, String inputHash) {
+        JsonObject hashes = readHashes();
+        hashes.put(step, inputHash);
+        try {
+            FileUtils.write(cacheFile, hashes.toJson(),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(
+                    "Failed to write build cache file '%s'", cacheFile), e);
+        }
+    }
+
+    /**
+     * Removes the stored hash of a step, so that the step is run on the next
+     * build.
+     *
+     * @param step
+     *            the name of the build step, not {@code null}
+     */
+    public synchronized void invalidate(String step) {
+        JsonObject hashes = readHashes();
+        if (hashes.hasKey(step)) {
+            hashes.remove(step);
+            try {
+                FileUtils.write(cacheFile, hashes.toJson(),
+                        StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(String.format(
+                        "Failed to write build cache file '%s'", cacheFile),
+                        e);
+            }
+        }
+    }
+
+    private JsonObject readHashes() {
+        if (!cacheFile.isFile()) {
+            return Json.createObject();
+        }
+        try {
+            return Json.parse(FileUtils.readFileToString(cacheFile,
+                    StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring unreadable build cache file '{}'",
+                    cacheFile, e);
+            return Json.createObject();
+        }
+    }
+
+    /**
+     * Creates a new hasher for computing an input hash.
+     *
+     * @return a new hasher
+     */
+    public static Hasher hasher() {
+        return new Hasher();
+    }
+
+    /**
+     * Computes a hash over strings, files and directory trees.
+     */
+    public static final class Hasher {
+        private final MessageDigest digest;
+
+        private Hasher() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(
+                        "SHA-256 is not supported by the JVM", e);
+            }
+        }
+
+        /**
+         * Adds a string to the hash.
+         *
+         * @param value
+         *            the string to add, {@code null} is hashed differently
+         *            from any string
+         * @return this hasher
+         */
+        public Hasher add(String value) {
+            if (value == null) {
+                // No string has a negative length
+                addLength(-1);
+                return this;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            addLength(bytes.length);
+            digest.update(bytes);
+            return this;
+        }
+
+        /**
+         * Adds the contents of a file or, for a directory, the relative paths
+         * and contents of all files in it to the hash. A missing file is
+         * hashed as such.
+         *
+         * @param fileOrDirectory
+         *            the file or directory to add, not {@code null}
+         * @return this hasher
+         */
+        public Hasher addContents(File fileOrDirectory) {
+            Path root = fileOrDirectory.toPath();
+            if (fileOrDirectory.isFile()) {
+                addFile(root);
+            } else if (fileOrDirectory.isDirectory()) {
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(root)) {
+                    files = walk.filter(Files::isRegularFile).sorted()
+                            .collect(Collectors.toList());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(String.format(
+                            "Failed to list files in '%s'", fileOrDirectory),
+                            e);
+                }
+                add(String.valueOf(files.size()));
+                for (Path file : files) {
+                    add(root.relativize(file).toString().replace('\\', '/'));
+                    addFile(file);
+                }
+            } else {
+                add("<missing>");
+            }
+            return this;
+        }
+
+        /**
+         * Adds the path, size and modification time of a file to the hash,
+         * which is sufficient for files that are not modified in place, such
+         * as dependency jars.
+         *
+         * @param file
+         *            the file to add, not {@code null}
+         * @return this hasher
+         */
+        public Hasher addMetadata(File file) {
+            return add(file.getAbsolutePath())
+                    .add(String.valueOf(file.length()))
+                    .add(String.valueOf(file.lastModified()));
+        }
+
+        /**
+         * Gets the hash of the added values as a hex string.
+         *
+         * @return the hash
+         */
+        public String hash() {
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest()) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        }
+
+        private void addFile(Path file) {
+            try {
+                byte[] contents = Files.readAllBytes(file);
+                addLength(contents.length);
+                digest.update(contents);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        String.format("Failed to read file '%s'", file), e);
+            }
+        }
+
+        private void addLength(int length) {
+            digest.update(new byte[] { (byte) (length >>> 24),
+                    (byte) (length >>> 16), (byte) (length >>> 8),
+                    (byte) length });
+        }
+    }
+}
@@ -54,7 +54,8 @@ public class FrontendDataProvider {
     private final Set<File> shellFileImports;
 
     /**
-     * Creates the data provider.
+     * Creates the data provider without automatically created route
+     * fragments.
      *
      * @param shouldBundle
      *            whether bundling data should be prepared
@@ -79,16 +80,63 @@ public class FrontendDataProvider {
             AnnotationValuesExtractor annotationValuesExtractor,
             File fragmentConfigurationFile,
             Map<String, Set<String>> userDefinedFragments) {
+        this(shouldBundle, shouldMinify, shouldHash, false,
+                es6SourceDirectory, annotationValuesExtractor,
+                fragmentConfigurationFile, userDefinedFragments);
+    }
+
+    /**
+     * Creates the data provider.
+     *
+     * @param shouldBundle
+     *            whether bundling data should be prepared
+     * @param shouldMinify
+     *            whether the output files should be minified
+     * @param shouldHash
+     *            whether the output file names should containt a fingerprint
+     * @param shouldGenerateRouteFragments
+     *            whether a fragment should be created automatically for each
+     *            route, if bundling is enabled
+     * @param es6SourceDirectory
+     *            the directory with original ES6 files, not {@code null}
+     * @param annotationValuesExtractor
+     *            extractor for getting all required values from project to
+     *            prepare its resources properly, not {@code null}
+     * @param fragmentConfigurationFile
+     *            path to external configuration file with fragments, may be
+     *            {@code null}
+     * @param userDefinedFragments
+     *            another list of fragments, if user preferred to specify them
+     *            without external configuration file, not {@code null}
+     */
+    public FrontendDataProvider(boolean shouldBundle, boolean shouldMinify,
+            boolean shouldHash, boolean shouldGenerateRouteFragments,
+            File es6SourceDirectory,
+            AnnotationValuesExtractor annotationValuesExtractor,
+            File fragmentConfigurationFile,
+            Map<String, Set<String>> userDefinedFragments) {
         this.shouldBundle = shouldBundle;
         this.shouldMinify = shouldMinify;
         this.shouldHash = shouldHash;
-        fragments = shouldBundle
-                ? resolveFragmentFiles(es6SourceDirectory,
-                        fragmentConfigurationFile, userDefinedFragments)
-                : Collections.emptyMap();
+        ThemedURLTranslator translator = getTranslator(es6SourceDirectory,
+                annotationValuesExtractor);
+        if (shouldBundle) {
+            Map<String, Set<File>> resolvedFragments = resolveFragmentFiles(
+                    es6SourceDirectory, fragmentConfigurationFile,
+                    userDefinedFragments);
+            if (shouldGenerateRouteFragments) {
+                resolvedFragments = addRouteFragmentFiles(resolvedFragments,
+                        es6SourceDirectory, getRouteFragments(
+                                annotationValuesExtractor, translator));
+            }
+            fragments = resolvedFragments;
+        } else {
+            fragments = Collections.emptyMap();
+        }
         shellFileImports = resolveShellFileImports(es6SourceDirectory,
-                annotationValuesExtractor, fragments.values().stream()
-                        .flatMap(Set::stream).collect(Collectors.toSet()));
+                annotationValuesExtractor, translator,
+                fragments.values().stream().flatMap(Set::stream)
+                        .collect(Collectors.toSet()));
     }
 
     /**
@@ -179,6 +227,45 @@ public class FrontendDataProvider {
                 introspector);
     }
 
+    /**
+     * Gets the fragments to create automatically for the routes of the
+     * project.
+     *
+     * @param introspector
+     *            the introspector whose classpath will be used to find the
+     *            routes
+     * @param translator
+     *            the translator for applying the application theme to the
+     *            HTML imports
+     * @return map from fragment names to the imports of the fragments
+     */
+    protected Map<String, Set<String>> getRouteFragments(
+            ClassPathIntrospector introspector,
+            ThemedURLTranslator translator) {
+        return new RouteFragmentResolver(introspector)
+                .resolveRouteFragments(translator::applyTheme);
+    }
+
+    private Map<String, Set<File>> addRouteFragmentFiles(
+            Map<String, Set<File>> configuredFragments,
+            File es6SourceDirectory, Map<String, Set<String>> routeFragments) {
+        Set<File> configuredFiles = configuredFragments.values().stream()
+                .flatMap(Set::stream).collect(Collectors.toSet());
+        Map<String, Set<File>> result = new HashMap<>(configuredFragments);
+        routeFragments.forEach((fragmentName, fragmentPaths) -> {
+            Set<File> files = fragmentPaths.stream()
+                    .map(this::removeFlowPrefixes)
+                    .map(fragmentPath -> getFileFromSourceDirectory(
+                            es6SourceDirectory, fragmentPath))
+                    .filter(file -> !configuredFiles.contains(file))
+                    .collect(Collectors.toSet());
+            if (!files.isEmpty() && !result.containsKey(fragmentName)) {
+                result.put(fragmentName, files);
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
     private Map<String, Set<File>> resolveFragmentFiles(File es6SourceDirectory,
             File fragmentConfigurationFile,
             Map<String, Set<String>> userFragments) {
@@ -227,7 +314,7 @@ public class FrontendDataProvider {
 
     private Set<File> resolveShellFileImports(File es6SourceDirectory,
             AnnotationValuesExtractor annotationValuesExtractor,
-            Set<File> fragmentFiles) {
+            ThemedURLTranslator translator, Set<File> fragmentFiles) {
         Map<Class<? extends Annotation>, Set<String>> annotationValues = annotationValuesExtractor
                 .extractAnnotationValues(ImmutableMap.of(StyleSheet.class,
                         ThemedURLTranslator.VALUE, JavaScript.class,
@@ -242,8 +329,7 @@ public class FrontendDataProvider {
                 : htmlImports.iterator().next();
 
         annotationValues.put(HtmlImport.class,
-                getTranslator(es6SourceDirectory, annotationValuesExtractor)
-                        .applyTheme(htmlImportUrls));
+                translator.applyTheme(htmlImportUrls));
 
         return annotationValues.values().stream().flatMap(Collection::stream)
                 .map(this::removeFlowPrefixes)
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -55,12 +56,15 @@ import org.slf4j.LoggerFactory;
  */
 public class FrontendToolsManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(FrontendToolsManager.class);
+    private static final String BUILD_CACHE_FILE_NAME = "flow-build-cache.json";
+    private static final String TRANSFORM_CACHE_DIRECTORY_NAME = "flow-transform-cache";
 
     private final FrontendPluginFactory factory;
     private final File workingDirectory;
     private final String es5OutputDirectoryName;
     private final String es6OutputDirectoryName;
     private final FrontendDataProvider frontendDataProvider;
+    private final FrontendBuildCache buildCache;
 
     /**
      * Prepares the manager.
@@ -77,6 +81,7 @@ public class FrontendToolsManager {
         this.es5OutputDirectoryName = Objects.requireNonNull(es5OutputDirectoryName);
         this.es6OutputDirectoryName = Objects.requireNonNull(es6OutputDirectoryName);
         this.frontendDataProvider = Objects.requireNonNull(frontendDataProvider);
+        this.buildCache = new FrontendBuildCache(new File(workingDirectory, BUILD_CACHE_FILE_NAME));
     }
 
     /**
@@ -101,6 +106,7 @@ public class FrontendToolsManager {
         Objects.requireNonNull(nodeVersion);
         Objects.requireNonNull(yarnVersion);
 
+        long start = System.nanoTime();
         createFileFromTemplateResource("package.json", Collections.emptyMap());
         createFileFromTemplateResource("yarn.lock", Collections.emptyMap());
         try {
@@ -117,6 +123,7 @@ public class FrontendToolsManager {
         } catch (InstallationException | TaskRunnerException e) {
             throw new IllegalStateException("Failed to install required frontend dependencies", e);
         }
+        LOGGER.info("Installed frontend tools in {} ms", elapsedMillis(start));
     }
 
     private void createFileFromTemplateResource(String templateResourceName, Map<String, String> replacements) {
@@ -161,6 +168,11 @@ public class FrontendToolsManager {
             throw new IllegalArgumentException(String.format("es6SourceDirectory '%s' is not a directory or does not exist", es6SourceDirectory));
         }
 
+        String shellFile = frontendDataProvider.createShellFile(workingDirectory);
+        Set<String> fragmentFiles = frontendDataProvider.createFragmentFiles(workingDirectory);
+        File transformCacheDirectory = new File(workingDirectory, TRANSFORM_CACHE_DIRECTORY_NAME);
+        FlowPluginFileUtils.forceMkdir(transformCacheDirectory);
+
         ImmutableMap.Builder<String, String> gulpFileParameters = new ImmutableMap.Builder<String, String>()
                 .put("{es6_source_directory}", es6SourceDirectory.getAbsolutePath())
                 .put("{target_directory}", outputDirectory.getAbsolutePath())
@@ -169,18 +181,19 @@ public class FrontendToolsManager {
                 .put("{bundle}", Boolean.toString(frontendDataProvider.shouldBundle()))
                 .put("{minify}", Boolean.toString(frontendDataProvider.shouldMinify()))
                 .put("{hash}", Boolean.toString(frontendDataProvider.shouldHash()))
-                .put("{shell_file}", frontendDataProvider.createShellFile(workingDirectory))
-                .put("{fragment_files}", combineFilePathsIntoString(frontendDataProvider.createFragmentFiles(workingDirectory)));
+                .put("{shell_file}", shellFile)
+                .put("{fragment_files}", combineFilePathsIntoString(fragmentFiles))
+                .put("{cache_directory}", transformCacheDirectory.getAbsolutePath());
         createFileFromTemplateResource("gulpfile.js", gulpFileParameters.build());
 
+        String inputHash = getInputHash(es6SourceDirectory, shellFile, fragmentFiles);
+
         Map<String, File> transpilationResults = new HashMap<>();
         try {
-            factory.getGulpRunner().execute("build_es6", Collections.emptyMap());
-            addTranspilationResult(transpilationResults, outputDirectory, es6OutputDirectoryName);
+            runGulpTask("build_es6", transpilationResults, outputDirectory, es6OutputDirectoryName, inputHash);
 
             if (!skipEs5) {
-                factory.getGulpRunner().execute("build_es5", Collections.emptyMap());
-                addTranspilationResult(transpilationResults, outputDirectory, es5OutputDirectoryName);
+                runGulpTask("build_es5", transpilationResults, outputDirectory, es5OutputDirectoryName, inputHash);
             }
         } catch (TaskRunnerException e) {
             throw new IllegalStateException("Transpilation with gulp has failed", e);
@@ -189,6 +202,36 @@ public class FrontendToolsManager {
         return transpilationResults;
     }
 
+    private String getInputHash(File es6SourceDirectory, String shellFile, Set<String> fragmentFiles) {
+        FrontendBuildCache.Hasher hasher = FrontendBuildCache.hasher()
+                .addContents(es6SourceDirectory)
+                .addContents(new File(workingDirectory, "gulpfile.js"))
+                .addContents(new File(workingDirectory, "package.json"))
+                .addContents(new File(shellFile));
+        fragmentFiles.stream().sorted().forEach(fragmentFile -> hasher.add(fragmentFile).addContents(new File(fragmentFile)));
+        return hasher.hash();
+    }
+
+    private void runGulpTask(String taskName, Map<String, File> transpilationResults, File outputDirectory, String configurationName, String inputHash) throws TaskRunnerException {
+        String step = "transpile-" + configurationName;
+        File configurationOutput = FileUtils.getFile(outputDirectory, configurationName);
+        if (configurationOutput.isDirectory() && buildCache.isUpToDate(step, inputHash)) {
+            LOGGER.info("Frontend files for '{}' have not changed since the previous build, skipping '{}'", configurationName, taskName);
+        } else {
+            // Invalidate first so that a failed build is not considered up to date
+            buildCache.invalidate(step);
+            long start = System.nanoTime();
+            factory.getGulpRunner().execute(taskName, Collections.emptyMap());
+            LOGGER.info("Gulp task '{}' completed in {} ms", taskName, elapsedMillis(start));
+        }
+        addTranspilationResult(transpilationResults, outputDirectory, configurationName);
+        buildCache.update(step, inputHash);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     private String combineFilePathsIntoString(Set<String> fragmentFiles) {
         return fragmentFiles.stream().map(fileName -> "'" + fileName + "'").collect(Collectors.joining(", "));
     }
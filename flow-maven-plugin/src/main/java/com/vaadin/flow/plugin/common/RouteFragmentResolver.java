@@ -0,0 +1,189 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.common;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.dependency.HtmlImport;
+import com.vaadin.flow.component.dependency.JavaScript;
+import com.vaadin.flow.component.dependency.StyleSheet;
+import com.vaadin.flow.component.dependency.Uses;
+import com.vaadin.flow.router.ParentLayout;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
+
+/**
+ * Computes a frontend fragment for each {@link Route} target of the project,
+ * so that the dependencies of a route are only loaded when the route is
+ * opened.
+ * <p>
+ * The dependencies of a route are the {@link HtmlImport}, {@link JavaScript}
+ * and {@link StyleSheet} values of the route target, its superclasses, its
+ * parent layouts, the components it {@link Uses} and the components in its
+ * fields, recursively. Dependencies of a single route are put into the
+ * fragment of that route, while dependencies shared by several routes are left
+ * out of all route fragments, so that they end up in the shell bundle that is
+ * loaded before any fragment.
+ *
+ * @author Vaadin Ltd.
+ */
+public class RouteFragmentResolver extends ClassPathIntrospector {
+
+    private static final String VALUE = "value";
+    private static final String LAYOUT = "layout";
+
+    private final Class<?> componentType;
+    private final Class<? extends Annotation> uses;
+    private final Class<? extends Annotation> parentLayout;
+    private final Class<? extends Annotation> route;
+    private final Class<? extends Annotation> routeAlias;
+    private final Class<? extends Annotation> htmlImport;
+    private final Class<? extends Annotation> javaScript;
+    private final Class<? extends Annotation> styleSheet;
+
+    /**
+     * Creates a new resolver using the {@code otherIntrospector}'s reflection
+     * tools.
+     *
+     * @param otherIntrospector
+     *            the introspector whose reflection tools will be reused to
+     *            find the routes and their dependencies
+     */
+    public RouteFragmentResolver(ClassPathIntrospector otherIntrospector) {
+        super(otherIntrospector);
+        componentType = loadClassInProjectClassLoader(
+                Component.class.getName());
+        uses = loadClassInProjectClassLoader(Uses.class.getName());
+        parentLayout = loadClassInProjectClassLoader(
+                ParentLayout.class.getName());
+        route = loadClassInProjectClassLoader(Route.class.getName());
+        routeAlias = loadClassInProjectClassLoader(RouteAlias.class.getName());
+        htmlImport = loadClassInProjectClassLoader(HtmlImport.class.getName());
+        javaScript = loadClassInProjectClassLoader(JavaScript.class.getName());
+        styleSheet = loadClassInProjectClassLoader(StyleSheet.class.getName());
+    }
+
+    /**
+     * Resolves the route fragments of the project.
+     *
+     * @param htmlImportTranslator
+     *            function for translating the {@link HtmlImport} URLs, e.g.
+     *            according to the application theme, not {@code null}
+     * @return map from fragment names to the import URLs that are only used by
+     *         the route of the fragment, without empty fragments
+     */
+    public Map<String, Set<String>> resolveRouteFragments(
+            Function<Set<String>, Set<String>> htmlImportTranslator) {
+        Map<Class<?>, Set<String>> routeImports = getAnnotatedClasses(route)
+                .distinct().collect(Collectors.toMap(Function.identity(),
+                        routeTarget -> getImports(routeTarget,
+                                htmlImportTranslator)));
+
+        Map<String, Integer> importUsages = new HashMap<>();
+        routeImports.values().forEach(imports -> imports
+                .forEach(url -> importUsages.merge(url, 1, Integer::sum)));
+
+        Map<String, Set<String>> fragments = new TreeMap<>();
+        routeImports.forEach((routeTarget, imports) -> {
+            Set<String> ownImports = imports.stream()
+                    .filter(url -> importUsages.get(url) == 1)
+                    .collect(Collectors.toSet());
+            if (!ownImports.isEmpty()) {
+                fragments.put(getFragmentName(routeTarget), ownImports);
+            }
+        });
+        return fragments;
+    }
+
+    private Set<String> getImports(Class<?> routeTarget,
+            Function<Set<String>, Set<String>> htmlImportTranslator) {
+        Set<String> htmlImports = new HashSet<>();
+        Set<String> otherImports = new HashSet<>();
+        for (Class<?> type : getDependencyClosure(routeTarget)) {
+            htmlImports.addAll(getAnnotationValues(type, htmlImport));
+            otherImports.addAll(getAnnotationValues(type, javaScript));
+            otherImports.addAll(getAnnotationValues(type, styleSheet));
+        }
+        Set<String> imports = new HashSet<>(
+                htmlImportTranslator.apply(htmlImports));
+        imports.addAll(otherImports);
+        return imports;
+    }
+
+    private Set<Class<?>> getDependencyClosure(Class<?> routeTarget) {
+        Set<Class<?>> closure = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(routeTarget);
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (type == null || !componentType.isAssignableFrom(type)
+                    || !closure.add(type)) {
+                continue;
+            }
+            queue.add(type.getSuperclass());
+            getAnnotationClassValues(type, uses, VALUE).forEach(queue::add);
+            getAnnotationClassValues(type, parentLayout, VALUE)
+                    .forEach(queue::add);
+            getAnnotationClassValues(type, route, LAYOUT).forEach(queue::add);
+            getAnnotationClassValues(type, routeAlias, LAYOUT)
+                    .forEach(queue::add);
+            getFieldTypes(type).forEach(queue::add);
+        }
+        return closure;
+    }
+
+    private Stream<Class<?>> getFieldTypes(Class<?> type) {
+        try {
+            return Stream.of(type.getDeclaredFields()).map(Field::getType);
+        } catch (LinkageError e) {
+            // Field types missing from the project class path can't be
+            // components with dependencies to resolve
+            return Stream.empty();
+        }
+    }
+
+    private Stream<Class<?>> getAnnotationClassValues(Class<?> type,
+            Class<? extends Annotation> annotationType, String methodName) {
+        return Stream.of(type.getAnnotationsByType(annotationType))
+                .map(annotation -> (Class<?>) doInvokeAnnotationMethod(
+                        annotation, methodName));
+    }
+
+    private Set<String> getAnnotationValues(Class<?> type,
+            Class<? extends Annotation> annotationType) {
+        return Stream.of(type.getAnnotationsByType(annotationType))
+                .map(annotation -> invokeAnnotationMethod(annotation, VALUE))
+                .collect(Collectors.toSet());
+    }
+
+    private static String getFragmentName(Class<?> routeTarget) {
+        return "route-" + routeTarget.getName().replace('.', '-')
+                .replace('$', '-').toLowerCase();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+
+import com.vaadin.flow.component.page.BodySize;
+import com.vaadin.flow.component.page.Inline;
+import com.vaadin.flow.component.page.Push;
+import com.vaadin.flow.component.page.Viewport;
+import com.vaadin.flow.router.HasErrorParameter;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
+import com.vaadin.flow.server.startup.StartupClassIndex;
+import com.vaadin.flow.theme.Theme;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Collects the classes handled by the Flow servlet container initializers
+ * from the project class path, so that they can be written into a
+ * {@link StartupClassIndex} resource instead of being scanned by the servlet
+ * container on startup.
+ *
+ * @author Vaadin Ltd.
+ */
+public class StartupClassIndexer extends ClassPathIntrospector {
+
+    /**
+     * The types handled by the Flow servlet container initializers.
+     */
+    public static final List<Class<?>> HANDLED_TYPES = Collections
+            .unmodifiableList(Arrays.asList(Route.class, RouteAlias.class,
+                    HasErrorParameter.class, Viewport.class, BodySize.class,
+                    Inline.class, Theme.class, Push.class));
+
+    /**
+     * Prepares the class to index the project classes specified.
+     *
+     * @param projectClassesLocations
+     *            urls to project class locations (directories, jars etc.)
+     */
+    public StartupClassIndexer(URL... projectClassesLocations) {
+        super(projectClassesLocations);
+    }
+
+    /**
+     * Collects the names of the classes annotated with or extending each of
+     * the {@link #HANDLED_TYPES}. A handled type that is not available in the
+     * project classes cannot be used by any of them, so its entry is empty.
+     *
+     * @return map from handled type names to sorted class names, with an entry
+     *         for each handled type
+     */
+    public Map<String, Set<String>> collectHandledClasses() {
+        return HANDLED_TYPES.stream().map(Class::getName)
+                .collect(Collectors.toMap(name -> name,
+                        this::getHandledClassNames, (first, second) -> first,
+                        TreeMap::new));
+    }
+
+    /**
+     * Writes the index of the handled classes into the given class output
+     * directory.
+     *
+     * @param classesDirectory
+     *            the directory containing the compiled project classes
+     * @return the written index file
+     */
+    public File writeIndex(File classesDirectory) {
+        JsonObject json = Json.createObject();
+        collectHandledClasses().forEach((type, classNames) -> {
+            JsonArray array = Json.createArray();
+            classNames.forEach(name -> array.set(array.length(), name));
+            json.put(type, array);
+        });
+
+        File indexFile = new File(classesDirectory,
+                StartupClassIndex.INDEX_RESOURCE);
+        try {
+            FileUtils.write(indexFile, json.toJson(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(
+                    "Failed to write the class index to '%s'", indexFile), e);
+        }
+        return indexFile;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> getHandledClassNames(String typeName) {
+        Class<?> typeInProjectContext;
+        try {
+            typeInProjectContext = loadClassInProjectClassLoader(typeName);
+        } catch (IllegalStateException e) {
+            return Collections.emptySet();
+        }
+        Stream<Class<?>> classes;
+        if (typeInProjectContext.isAnnotation()) {
+            classes = getAnnotatedClasses(
+                    (Class<? extends Annotation>) typeInProjectContext);
+        } else {
+            classes = getSubtypes(typeInProjectContext);
+        }
+        return classes.map(Class::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
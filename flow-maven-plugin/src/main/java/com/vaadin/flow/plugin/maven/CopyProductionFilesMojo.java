@@ -27,6 +27,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
 import com.vaadin.flow.plugin.common.ArtifactData;
+import com.vaadin.flow.plugin.common.FrontendBuildCache;
 import com.vaadin.flow.plugin.common.JarContentsManager;
 import com.vaadin.flow.plugin.production.ProductionModeCopyStep;
 
@@ -35,7 +36,8 @@ import com.vaadin.flow.plugin.production.ProductionModeCopyStep;
  * {@link CopyProductionFilesMojo#copyOutputDirectory} directory. Files are
  * copied from {@link CopyProductionFilesMojo#frontendWorkingDirectory}
  * directory, WebJars and regular jars, refer to {@link ProductionModeCopyStep}
- * for details.
+ * for details. The copy is skipped if its inputs have not changed since the
+ * previous build.
  */
 @Mojo(name = "copy-production-files", requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, defaultPhase = LifecyclePhase.GENERATE_RESOURCES)
 public class CopyProductionFilesMojo extends AbstractMojo {
@@ -48,6 +50,9 @@ public class CopyProductionFilesMojo extends AbstractMojo {
     @Parameter(name = "frontendWorkingDirectory", property = "frontend.working.directory", defaultValue = "${project.basedir}/src/main/webapp/frontend/", required = true)
     private File frontendWorkingDirectory;
 
+    @Parameter(name = "buildCacheFile", defaultValue = "${project.build.directory}/flow-build-cache.json", required = true)
+    private File buildCacheFile;
+
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private MavenProject project;
 
@@ -58,7 +63,8 @@ public class CopyProductionFilesMojo extends AbstractMojo {
                         artifact.getArtifactId(), artifact.getVersion()))
                 .collect(Collectors.toList());
         new ProductionModeCopyStep(new JarContentsManager(), projectArtifacts)
-                .copyWebApplicationFiles(copyOutputDirectory,
-                        frontendWorkingDirectory, excludes);
+                .copyWebApplicationFilesIfChanged(copyOutputDirectory,
+                        frontendWorkingDirectory, excludes,
+                        new FrontendBuildCache(buildCacheFile));
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.maven;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import com.vaadin.flow.plugin.common.FlowPluginFileUtils;
+import com.vaadin.flow.plugin.common.StartupClassIndexer;
+
+/**
+ * Goal that writes an index of the classes handled by the Flow servlet
+ * container initializers, such as the {@code @Route} targets, into the
+ * {@link GenerateClassIndexMojo#classesDirectory} directory. The initializers
+ * use the index instead of the classes found by the servlet container. See
+ * {@link com.vaadin.flow.server.startup.StartupClassIndex} for how to disable
+ * the class path scanning of the container.
+ * <p>
+ * The index is only used when it is in the classes of the web application,
+ * i.e. in <code>/WEB-INF/classes</code>, so the goal should be run for the
+ * application project. Indexes written into library jars are ignored.
+ * <p>
+ * The index is not updated when classes are recompiled outside of the Maven
+ * build, so the goal is meant to be run when packaging the application for
+ * production.
+ */
+@Mojo(name = "generate-class-index", requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class GenerateClassIndexMojo extends AbstractMojo {
+    @Parameter(name = "classesDirectory", defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Override
+    public void execute() {
+        File indexFile = new StartupClassIndexer(getProjectClassPathUrls())
+                .writeIndex(classesDirectory);
+        getLog().info(String.format("Wrote the class index to '%s'",
+                indexFile));
+    }
+
+    private URL[] getProjectClassPathUrls() {
+        final List<String> runtimeClasspathElements;
+        try {
+            runtimeClasspathElements = project.getRuntimeClasspathElements();
+        } catch (DependencyResolutionRequiredException e) {
+            throw new IllegalStateException(String.format(
+                    "Failed to retrieve runtime classpath elements from project '%s'",
+                    project), e);
+        }
+        return runtimeClasspathElements.stream().map(File::new)
+                .map(FlowPluginFileUtils::convertToUrl).toArray(URL[]::new);
+    }
+}
@@ -82,6 +82,9 @@ public class PackageForProductionMojo extends AbstractMojo {
     @Parameter(property = "hash", defaultValue = "true", required = true)
     private boolean hash;
 
+    @Parameter(property = "routeFragments", defaultValue = "false", required = true)
+    private boolean routeFragments;
+
     @Parameter(property = "bundleConfiguration", defaultValue = "${project.basedir}/bundle-configuration.json")
     private File bundleConfiguration;
 
@@ -106,7 +109,8 @@ public class PackageForProductionMojo extends AbstractMojo {
     @Override
     public void execute() {
         FrontendDataProvider frontendDataProvider = new FrontendDataProvider(
-                bundle, minify, hash, transpileEs6SourceDirectory,
+                bundle, minify, hash, routeFragments,
+                transpileEs6SourceDirectory,
                 new AnnotationValuesExtractor(getProjectClassPathUrls()),
                 bundleConfiguration, getFragmentsData(fragments));
         FrontendToolsManager frontendToolsManager = new FrontendToolsManager(
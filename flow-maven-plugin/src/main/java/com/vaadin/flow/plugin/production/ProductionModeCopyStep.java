@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.plugin.common.ArtifactData;
 import com.vaadin.flow.plugin.common.FlowPluginFileUtils;
+import com.vaadin.flow.plugin.common.FrontendBuildCache;
 import com.vaadin.flow.plugin.common.JarContentsManager;
 
 import elemental.json.Json;
@@ -55,6 +57,7 @@ public class ProductionModeCopyStep {
     private static final String NON_WEB_JAR_RESOURCE_PATH = "META-INF/resources/frontend";
     private static final String BOWER_JSON_FILE_NAME = "bower.json";
     private static final String BOWER_COMPONENTS_DIRECTORY_NAME = "bower_components";
+    private static final String COPY_STEP_NAME = "copy-production-files";
 
     private final JarContentsManager jarContentsManager;
     private final Set<File> nonWebJars = new HashSet<>();
@@ -153,6 +156,7 @@ public class ProductionModeCopyStep {
      */
     public void copyWebApplicationFiles(File outputDirectory, File frontendWorkingDirectory, String commaSeparatedWildcardPathExclusions) {
         LOGGER.info("Copying web application files to '{}'", outputDirectory);
+        long start = System.nanoTime();
         FlowPluginFileUtils.forceMkdir(outputDirectory);
 
         String[] wildcardExclusions = getWildcardExclusions(commaSeparatedWildcardPathExclusions);
@@ -167,9 +171,11 @@ public class ProductionModeCopyStep {
 
         if (!webJarNameToPackage.isEmpty()) {
             File bowerComponents = new File(outputDirectory, BOWER_COMPONENTS_DIRECTORY_NAME);
-            webJarNameToPackage.forEach((name, webJarPackage) -> {
-                File webJarDirectory = new File(bowerComponents, name);
+            // Each WebJar is extracted into a separate directory, so the jars can be extracted in parallel
+            webJarNameToPackage.entrySet().parallelStream().forEach(entry -> {
+                File webJarDirectory = new File(bowerComponents, entry.getKey());
                 FlowPluginFileUtils.forceMkdir(webJarDirectory);
+                WebJarPackage webJarPackage = entry.getValue();
                 jarContentsManager.copyFilesFromJarTrimmingBasePath(webJarPackage.getWebJar().getFileOrDirectory(), webJarPackage.getPathToPackage(), webJarDirectory, wildcardExclusions);
             });
         }
@@ -177,6 +183,46 @@ public class ProductionModeCopyStep {
         for (File notWebJar : nonWebJars) {
             jarContentsManager.copyFilesFromJarTrimmingBasePath(notWebJar, NON_WEB_JAR_RESOURCE_PATH, outputDirectory, wildcardExclusions);
         }
+        LOGGER.info("Copied web application files in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Copies files like {@link #copyWebApplicationFiles(File, File, String)}
+     * unless the inputs of the copy have not changed since the previous copy
+     * recorded in the {@code buildCache}. The inputs are the contents of the
+     * {@code frontendWorkingDirectory}, the project jars and the exclusions.
+     *
+     * @param outputDirectory                      the directory to copy files into, not {@code null}
+     * @param frontendWorkingDirectory             the directory to copy files from, intended to be current application's directory with frontend files, can be {@code null}
+     * @param commaSeparatedWildcardPathExclusions comma separated wildcard exclusions to exclude files, can be {@code null} if no files are excluded
+     * @param buildCache                           the cache to check and store the input hash in, not {@code null}
+     * @return {@code true} if the files were copied, {@code false} if the copy was skipped
+     */
+    public boolean copyWebApplicationFilesIfChanged(File outputDirectory, File frontendWorkingDirectory, String commaSeparatedWildcardPathExclusions, FrontendBuildCache buildCache) {
+        String inputHash = getInputHash(outputDirectory, frontendWorkingDirectory, commaSeparatedWildcardPathExclusions);
+        if (outputDirectory.isDirectory() && buildCache.isUpToDate(COPY_STEP_NAME, inputHash)) {
+            LOGGER.info("Web application files have not changed since the previous build, skipping copying to '{}'", outputDirectory);
+            return false;
+        }
+        // Invalidate first so that a failed copy is not considered up to date
+        buildCache.invalidate(COPY_STEP_NAME);
+        copyWebApplicationFiles(outputDirectory, frontendWorkingDirectory, commaSeparatedWildcardPathExclusions);
+        buildCache.update(COPY_STEP_NAME, inputHash);
+        return true;
+    }
+
+    private String getInputHash(File outputDirectory, File frontendWorkingDirectory, String commaSeparatedWildcardPathExclusions) {
+        FrontendBuildCache.Hasher hasher = FrontendBuildCache.hasher()
+                .add(outputDirectory.getAbsolutePath())
+                .add(commaSeparatedWildcardPathExclusions);
+        if (frontendWorkingDirectory != null) {
+            hasher.addContents(frontendWorkingDirectory);
+        }
+        Stream.concat(nonWebJars.stream(), webJarNameToPackage.values().stream().map(webJarPackage -> webJarPackage.getWebJar().getFileOrDirectory()))
+                .distinct().sorted().forEach(hasher::addMetadata);
+        webJarNameToPackage.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> hasher.add(entry.getKey()).add(entry.getValue().getPathToPackage()));
+        return hasher.hash();
     }
 
     private FileFilter generateFilterWithExclusions(String... pathExclusions) {
@@ -9,6 +9,7 @@ const es6SourceDirectory = "{es6_source_directory}";
 const targetDirectory = "{target_directory}";
 const es5ConfigurationName = "{es5_configuration_name}";
 const es6ConfigurationName = "{es6_configuration_name}";
+const cacheDirectory = "{cache_directory}";
 
 const fs = require('fs');
 const path = require('path');
@@ -58,6 +59,7 @@ function buildConfiguration(polymerProject, redundantPathPrefix, configurationTa
     return new Promise((resolve, reject) => {
         console.log(`Deleting ${configurationTargetDirectory} directory...`);
         const buildBundler = new FlowBuildBundler(polymerProject.config, polymerProject.analyzer);
+        const transformCache = new TransformCache(path.join(cacheDirectory, path.basename(configurationTargetDirectory)));
         del([configurationTargetDirectory], {force: true})
             .then(() => {
                 console.log('Starting to process frontend files.');
@@ -66,16 +68,16 @@ function buildConfiguration(polymerProject, redundantPathPrefix, configurationTa
                 let initialStream = mergeStream(polymerProject.sources(), polymerProject.dependencies()).pipe(htmlSplitter.split());
                 if (transpileJs) {
                     console.log('Will transpile frontend files.');
-                    initialStream = initialStream.pipe(gulpIf(/\.js$/, new SafeTransform('babel', babelTransform, {plugins: ['babel-plugin-external-helpers'], presets: [babelPresetES2015NoModules]})));
+                    initialStream = initialStream.pipe(gulpIf(/\.js$/, new SafeTransform('babel', babelTransform, {plugins: ['babel-plugin-external-helpers'], presets: [babelPresetES2015NoModules]}, transformCache, 'babel-es5')));
                 }
 
                 let processedStream;
                 if (minify) {
                     console.log('Will minify frontend files.');
                     processedStream = initialStream
-                    .pipe(gulpIf(/\.html$/, new SafeTransform('html-minify', htmlMinifier.minify, {collapseWhitespace: true, removeComments: true, minifyCSS: true})))
-                    .pipe(gulpIf(/\.css$/, new SafeTransform('css-slam', cssSlam.css)))
-                    .pipe(gulpIf(/\.js$/, new SafeTransform('babel', babelTransform, {presets: [minifyPreset(null, {simplifyComparisons: false})]})))
+                    .pipe(gulpIf(/\.html$/, new SafeTransform('html-minify', htmlMinifier.minify, {collapseWhitespace: true, removeComments: true, minifyCSS: true}, transformCache, 'html-minify')))
+                    .pipe(gulpIf(/\.css$/, new SafeTransform('css-slam', cssSlam.css, undefined, transformCache, 'css-slam')))
+                    .pipe(gulpIf(/\.js$/, new SafeTransform('babel', babelTransform, {presets: [minifyPreset(null, {simplifyComparisons: false})]}, transformCache, 'babel-minify')))
                     .pipe(htmlSplitter.rejoin());
                 } else {
                     processedStream = initialStream;
@@ -117,6 +119,7 @@ function buildConfiguration(polymerProject, redundantPathPrefix, configurationTa
                 });
             })
             .then(() => {
+                transformCache.pruneUnused();
                 if (bundle) {
                     const bundleManifestFile = path.join(configurationTargetDirectory, 'vaadin-flow-bundle-manifest.json');
                     console.log(`Writing bundle manifest to '${bundleManifestFile}'`);
@@ -146,12 +149,38 @@ function writeBundleInformation(buildBundler, redundantPathPrefix, outputFile) {
     }
 }
 
+// Optimized files of one configuration, stored by the hash of the original contents so that only changed files are processed again
+class TransformCache {
+    constructor(directory) {
+        this.directory = directory;
+        this.usedFiles = new Set();
+        if (!fs.existsSync(directory)) {
+            fs.mkdirSync(directory);
+        }
+    }
+
+    file(cacheName, source) {
+        const fileName = `${cacheName}-${hasha(source, {algorithm: 'sha256'})}`;
+        this.usedFiles.add(fileName);
+        return path.join(this.directory, fileName);
+    }
+
+    // Removes the results of files that were not part of this build, so that the cache does not grow without limit
+    pruneUnused() {
+        fs.readdirSync(this.directory)
+            .filter(fileName => !this.usedFiles.has(fileName))
+            .forEach(fileName => fs.unlinkSync(path.join(this.directory, fileName)));
+    }
+}
+
 class SafeTransform extends Transform {
-    constructor(optimizerName, optimizer, optimizerOptions) {
+    constructor(optimizerName, optimizer, optimizerOptions, transformCache, cacheName) {
         super({objectMode: true});
         this.optimizerName = optimizerName;
         this.optimizer = optimizer;
         this.optimizerOptions = optimizerOptions;
+        this.transformCache = transformCache;
+        this.cacheName = cacheName;
     }
 
     _transform(file, _encoding, callback) {
@@ -162,9 +191,17 @@ class SafeTransform extends Transform {
         }
 
         if (file.contents) {
+            const source = file.contents.toString();
+            const cacheFile = this.transformCache.file(this.cacheName, source);
+            if (fs.existsSync(cacheFile)) {
+                file.contents = fs.readFileSync(cacheFile);
+                callback(null, file);
+                return;
+            }
             try {
-                const contents = this.optimizer(file.contents.toString(), this.optimizerOptions);
+                const contents = this.optimizer(source, this.optimizerOptions);
                 file.contents = new Buffer(contents);
+                fs.writeFileSync(cacheFile, file.contents);
             } catch (error) {
                 console.error(`${this.optimizerName}: Unable to optimize ${file.path} , skipping the file.`);
                 console.error(`error: ${error.stack}`);
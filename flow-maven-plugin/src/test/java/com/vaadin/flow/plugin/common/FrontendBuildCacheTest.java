@@ -0,0 +1,99 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class FrontendBuildCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void updatedHash_upToDateUntilChanged() throws IOException {
+        FrontendBuildCache cache = new FrontendBuildCache(
+                temporaryFolder.newFile("cache.json"));
+
+        assertFalse("Unknown step should not be up to date",
+                cache.isUpToDate("step", "hash"));
+
+        cache.update("step", "hash");
+        cache.update("other", "otherHash");
+        assertTrue(cache.isUpToDate("step", "hash"));
+        assertFalse(cache.isUpToDate("step", "changedHash"));
+
+        cache.invalidate("step");
+        assertFalse(cache.isUpToDate("step", "hash"));
+        assertTrue("Other steps should not be invalidated",
+                cache.isUpToDate("other", "otherHash"));
+    }
+
+    @Test
+    public void unreadableCacheFile_nothingUpToDate() throws IOException {
+        File cacheFile = temporaryFolder.newFile("cache.json");
+        Files.write(cacheFile.toPath(),
+                "not json".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(new FrontendBuildCache(cacheFile).isUpToDate("step",
+                "hash"));
+    }
+
+    @Test
+    public void directoryHash_dependsOnPathsAndContents() throws IOException {
+        File directory = temporaryFolder.newFolder("directory");
+        File file = new File(directory, "file.js");
+        Files.write(file.toPath(), "a".getBytes(StandardCharsets.UTF_8));
+
+        String hash = FrontendBuildCache.hasher().addContents(directory)
+                .hash();
+        assertEquals("Hash should be stable", hash,
+                FrontendBuildCache.hasher().addContents(directory).hash());
+
+        Files.write(file.toPath(), "b".getBytes(StandardCharsets.UTF_8));
+        String changedContentsHash = FrontendBuildCache.hasher()
+                .addContents(directory).hash();
+        assertNotEquals(hash, changedContentsHash);
+
+        assertTrue(file.renameTo(new File(directory, "renamed.js")));
+        assertNotEquals(changedContentsHash, FrontendBuildCache.hasher()
+                .addContents(directory).hash());
+    }
+
+    @Test
+    public void nullString_hashedDifferentlyFromAnyString() {
+        String nullHash = FrontendBuildCache.hasher().add(null).hash();
+
+        assertEquals("Hash should be stable", nullHash,
+                FrontendBuildCache.hasher().add(null).hash());
+        assertNotEquals(nullHash,
+                FrontendBuildCache.hasher().add("null").hash());
+        assertNotEquals(nullHash, FrontendBuildCache.hasher().add("").hash());
+    }
+}
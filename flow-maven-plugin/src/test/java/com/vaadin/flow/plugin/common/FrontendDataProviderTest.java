@@ -70,6 +70,8 @@ public class FrontendDataProviderTest {
     private ThemedURLTranslator translator = Mockito
             .mock(ThemedURLTranslator.class);
 
+    private Map<String, Set<String>> routeFragments;
+
     public class TestFrontendDataProvider extends FrontendDataProvider {
 
         public TestFrontendDataProvider(boolean shouldBundle,
@@ -77,9 +79,10 @@ public class FrontendDataProviderTest {
                 AnnotationValuesExtractor annotationValuesExtractor,
                 File fragmentConfigurationFile,
                 Map<String, Set<String>> userDefinedFragments) {
-            super(shouldBundle, shouldMinify, false, es6SourceDirectory,
-                    annotationValuesExtractor, fragmentConfigurationFile,
-                    userDefinedFragments);
+            super(shouldBundle, shouldMinify, false,
+                    FrontendDataProviderTest.this.routeFragments != null,
+                    es6SourceDirectory, annotationValuesExtractor,
+                    fragmentConfigurationFile, userDefinedFragments);
         }
 
         @Override
@@ -88,6 +91,13 @@ public class FrontendDataProviderTest {
             return translator;
         }
 
+        @Override
+        protected Map<String, Set<String>> getRouteFragments(
+                ClassPathIntrospector introspector,
+                ThemedURLTranslator translator) {
+            return routeFragments;
+        }
+
     }
 
     @Before
@@ -289,6 +299,46 @@ public class FrontendDataProviderTest {
                 .extractAnnotationValues(anyMap());
     }
 
+    @SuppressWarnings({ "unchecked" })
+    @Test
+    public void routeFragmentsAreCreatedWithoutUserFragmentFiles()
+            throws IOException {
+        Set<String> allImports = ImmutableSet.of(jsFile.getName(),
+                cssFile.getName(), htmlFile.getName());
+        AnnotationValuesExtractor annotationValuesExtractorMock = mock(
+                AnnotationValuesExtractor.class);
+        when(annotationValuesExtractorMock.extractAnnotationValues(anyMap()))
+                .thenReturn(new HashMap<>(Collections
+                        .singletonMap(HtmlImport.class, allImports)));
+
+        String routeFragment = "route-fragment";
+        routeFragments = Collections.singletonMap(routeFragment,
+                ImmutableSet.of("frontend://" + jsFile.getName(),
+                        htmlFile.getName()));
+        String userFragment = "userFragment";
+        Set<String> userFragmentImports = Collections
+                .singleton(htmlFile.getName());
+
+        FrontendDataProvider frontendDataProvider = new TestFrontendDataProvider(
+                true, true, sourceDirectory, annotationValuesExtractorMock,
+                null,
+                Collections.singletonMap(userFragment, userFragmentImports));
+
+        Set<String> fragmentFilePaths = frontendDataProvider
+                .createFragmentFiles(targetDirectory);
+        assertEquals("User and route fragments should be created", 2,
+                fragmentFilePaths.size());
+        findAndVerifyFragment(fragmentFilePaths, userFragment,
+                userFragmentImports);
+        findAndVerifyFragment(fragmentFilePaths, routeFragment,
+                Collections.singleton(jsFile.getName()));
+
+        String shellFile = frontendDataProvider
+                .createShellFile(targetDirectory);
+        verifyFileWithImports(shellFile,
+                Collections.singleton(cssFile.getName()));
+    }
+
     @Test
     public void userDefinedAndConfigurationFileFragmentsAreMerged()
             throws IOException {
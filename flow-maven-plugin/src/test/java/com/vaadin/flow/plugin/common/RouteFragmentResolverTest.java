@@ -0,0 +1,110 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.dependency.HtmlImport;
+import com.vaadin.flow.component.dependency.JavaScript;
+import com.vaadin.flow.component.dependency.StyleSheet;
+import com.vaadin.flow.component.dependency.Uses;
+import com.vaadin.flow.router.Route;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class RouteFragmentResolverTest {
+
+    @HtmlImport("shared.html")
+    public static class SharedComponent extends Component {
+    }
+
+    @StyleSheet("field.css")
+    public static class FieldComponent extends Component {
+    }
+
+    @Route("a")
+    @HtmlImport("a.html")
+    @JavaScript("a.js")
+    @Uses(SharedComponent.class)
+    public static class RouteA extends Component {
+        private FieldComponent field;
+    }
+
+    @Route("b")
+    @HtmlImport("b.html")
+    public static class RouteB extends Component {
+        private SharedComponent shared;
+    }
+
+    @Route("c")
+    public static class RouteC extends Component {
+        private SharedComponent shared;
+    }
+
+    private final RouteFragmentResolver resolver = new RouteFragmentResolver(
+            new AnnotationValuesExtractor(
+                    RouteFragmentResolverTest.class.getProtectionDomain()
+                            .getCodeSource().getLocation(),
+                    Component.class.getProtectionDomain().getCodeSource()
+                            .getLocation()));
+
+    @Test
+    public void resolveRouteFragments_ownDependenciesInRouteFragments() {
+        Map<String, Set<String>> fragments = resolver
+                .resolveRouteFragments(Function.identity());
+
+        Map<String, Set<String>> expected = new HashMap<>();
+        expected.put(
+                "route-com-vaadin-flow-plugin-common-routefragmentresolvertest-routea",
+                setOf("a.html", "a.js", "field.css"));
+        expected.put(
+                "route-com-vaadin-flow-plugin-common-routefragmentresolvertest-routeb",
+                setOf("b.html"));
+        assertEquals(
+                "Shared dependencies and routes without own dependencies should not be in route fragments",
+                expected, fragments);
+    }
+
+    @Test
+    public void resolveRouteFragments_htmlImportsTranslated() {
+        Map<String, Set<String>> fragments = resolver
+                .resolveRouteFragments(urls -> urls.stream()
+                        .map(url -> "theme/" + url)
+                        .collect(Collectors.toSet()));
+
+        assertEquals(setOf("theme/b.html"), fragments.get(
+                "route-com-vaadin-flow-plugin-common-routefragmentresolvertest-routeb"));
+        assertEquals(setOf("theme/a.html", "a.js", "field.css"),
+                fragments.get(
+                        "route-com-vaadin-flow-plugin-common-routefragmentresolvertest-routea"));
+    }
+
+    private static Set<String> setOf(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+}
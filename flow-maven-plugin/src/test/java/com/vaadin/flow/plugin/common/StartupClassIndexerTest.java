@@ -0,0 +1,124 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.plugin.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.servlet.ServletContext;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.page.Push;
+import com.vaadin.flow.plugin.TestUtils;
+import com.vaadin.flow.router.HasErrorParameter;
+import com.vaadin.flow.router.InternalServerError;
+import com.vaadin.flow.router.RouteNotFoundError;
+import com.vaadin.flow.server.startup.AnnotationValidator;
+import com.vaadin.flow.server.startup.ErrorNavigationTargetInitializer;
+import com.vaadin.flow.server.startup.RouteRegistryInitializer;
+import com.vaadin.flow.server.startup.StartupClassIndex;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class StartupClassIndexerTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final StartupClassIndexer indexer = new StartupClassIndexer(
+            TestUtils.getTestResource(
+                    "annotation-extractor-test/flow-server-1.0-SNAPSHOT.jar"));
+
+    @Test
+    public void collectHandledClasses_entryForEachHandledType() {
+        Map<String, Set<String>> result = indexer.collectHandledClasses();
+
+        assertEquals(StartupClassIndexer.HANDLED_TYPES.stream()
+                .map(Class::getName).collect(Collectors.toSet()),
+                result.keySet());
+        Set<String> errorTargets = result
+                .get(HasErrorParameter.class.getName());
+        assertTrue(errorTargets
+                .contains("com.vaadin.flow.router.RouteNotFoundError"));
+        assertTrue(errorTargets
+                .contains("com.vaadin.flow.router.InternalServerError"));
+    }
+
+    @Test
+    public void writeIndex_jsonWrittenToIndexResource() throws IOException {
+        File classesDirectory = temporaryFolder.newFolder();
+
+        File indexFile = indexer.writeIndex(classesDirectory);
+
+        assertEquals(
+                new File(classesDirectory, StartupClassIndex.INDEX_RESOURCE),
+                indexFile);
+        JsonObject json = Json.parse(
+                FileUtils.readFileToString(indexFile, StandardCharsets.UTF_8));
+        assertEquals(StartupClassIndexer.HANDLED_TYPES.size(),
+                json.keys().length);
+    }
+
+    @Test
+    public void collectHandledClasses_typeMissingFromProject_emptyEntry() {
+        // The project uses a version of Flow without the current Push
+        // annotation, so no project class can be annotated with it
+        Set<String> pushed = indexer.collectHandledClasses()
+                .get(Push.class.getName());
+
+        assertTrue(pushed.isEmpty());
+    }
+
+    @Test
+    public void writeIndex_indexLoadedByInitializers() throws IOException {
+        File indexFile = indexer.writeIndex(temporaryFolder.newFolder());
+
+        ServletContext servletContext = Mockito.mock(ServletContext.class);
+        Mockito.when(servletContext.getClassLoader())
+                .thenReturn(getClass().getClassLoader());
+        Mockito.when(servletContext.getResourceAsStream(
+                "/WEB-INF/classes/" + StartupClassIndex.INDEX_RESOURCE))
+                .then(invocation -> new FileInputStream(indexFile));
+
+        Optional<Set<Class<?>>> errorTargets = StartupClassIndex
+                .getIndexedClasses(servletContext,
+                        ErrorNavigationTargetInitializer.class);
+        assertTrue(errorTargets.isPresent());
+        assertTrue(errorTargets.get().contains(RouteNotFoundError.class));
+        assertTrue(errorTargets.get().contains(InternalServerError.class));
+        assertTrue(StartupClassIndex.isIndexed(servletContext,
+                RouteRegistryInitializer.class));
+        assertTrue(StartupClassIndex.isIndexed(servletContext,
+                AnnotationValidator.class));
+    }
+}
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.junit.rules.TemporaryFolder;
 
 import com.vaadin.flow.plugin.TestUtils;
 import com.vaadin.flow.plugin.common.ArtifactData;
+import com.vaadin.flow.plugin.common.FrontendBuildCache;
 import com.vaadin.flow.plugin.common.JarContentsManager;
 
 import static org.junit.Assert.assertEquals;
@@ -104,6 +106,23 @@ public class ProductionModeCopyStepTest {
                 2, resultingFiles.stream().filter(path -> path.endsWith(File.separator + "bower.json")).count());
     }
 
+    @Test
+    public void copyWebApplicationFilesIfChanged_unchangedInputs_copySkipped() throws IOException {
+        File outputDirectory = testDirectory.newFolder("output");
+        File frontendDirectory = testDirectory.newFolder("frontend");
+        File frontendFile = new File(frontendDirectory, "test.html");
+        Files.write(frontendFile.toPath(), "<div></div>".getBytes(StandardCharsets.UTF_8));
+        FrontendBuildCache buildCache = new FrontendBuildCache(new File(testDirectory.getRoot(), "cache.json"));
+        ProductionModeCopyStep copyStep = new ProductionModeCopyStep(Collections.emptySet());
+
+        assertTrue("First copy should not be skipped", copyStep.copyWebApplicationFilesIfChanged(outputDirectory, frontendDirectory, null, buildCache));
+        assertFalse("Copy with unchanged inputs should be skipped", copyStep.copyWebApplicationFilesIfChanged(outputDirectory, frontendDirectory, null, buildCache));
+
+        Files.write(frontendFile.toPath(), "<span></span>".getBytes(StandardCharsets.UTF_8));
+        assertTrue("Copy with changed inputs should not be skipped", copyStep.copyWebApplicationFilesIfChanged(outputDirectory, frontendDirectory, null, buildCache));
+        assertEquals("<span></span>", new String(Files.readAllBytes(new File(outputDirectory, "test.html").toPath()), StandardCharsets.UTF_8));
+    }
+
     @Test
     public void copyWebApplicationFiles_fileInsteadOfOutputDirectory() throws IOException {
         File fileNotDirectory = testDirectory.newFile("test");
@@ -25,6 +25,7 @@ import com.vaadin.flow.component.polymertemplate.Id;
 import com.vaadin.flow.component.polymertemplate.PolymerTemplate;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementUtil;
+import com.vaadin.flow.dom.PropertySyncMode;
 import com.vaadin.flow.dom.ShadowRoot;
 import com.vaadin.flow.i18n.I18NProvider;
 import com.vaadin.flow.internal.AnnotationReader;
@@ -141,9 +142,14 @@ public abstract class Component
      * Configures synchronized properties based on given annotations.
      */
     private void configureSynchronizedProperties() {
-        ComponentUtil.getSynchronizedProperties(getClass()).forEach(
-                info -> getElement().addSynchronizedProperty(info.getProperty(),
-                        info.getUpdateMode()));
+        ComponentUtil.getSynchronizedProperties(getClass()).forEach(info -> {
+            getElement().addSynchronizedProperty(info.getProperty(),
+                    info.getUpdateMode());
+            if (info.getSyncMode() != PropertySyncMode.IMMEDIATE) {
+                getElement().setSynchronizedPropertyMode(info.getProperty(),
+                        info.getSyncMode(), info.getSyncTimeout());
+            }
+        });
         ComponentUtil.getSynchronizedPropertyEvents(getClass())
                 .forEach(getElement()::addSynchronizedPropertyEvent);
     }
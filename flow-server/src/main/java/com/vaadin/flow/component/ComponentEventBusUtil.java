@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
@@ -23,9 +26,13 @@ import java.util.List;
 
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.internal.ReflectionCache;
 
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
 /**
  * Static helpers and caching functionality for {@link ComponentEventBus}.
  *
@@ -47,10 +54,95 @@ public class ComponentEventBusUtil {
     private static class EventTypeInfo {
         private final LinkedHashMap<String, Class<?>> dataExpressions;
         private final Constructor<? extends ComponentEvent<?>> eventConstructor;
+        private final DomEventFactory domEventFactory;
 
         public EventTypeInfo(Class<? extends ComponentEvent<?>> type) {
             eventConstructor = findEventConstructor(type);
             dataExpressions = findEventDataExpressions(eventConstructor);
+            domEventFactory = new DomEventFactory(eventConstructor,
+                    dataExpressions);
+        }
+    }
+
+    /**
+     * Creates component event instances from DOM events using a constructor
+     * method handle and event data expressions and types resolved up front, so
+     * that no reflection lookups or intermediate collections are needed when
+     * an event is fired.
+     */
+    private static class DomEventFactory {
+        private final Class<?> eventType;
+        private final Class<?> sourceType;
+        private final String[] expressions;
+        private final Class<?>[] types;
+        private final MethodHandle constructor;
+
+        private DomEventFactory(
+                Constructor<? extends ComponentEvent<?>> eventConstructor,
+                LinkedHashMap<String, Class<?>> dataExpressions) {
+            eventType = eventConstructor.getDeclaringClass();
+            sourceType = eventConstructor.getParameterTypes()[0];
+            expressions = dataExpressions.keySet()
+                    .toArray(new String[dataExpressions.size()]);
+            types = dataExpressions.values()
+                    .toArray(new Class<?>[dataExpressions.size()]);
+            constructor = createConstructorHandle(eventConstructor)
+                    .asSpreader(Object[].class,
+                            eventConstructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class,
+                            Object[].class));
+        }
+
+        private Object create(DomEvent domEvent, Component source) {
+            // Make sure that the source component type is ok
+            if (!sourceType.isInstance(source)) {
+                throw new IllegalArgumentException(String.format(
+                        "The event type %s define the source type to be %s, which is not compatible with the used source of type %s",
+                        eventType.getName(), sourceType.getName(),
+                        source.getClass().getName()));
+            }
+
+            JsonObject eventData = domEvent.getEventData();
+            Object[] params = new Object[expressions.length + 2];
+            params[0] = source;
+            params[1] = Boolean.TRUE; // From client
+            for (int i = 0; i < expressions.length; i++) {
+                JsonValue jsonValue = eventData.get(expressions[i]);
+                if (jsonValue != null) {
+                    params[i + 2] = JsonCodec.decodeAs(jsonValue, types[i]);
+                }
+            }
+
+            try {
+                return (Object) constructor.invokeExact(params);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException(
+                        "Unable to create an event object of type "
+                                + eventType.getName(),
+                        e);
+            }
+        }
+
+        private static MethodHandle createConstructorHandle(
+                Constructor<?> eventConstructor) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                return lookup.unreflectConstructor(eventConstructor);
+            } catch (IllegalAccessException e) {
+                // Public constructor in a class which is not accessible from
+                // here, e.g. a public nested class in a package private class
+                try {
+                    eventConstructor.setAccessible(true);
+                    return lookup.unreflectConstructor(eventConstructor);
+                } catch (IllegalAccessException | SecurityException e2) {
+                    throw new IllegalArgumentException(
+                            "Unable to access the DOM event constructor "
+                                    + eventConstructor,
+                            e2);
+                }
+            }
         }
     }
 
@@ -126,6 +218,33 @@ public class ComponentEventBusUtil {
         return (Constructor<T>) cache.get(eventType).eventConstructor;
     }
 
+    /**
+     * Creates a component event object of the given type based on the given
+     * DOM event.
+     * <p>
+     * Uses the constructor and event data expressions cached for the event
+     * type, so that repeated events of the same type do not need any
+     * reflection lookups.
+     *
+     * @param <T>
+     *            the event type
+     * @param eventType
+     *            the type of component event to create
+     * @param domEvent
+     *            the DOM event to get data from
+     * @param source
+     *            the component which is the source of the event
+     * @return an event object of type <code>eventType</code>
+     * @throws IllegalArgumentException
+     *             if the source type is not compatible with the event or if
+     *             the event could not be created
+     */
+    public static <T extends ComponentEvent<?>> T createEventForDomEvent(
+            Class<T> eventType, DomEvent domEvent, Component source) {
+        return eventType.cast(cache.get(eventType).domEventFactory
+                .create(domEvent, source));
+    }
+
     /**
      * Scans through the given event type class and tries to find a suitable
      * constructor to use for firing DOM Events.
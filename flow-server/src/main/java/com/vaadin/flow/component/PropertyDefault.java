@@ -0,0 +1,77 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.vaadin.flow.dom.ElementPropertyDefaults;
+
+/**
+ * Declares the default value that the client side element of a component has
+ * for a property. The defaults are registered in
+ * {@link ElementPropertyDefaults} for the {@link Tag @Tag} of the component,
+ * so that setting a property to its default value doesn't send anything to the
+ * client.
+ * <p>
+ * The value is given as a JSON literal, e.g. <code>"\"\""</code> for an empty
+ * string, <code>"false"</code> or <code>"0"</code>.
+ *
+ * @author Vaadin Ltd
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Repeatable(PropertyDefault.Container.class)
+public @interface PropertyDefault {
+
+    /**
+     * The name of the property.
+     *
+     * @return the property name
+     */
+    String name();
+
+    /**
+     * The default value of the property as a JSON string, number or boolean
+     * literal.
+     *
+     * @return the default value as JSON
+     */
+    String value();
+
+    /**
+     * Internal annotation to enable use of multiple {@link PropertyDefault}
+     * annotations.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @Documented
+    public @interface Container {
+
+        /**
+         * Internally used to enable use of multiple {@link PropertyDefault}
+         * annotations.
+         *
+         * @return an array of the property default annotations
+         */
+        PropertyDefault[] value();
+    }
+}
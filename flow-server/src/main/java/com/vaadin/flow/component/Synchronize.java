@@ -23,6 +23,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import com.vaadin.flow.dom.DisabledUpdateMode;
+import com.vaadin.flow.dom.PropertySyncMode;
 
 /**
  * Annotates getters for which properties should be synchronized to the server.
@@ -62,4 +63,22 @@ public @interface Synchronize {
      * @return the property update mode for disabled element
      */
     DisabledUpdateMode allowUpdates() default DisabledUpdateMode.ONLY_WHEN_ENABLED;
+
+    /**
+     * Controls when the property value is sent from the client side to the
+     * server side after a synchronization event.
+     *
+     * @see PropertySyncMode
+     *
+     * @return the property synchronization mode
+     */
+    PropertySyncMode syncMode() default PropertySyncMode.IMMEDIATE;
+
+    /**
+     * The timeout in milliseconds of the synchronization mode defined using
+     * {@link #syncMode()}.
+     *
+     * @return the synchronization timeout in milliseconds
+     */
+    int syncTimeout() default 0;
 }
@@ -450,7 +450,42 @@ public class UI extends Component
             throw new UIDetachedException();
         }
 
-        return session.access(new ErrorHandlingCommand() {
+        return session.access(createAccessCommand(command));
+    }
+
+    /**
+     * Provides exclusive access to this UI from a thread of the service
+     * executor.
+     * <p>
+     * The given command is executed while holding the session lock, like with
+     * {@link #access(Command)}. The difference is that the lock is acquired by
+     * a thread of {@link VaadinService#getExecutor()} instead of the current
+     * thread, which is not blocked waiting for the lock. If the current thread
+     * already holds the session lock, the command is typically run by the
+     * current thread when it unlocks the session.
+     *
+     * @param command
+     *            the command which accesses the UI
+     * @throws UIDetachedException
+     *             if the UI is not attached to a session
+     * @return a future that can be used to check for task completion and to
+     *         cancel the task
+     *
+     * @see #access(Command)
+     * @see VaadinSession#accessInBackground(Command)
+     */
+    public Future<Void> accessInBackground(final Command command) {
+        VaadinSession session = getSession();
+
+        if (session == null) {
+            throw new UIDetachedException();
+        }
+
+        return session.accessInBackground(createAccessCommand(command));
+    }
+
+    private ErrorHandlingCommand createAccessCommand(Command command) {
+        return new ErrorHandlingCommand() {
             @Override
             public void execute() {
                 accessSynchronously(command);
@@ -470,7 +505,7 @@ public class UI extends Component
                     getLogger().error(e.getMessage(), e);
                 }
             }
-        });
+        };
     }
 
     /**
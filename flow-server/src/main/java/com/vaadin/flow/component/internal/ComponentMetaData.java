@@ -15,6 +15,7 @@
  */
 package com.vaadin.flow.component.internal;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,23 +24,32 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.PropertyDefault;
 import com.vaadin.flow.component.Synchronize;
+import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.HtmlImport;
 import com.vaadin.flow.component.dependency.JavaScript;
 import com.vaadin.flow.component.dependency.StyleSheet;
 import com.vaadin.flow.component.dependency.Uses;
 import com.vaadin.flow.dom.DisabledUpdateMode;
+import com.vaadin.flow.dom.ElementPropertyDefaults;
+import com.vaadin.flow.dom.PropertySyncMode;
 import com.vaadin.flow.internal.AnnotationReader;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.shared.ui.LoadMode;
 
+import elemental.json.Json;
+import elemental.json.JsonException;
+import elemental.json.JsonValue;
+
 /**
  * Immutable meta data related to a component class.
  *
@@ -101,12 +111,22 @@ public class ComponentMetaData {
         private final String property;
         private final DisabledUpdateMode mode;
         private final String[] eventNames;
+        private final PropertySyncMode syncMode;
+        private final int syncTimeout;
 
         SynchronizedPropertyInfo(String property, String[] eventNames,
                 DisabledUpdateMode mode) {
+            this(property, eventNames, mode, PropertySyncMode.IMMEDIATE, 0);
+        }
+
+        SynchronizedPropertyInfo(String property, String[] eventNames,
+                DisabledUpdateMode mode, PropertySyncMode syncMode,
+                int syncTimeout) {
             this.property = property;
             this.eventNames = eventNames;
             this.mode = mode;
+            this.syncMode = syncMode;
+            this.syncTimeout = syncTimeout;
         }
 
         public String getProperty() {
@@ -120,6 +140,14 @@ public class ComponentMetaData {
         public DisabledUpdateMode getUpdateMode() {
             return mode;
         }
+
+        public PropertySyncMode getSyncMode() {
+            return syncMode;
+        }
+
+        public int getSyncTimeout() {
+            return syncTimeout;
+        }
     }
 
     private final Collection<SynchronizedPropertyInfo> synchronizedProperties;
@@ -136,6 +164,57 @@ public class ComponentMetaData {
     public ComponentMetaData(Class<? extends Component> componentClass) {
         this.componentClass = componentClass;
         synchronizedProperties = findSynchronizedProperties(componentClass);
+        registerPropertyDefaults(componentClass);
+    }
+
+    /**
+     * Registers the property defaults declared using {@link PropertyDefault}
+     * for the tag of the class.
+     */
+    private static void registerPropertyDefaults(
+            Class<? extends Component> componentClass) {
+        List<PropertyDefault> propertyDefaults = AnnotationReader
+                .getAnnotationsFor(componentClass, PropertyDefault.class);
+        if (propertyDefaults.isEmpty()) {
+            return;
+        }
+        Optional<String> tag = AnnotationReader.getAnnotationValueFor(
+                componentClass, Tag.class, Tag::value);
+        if (!tag.isPresent()) {
+            return;
+        }
+        for (PropertyDefault propertyDefault : propertyDefaults) {
+            ElementPropertyDefaults.setDefault(tag.get(),
+                    propertyDefault.name(),
+                    parseDefaultValue(componentClass, propertyDefault));
+        }
+    }
+
+    private static Serializable parseDefaultValue(
+            Class<? extends Component> componentClass,
+            PropertyDefault propertyDefault) {
+        JsonValue value;
+        try {
+            value = Json.instance().parse(propertyDefault.value());
+        } catch (JsonException e) {
+            throw new IllegalStateException(String.format(
+                    "Invalid default value '%s' for property '%s' in %s",
+                    propertyDefault.value(), propertyDefault.name(),
+                    componentClass.getName()), e);
+        }
+        switch (value.getType()) {
+        case STRING:
+            return value.asString();
+        case BOOLEAN:
+            return value.asBoolean();
+        case NUMBER:
+            return value.asNumber();
+        default:
+            throw new IllegalStateException(String.format(
+                    "Default value '%s' for property '%s' in %s must be a JSON string, number or boolean",
+                    propertyDefault.value(), propertyDefault.name(),
+                    componentClass.getName()));
+        }
     }
 
     /**
@@ -283,8 +362,10 @@ public class ComponentMetaData {
             }
 
             String[] eventNames = annotation.value();
-            infos.put(method.getName(), new SynchronizedPropertyInfo(
-                    propertyName, eventNames, annotation.allowUpdates()));
+            infos.put(method.getName(),
+                    new SynchronizedPropertyInfo(propertyName, eventNames,
+                            annotation.allowUpdates(), annotation.syncMode(),
+                            annotation.syncTimeout()));
         }
     }
 
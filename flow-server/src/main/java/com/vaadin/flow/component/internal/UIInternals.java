@@ -45,6 +45,7 @@ import com.vaadin.flow.component.dependency.JavaScript;
 import com.vaadin.flow.component.dependency.StyleSheet;
 import com.vaadin.flow.component.internal.ComponentMetaData.DependencyInfo;
 import com.vaadin.flow.component.internal.ComponentMetaData.HtmlImportDependency;
+import com.vaadin.flow.component.page.JavaScriptFunction;
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.component.page.Page.ExecutionCanceler;
 import com.vaadin.flow.dom.Element;
@@ -86,6 +87,7 @@ public class UIInternals implements Serializable {
      */
     public static class JavaScriptInvocation implements Serializable {
         private final String expression;
+        private final boolean reusable;
         private final List<Serializable> parameters = new ArrayList<>();
 
         /**
@@ -98,7 +100,28 @@ public class UIInternals implements Serializable {
          */
         public JavaScriptInvocation(String expression,
                 Serializable... parameters) {
+            this(expression, false, parameters);
+        }
+
+        /**
+         * Creates a new invocation of a reusable function. The expression of
+         * the function is sent to the client only once and then referenced by
+         * id.
+         *
+         * @param function
+         *            the function to invoke
+         * @param parameters
+         *            a list of parameters to use when invoking the function
+         */
+        public JavaScriptInvocation(JavaScriptFunction function,
+                Serializable... parameters) {
+            this(function.getExpression(), true, parameters);
+        }
+
+        private JavaScriptInvocation(String expression, boolean reusable,
+                Serializable... parameters) {
             this.expression = expression;
+            this.reusable = reusable;
             Collections.addAll(this.parameters, parameters);
         }
 
@@ -120,6 +143,17 @@ public class UIInternals implements Serializable {
             return Collections.unmodifiableList(parameters);
         }
 
+        /**
+         * Checks whether the expression of this invocation is a reusable
+         * function that should be sent to the client only once.
+         *
+         * @return <code>true</code> if the expression is reusable,
+         *         <code>false</code> if it should be sent with the invocation
+         */
+        public boolean isReusable() {
+            return reusable;
+        }
+
     }
 
     /**
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.page;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A JavaScript expression that is expected to be executed many times with
+ * different parameters. The expression is sent to each client only once, after
+ * which invocations through
+ * {@link Page#executeJavaScript(JavaScriptFunction, Serializable...)} only send
+ * an id referencing the expression together with the parameters. The client
+ * compiles the expression once and reuses the compiled function for subsequent
+ * invocations.
+ * <p>
+ * The client retains every distinct expression for the lifetime of the UI. A
+ * function should therefore be defined with a constant expression, typically
+ * in a <code>static final</code> field, and not be created from a dynamically
+ * built string.
+ *
+ * @author Vaadin Ltd
+ */
+public final class JavaScriptFunction implements Serializable {
+    private final String expression;
+
+    /**
+     * Creates a new function for the given expression. Parameters are
+     * available in the expression as <code>$0</code>, <code>$1</code> and so
+     * on, in the same way as for
+     * {@link Page#executeJavaScript(String, Serializable...)}.
+     *
+     * @param expression
+     *            the JavaScript expression, not <code>null</code>
+     */
+    public JavaScriptFunction(String expression) {
+        this.expression = Objects.requireNonNull(expression,
+                "Expression cannot be null");
+    }
+
+    /**
+     * Gets the JavaScript expression of this function.
+     *
+     * @return the JavaScript expression, not <code>null</code>
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof JavaScriptFunction && expression
+                .equals(((JavaScriptFunction) obj).expression);
+    }
+
+    @Override
+    public int hashCode() {
+        return expression.hashCode();
+    }
+}
@@ -241,6 +241,40 @@ public class Page implements Serializable {
      */
     public ExecutionCanceler executeJavaScript(String expression,
             Serializable... parameters) {
+        verifyParameters(parameters);
+
+        JavaScriptInvocation invocation = new JavaScriptInvocation(expression,
+                parameters);
+
+        return ui.getInternals().addJavaScriptInvocation(invocation);
+    }
+
+    /**
+     * Asynchronously runs the given reusable JavaScript function in the
+     * browser. This works in the same way as
+     * {@link #executeJavaScript(String, Serializable...)}, except that the
+     * expression of the function is sent to the browser only once. Subsequent
+     * invocations only send a reference to the function together with the
+     * parameters, and the browser reuses the function compiled for the first
+     * invocation.
+     *
+     * @param function
+     *            the JavaScript function to invoke, not <code>null</code>
+     * @param parameters
+     *            parameters to pass to the function
+     * @return a callback for canceling the execution if not yet sent to browser
+     */
+    public ExecutionCanceler executeJavaScript(JavaScriptFunction function,
+            Serializable... parameters) {
+        verifyParameters(parameters);
+
+        JavaScriptInvocation invocation = new JavaScriptInvocation(function,
+                parameters);
+
+        return ui.getInternals().addJavaScriptInvocation(invocation);
+    }
+
+    private static void verifyParameters(Serializable... parameters) {
         /*
          * To ensure attached elements are actually attached, the parameters
          * won't be serialized until the phase the UIDL message is created. To
@@ -251,11 +285,6 @@ public class Page implements Serializable {
             // Throws IAE for unsupported types
             JsonCodec.encodeWithTypeInfo(argument);
         }
-
-        JavaScriptInvocation invocation = new JavaScriptInvocation(expression,
-                parameters);
-
-        return ui.getInternals().addJavaScriptInvocation(invocation);
     }
 
     /**
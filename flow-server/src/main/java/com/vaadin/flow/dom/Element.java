@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -32,6 +33,7 @@ import org.jsoup.nodes.Document;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.page.JavaScriptFunction;
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.dom.impl.BasicTextElementStateProvider;
@@ -565,6 +567,37 @@ public class Element extends Node<Element> {
         return this;
     }
 
+    /**
+     * Builds the content of this detached element in a batch.
+     * <p>
+     * Changes made to this element and its descendants by the builder, or
+     * later while the element is still detached, are not tracked one by one.
+     * Instead, the whole subtree is sent to the client in one go when the
+     * element is attached. This makes building large subtrees faster and uses
+     * less memory, e.g.:
+     *
+     * <pre>
+     * Element table = new Element("table").batch(t -&gt; {
+     *     for (int i = 0; i &lt; rows; i++) {
+     *         t.appendChild(new Element("tr").setProperty("row", i));
+     *     }
+     * });
+     * parent.appendChild(table);
+     * </pre>
+     *
+     * @param builder
+     *            the builder that populates this element, not <code>null</code>
+     * @return this element
+     * @throws IllegalStateException
+     *             if this element is attached
+     */
+    public Element batch(Consumer<Element> builder) {
+        Objects.requireNonNull(builder, "Builder cannot be null");
+        getNode().suspendChangeTracking();
+        builder.accept(this);
+        return this;
+    }
+
     /**
      * Gets the parent element.
      * <p>
@@ -1145,6 +1178,87 @@ public class Element extends Node<Element> {
         return this;
     }
 
+    /**
+     * Synchronize the given {@code property}'s value when the given
+     * {@code eventType} occurs on this element on the client side, sending the
+     * value to the server according to the given synchronization mode.
+     * <p>
+     * This is convenience method for batching
+     * {@link #synchronizeProperty(String, String)} and
+     * {@link #setSynchronizedPropertyMode(String, PropertySyncMode, int)}.
+     *
+     * @param property
+     *            the property name to synchronize
+     * @param eventType
+     *            the client side event which trigger synchronization of the
+     *            property values to the server
+     * @param syncMode
+     *            controls when the value is sent to the server, not
+     *            {@code null}
+     * @param timeout
+     *            the timeout of the synchronization mode in milliseconds, not
+     *            negative
+     * @return this element
+     */
+    public Element synchronizeProperty(String property, String eventType,
+            PropertySyncMode syncMode, int timeout) {
+        synchronizeProperty(property, eventType);
+        return setSynchronizedPropertyMode(property, syncMode, timeout);
+    }
+
+    /**
+     * Sets when the value of a synchronized property is sent from the client
+     * side to the server. By default, the value is sent immediately for each
+     * synchronization event.
+     * <p>
+     * The timeout is the throttle period for {@link PropertySyncMode#THROTTLE},
+     * the debounce timeout for {@link PropertySyncMode#DEBOUNCE} and the
+     * maximum delay for {@link PropertySyncMode#IDLE}. It is ignored for the
+     * other modes.
+     *
+     * @see PropertySyncMode
+     *
+     * @param property
+     *            the synchronized property name
+     * @param mode
+     *            controls when the value is sent to the server, not
+     *            {@code null}
+     * @param timeout
+     *            the timeout of the synchronization mode in milliseconds, not
+     *            negative
+     * @return this element
+     */
+    public Element setSynchronizedPropertyMode(String property,
+            PropertySyncMode mode, int timeout) {
+        verifySetPropertyName(property);
+        if (mode == null) {
+            throw new IllegalArgumentException(
+                    "Property synchronization mode must not be null");
+        }
+        if (timeout < 0) {
+            throw new IllegalArgumentException(
+                    "Property synchronization timeout must not be negative");
+        }
+        getStateProvider().setSynchronizedPropertyMode(getNode(), property,
+                mode, timeout);
+        return this;
+    }
+
+    /**
+     * Gets when the value of a synchronized property is sent from the client
+     * side to the server.
+     *
+     * @see #setSynchronizedPropertyMode(String, PropertySyncMode, int)
+     *
+     * @param property
+     *            the synchronized property name
+     * @return the synchronization mode, not {@code null}
+     */
+    public PropertySyncMode getSynchronizedPropertyMode(String property) {
+        return getStateProvider().getSynchronizedPropertyMode(getNode(),
+                property);
+    }
+
     /**
      * Adds the property whose value should automatically be synchronized from
      * the client side and updated in this {@link Element}.
@@ -1232,6 +1346,11 @@ public class Element extends Node<Element> {
         verifySetPropertyName(property);
         getStateProvider().getSynchronizedProperties(getNode())
                 .remove(property);
+        if (getSynchronizedPropertyMode(
+                property) != PropertySyncMode.IMMEDIATE) {
+            getStateProvider().setSynchronizedPropertyMode(getNode(), property,
+                    PropertySyncMode.IMMEDIATE, 0);
+        }
         return this;
     }
 
@@ -1447,8 +1566,10 @@ public class Element extends Node<Element> {
                             .concat(Stream.of(this), Stream.of(arguments))
                             .toArray(Serializable[]::new);
 
-                    ui.getPage().executeJavaScript("$0." + functionName + "("
-                            + paramPlaceholderString + ")", jsParameters);
+                    ui.getPage().executeJavaScript(
+                            new JavaScriptFunction("$0." + functionName + "("
+                                    + paramPlaceholderString + ")"),
+                            jsParameters);
                 });
     }
 
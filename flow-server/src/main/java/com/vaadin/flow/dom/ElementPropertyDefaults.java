@@ -0,0 +1,133 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the default values that the client side elements with a given
+ * tag have for their properties.
+ * <p>
+ * A property value that equals the registered default is not sent to the
+ * client when the client side element still has its initial state, since
+ * setting it would not change anything. The value is still stored on the
+ * server, so it's returned by {@link Element#getProperty(String)} as usual.
+ * <p>
+ * Defaults are typically registered for web components based on their
+ * metadata, e.g. using the
+ * {@link com.vaadin.flow.component.PropertyDefault @PropertyDefault}
+ * annotation.
+ *
+ * @author Vaadin Ltd
+ */
+public final class ElementPropertyDefaults {
+
+    private static final Map<String, Map<String, Serializable>> defaults = new ConcurrentHashMap<>();
+
+    private ElementPropertyDefaults() {
+        // Only static functionality
+    }
+
+    /**
+     * Registers the default value of a property for elements with the given
+     * tag.
+     *
+     * @param tag
+     *            the tag name of the element, not <code>null</code>
+     * @param property
+     *            the property name, not <code>null</code>
+     * @param value
+     *            the default value of the property, must be a string, a
+     *            boolean or a number, not <code>null</code>
+     */
+    public static void setDefault(String tag, String property,
+            Serializable value) {
+        Objects.requireNonNull(tag, "Tag cannot be null");
+        Objects.requireNonNull(property, "Property name cannot be null");
+        Objects.requireNonNull(value, "Default value cannot be null");
+        if (!(value instanceof String || value instanceof Boolean
+                || value instanceof Number)) {
+            throw new IllegalArgumentException(
+                    "Default value must be a string, a boolean or a number, got "
+                            + value.getClass().getName());
+        }
+        defaults.computeIfAbsent(tag, key -> new ConcurrentHashMap<>())
+                .put(property, normalize(value));
+    }
+
+    /**
+     * Gets the registered default value of a property for elements with the
+     * given tag.
+     *
+     * @param tag
+     *            the tag name of the element, not <code>null</code>
+     * @param property
+     *            the property name, not <code>null</code>
+     * @return the default value, or <code>null</code> if no default has been
+     *         registered
+     */
+    public static Serializable getDefault(String tag, String property) {
+        return defaults.getOrDefault(tag, Collections.emptyMap())
+                .get(property);
+    }
+
+    /**
+     * Checks whether the given value equals the registered default value of
+     * the property for elements with the given tag.
+     *
+     * @param tag
+     *            the tag name of the element, not <code>null</code>
+     * @param property
+     *            the property name, not <code>null</code>
+     * @param value
+     *            the value to check
+     * @return <code>true</code> if a default has been registered and it equals
+     *         the value, <code>false</code> otherwise
+     */
+    public static boolean isDefault(String tag, String property,
+            Object value) {
+        Map<String, Serializable> tagDefaults = defaults.get(tag);
+        if (tagDefaults == null || value == null) {
+            return false;
+        }
+        Serializable defaultValue = tagDefaults.get(property);
+        return defaultValue != null && defaultValue.equals(
+                value instanceof Serializable ? normalize((Serializable) value)
+                        : value);
+    }
+
+    /**
+     * Removes all registered defaults for elements with the given tag.
+     *
+     * @param tag
+     *            the tag name of the element, not <code>null</code>
+     */
+    public static void clearDefaults(String tag) {
+        defaults.remove(tag);
+    }
+
+    private static Serializable normalize(Serializable value) {
+        // Numbers are stored as doubles in element properties
+        if (value instanceof Number && !(value instanceof Double)) {
+            return Double.valueOf(((Number) value).doubleValue());
+        }
+        return value;
+    }
+}
@@ -478,4 +478,33 @@ public interface ElementStateProvider extends Serializable {
      */
     void addSynchronizedProperty(StateNode node, String property,
             DisabledUpdateMode mode);
+
+    /**
+     * Sets when the value of a synchronized property is sent from the client
+     * side to the server.
+     *
+     * @param node
+     *            the node containing the data
+     * @param property
+     *            the property name
+     * @param mode
+     *            the synchronization mode, not {@code null}
+     * @param timeout
+     *            the timeout of the mode in milliseconds, not negative
+     */
+    void setSynchronizedPropertyMode(StateNode node, String property,
+            PropertySyncMode mode, int timeout);
+
+    /**
+     * Gets when the value of a synchronized property is sent from the client
+     * side to the server.
+     *
+     * @param node
+     *            the node containing the data
+     * @param property
+     *            the property name
+     * @return the synchronization mode, not {@code null}
+     */
+    PropertySyncMode getSynchronizedPropertyMode(StateNode node,
+            String property);
 }
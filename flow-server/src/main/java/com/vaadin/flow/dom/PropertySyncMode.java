@@ -0,0 +1,82 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import com.vaadin.flow.shared.JsonConstants;
+
+/**
+ * Defines when the client sends the value of a synchronized property to the
+ * server after a synchronization event has been fired.
+ * <p>
+ * Regardless of the mode, only the latest value of the property is sent, and
+ * pending values are sent before any other message to the server so that the
+ * server always sees the latest value when handling e.g. a click event.
+ *
+ * @see Element#setSynchronizedPropertyMode(String, PropertySyncMode, int)
+ *
+ * @author Vaadin Ltd
+ */
+public enum PropertySyncMode {
+    /**
+     * The value is sent immediately for each synchronization event. This is
+     * the default mode.
+     */
+    IMMEDIATE(null),
+
+    /**
+     * The value is sent at most once per animation frame. This is useful for
+     * properties that change multiple times while handling a single user
+     * action.
+     */
+    COALESCE(JsonConstants.SYNC_MODE_COALESCE),
+
+    /**
+     * The value is sent immediately for the first event and then at most once
+     * per timeout period while events are being fired. The latest value is
+     * always sent at the end of the period. This is useful for cases such as
+     * sliders where periodic updates are wanted while the user is dragging.
+     */
+    THROTTLE(JsonConstants.SYNC_MODE_THROTTLE),
+
+    /**
+     * The value is sent once no events have been fired for the timeout
+     * period. This is useful for cases such as text input when you only want
+     * to react to the value when the user pauses typing.
+     */
+    DEBOUNCE(JsonConstants.SYNC_MODE_DEBOUNCE),
+
+    /**
+     * The value is sent when the browser is idle, but no later than after the
+     * timeout period. A timeout of 0 means that there is no upper limit.
+     */
+    IDLE(JsonConstants.SYNC_MODE_IDLE);
+
+    private final String identifier;
+
+    PropertySyncMode(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Gets the string that is used to identify this mode on the client side.
+     *
+     * @return the identifier string, or <code>null</code> for
+     *         {@link #IMMEDIATE}
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+}
@@ -30,6 +30,7 @@ import com.vaadin.flow.dom.ElementStateProvider;
 import com.vaadin.flow.dom.NodeVisitor;
 import com.vaadin.flow.dom.NodeVisitor.ElementType;
 import com.vaadin.flow.dom.PropertyChangeListener;
+import com.vaadin.flow.dom.PropertySyncMode;
 import com.vaadin.flow.dom.Style;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.server.AbstractStreamResource;
@@ -215,4 +216,16 @@ public abstract class AbstractTextElementStateProvider
             DisabledUpdateMode mode) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public void setSynchronizedPropertyMode(StateNode node, String property,
+            PropertySyncMode mode, int timeout) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public PropertySyncMode getSynchronizedPropertyMode(StateNode node,
+            String property) {
+        throw new UnsupportedOperationException();
+    }
 }
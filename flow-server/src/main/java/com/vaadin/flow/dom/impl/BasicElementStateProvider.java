@@ -32,6 +32,7 @@ import com.vaadin.flow.dom.ElementUtil;
 import com.vaadin.flow.dom.Node;
 import com.vaadin.flow.dom.NodeVisitor;
 import com.vaadin.flow.dom.PropertyChangeListener;
+import com.vaadin.flow.dom.PropertySyncMode;
 import com.vaadin.flow.dom.Style;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.AttachExistingElementFeature;
@@ -51,6 +52,7 @@ import com.vaadin.flow.internal.nodefeature.PolymerServerEventHandlers;
 import com.vaadin.flow.internal.nodefeature.ShadowRootData;
 import com.vaadin.flow.internal.nodefeature.SynchronizedPropertiesList;
 import com.vaadin.flow.internal.nodefeature.SynchronizedPropertyEventsList;
+import com.vaadin.flow.internal.nodefeature.SynchronizedPropertyModesMap;
 import com.vaadin.flow.internal.nodefeature.VirtualChildrenList;
 import com.vaadin.flow.server.AbstractStreamResource;
 import com.vaadin.flow.shared.Registration;
@@ -388,6 +390,30 @@ public class BasicElementStateProvider extends AbstractNodeStateProvider {
         node.getFeature(SynchronizedPropertiesList.class).add(property, mode);
     }
 
+    @Override
+    public void setSynchronizedPropertyMode(StateNode node, String property,
+            PropertySyncMode mode, int timeout) {
+        // The feature is only added when needed, since most elements only
+        // use the default mode
+        if (node.hasFeature(SynchronizedPropertyModesMap.class)) {
+            node.getFeature(SynchronizedPropertyModesMap.class)
+                    .setMode(property, mode, timeout);
+        } else if (mode != PropertySyncMode.IMMEDIATE) {
+            node.getOrCreateFeature(SynchronizedPropertyModesMap.class)
+                    .setMode(property, mode, timeout);
+        }
+    }
+
+    @Override
+    public PropertySyncMode getSynchronizedPropertyMode(StateNode node,
+            String property) {
+        if (!node.hasFeature(SynchronizedPropertyModesMap.class)) {
+            return PropertySyncMode.IMMEDIATE;
+        }
+        return node.getFeature(SynchronizedPropertyModesMap.class)
+                .getMode(property);
+    }
+
     @Override
     protected Node<?> getNode(StateNode node) {
         assert supports(node);
@@ -26,6 +26,7 @@ import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Node;
 import com.vaadin.flow.dom.NodeVisitor;
 import com.vaadin.flow.dom.PropertyChangeListener;
+import com.vaadin.flow.dom.PropertySyncMode;
 import com.vaadin.flow.dom.ShadowRoot;
 import com.vaadin.flow.dom.Style;
 import com.vaadin.flow.internal.StateNode;
@@ -185,6 +186,18 @@ public class ShadowRootStateProvider extends AbstractNodeStateProvider {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void setSynchronizedPropertyMode(StateNode node, String property,
+            PropertySyncMode mode, int timeout) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public PropertySyncMode getSynchronizedPropertyMode(StateNode node,
+            String property) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Set<String> getSynchronizedPropertyEvents(StateNode node) {
         throw new UnsupportedOperationException();
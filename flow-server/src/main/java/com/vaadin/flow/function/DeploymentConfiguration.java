@@ -263,6 +263,87 @@ public interface DeploymentConfiguration extends Serializable {
                 : getDevelopmentFrontendPrefix();
     }
 
+    /**
+     * Returns whether session locks should use a fair ordering policy, i.e.
+     * grant the lock to the longest waiting thread. A fair lock prevents
+     * starvation of requests at the cost of lower throughput under contention.
+     *
+     * @return <code>true</code> if session locks should be fair,
+     *         <code>false</code> otherwise
+     */
+    default boolean isSessionLockFair() {
+        return getBooleanProperty(Constants.SERVLET_PARAMETER_SESSION_LOCK_FAIR,
+                false);
+    }
+
+    /**
+     * Returns the maximum time in milliseconds a request waits for the session
+     * lock before the server responds that it is busy. A negative value means
+     * that requests wait for the lock indefinitely.
+     *
+     * @return the session lock timeout in milliseconds, or a negative value to
+     *         wait indefinitely
+     */
+    default long getSessionLockTimeout() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT, -1L,
+                Long::parseLong);
+    }
+
+    /**
+     * Returns the time in milliseconds after which a thread waiting for the
+     * session lock reports the thread holding the lock, along with its stack
+     * trace. A negative value disables reporting.
+     *
+     * @return the long wait threshold in milliseconds, or a negative value if
+     *         long waits are not reported
+     */
+    default long getSessionLockLongWaitThreshold() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_LONG_WAIT_THRESHOLD,
+                -1L, Long::parseLong);
+    }
+
+    /**
+     * Returns the number of platform threads used by the service executor when
+     * virtual threads are not used. A value less than one means that the
+     * number of available processors is used.
+     *
+     * @return the executor pool size, or a value less than one for the default
+     *         size
+     */
+    default int getExecutorPoolSize() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_EXECUTOR_POOL_SIZE, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns whether the service executor should run tasks on virtual threads
+     * when the Java runtime supports them.
+     *
+     * @return <code>true</code> if virtual threads should be used when
+     *         available, <code>false</code> to always use a platform thread pool
+     */
+    default boolean isExecutorVirtualThreads() {
+        return getBooleanProperty(
+                Constants.SERVLET_PARAMETER_EXECUTOR_VIRTUAL_THREADS, true);
+    }
+
+    /**
+     * Returns whether the initial content of the UI is rendered into the
+     * bootstrap page as static HTML. The client engine adopts the pre-rendered
+     * DOM instead of creating it, so the content is visible before the client
+     * engine has been loaded.
+     *
+     * @return <code>true</code> if the initial content is pre-rendered,
+     *         <code>false</code> otherwise
+     */
+    default boolean isPreRender() {
+        return getBooleanProperty(Constants.SERVLET_PARAMETER_PRE_RENDER,
+                false);
+    }
+
     /**
      * Determines if webJars mechanism is enabled. It is disabled if the user
      * have explicitly set the {@link Constants#DISABLE_WEBJARS} property to
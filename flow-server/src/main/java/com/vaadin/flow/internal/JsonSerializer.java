@@ -16,9 +16,14 @@
 package com.vaadin.flow.internal;
 
 import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -30,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.vaadin.flow.component.JsonSerializable;
 
@@ -46,9 +52,168 @@ import elemental.json.JsonValue;
  */
 public final class JsonSerializer {
 
+    private static final ReflectionCache<Object, BeanCodec> BEAN_CODECS = new ReflectionCache<>(
+            BeanCodec::new);
+
+    /**
+     * The bean properties of a class along with accessors and value converters
+     * that are resolved once for each class instead of for every conversion.
+     */
+    private static class BeanCodec {
+        private final PropertyReader[] readers;
+        private final Map<String, PropertyWriter> writers = new HashMap<>();
+
+        private BeanCodec(Class<?> type) {
+            BeanInfo info;
+            try {
+                info = Introspector.getBeanInfo(type);
+            } catch (IntrospectionException e) {
+                throw new IllegalArgumentException(
+                        "Could not introspect bean type " + type, e);
+            }
+
+            List<PropertyReader> readerList = new ArrayList<>();
+            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
+                Method reader = pd.getReadMethod();
+                if (reader != null && !"class".equals(pd.getName())) {
+                    readerList.add(new PropertyReader(pd.getName(), reader));
+                }
+                Method writer = pd.getWriteMethod();
+                if (writer != null) {
+                    writers.put(pd.getName(), new PropertyWriter(writer));
+                }
+            }
+            readers = readerList.toArray(new PropertyReader[readerList.size()]);
+        }
+
+        private JsonObject write(Object bean) throws Exception {
+            JsonObject json = Json.createObject();
+            for (PropertyReader reader : readers) {
+                json.put(reader.name, reader.read(bean));
+            }
+            return json;
+        }
+
+        private void read(Object instance, JsonObject json, String[] keys)
+                throws Exception {
+            for (String key : keys) {
+                PropertyWriter writer = writers.get(key);
+                if (writer != null) {
+                    writer.write(instance, json.get(key));
+                }
+            }
+        }
+    }
+
+    private static class PropertyReader {
+        private final String name;
+        private final Method method;
+        private final MethodHandle getter;
+        private final Function<Object, JsonValue> encoder;
+
+        private PropertyReader(String name, Method method) {
+            this.name = name;
+            this.method = method;
+            getter = unreflect(method,
+                    MethodType.methodType(Object.class, Object.class));
+            encoder = createEncoder(method.getReturnType());
+        }
+
+        private JsonValue read(Object bean) throws Exception {
+            Object value;
+            if (getter == null) {
+                value = method.invoke(bean);
+            } else {
+                try {
+                    value = getter.invokeExact(bean);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+            return encoder.apply(value);
+        }
+    }
+
+    private static class PropertyWriter {
+        private final Method method;
+        private final MethodHandle setter;
+        private final Function<JsonValue, ?> decoder;
+
+        private PropertyWriter(Method method) {
+            this.method = method;
+            setter = unreflect(method, MethodType.methodType(void.class,
+                    Object.class, Object.class));
+            decoder = createDecoder(method.getParameterTypes()[0],
+                    method.getGenericParameterTypes()[0]);
+        }
+
+        private void write(Object instance, JsonValue json) throws Exception {
+            Object value = decoder.apply(json);
+            if (setter == null) {
+                method.invoke(instance, value);
+                return;
+            }
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
     private JsonSerializer() {
     }
 
+    /*
+     * Returns null if the method is not accessible, in which case the
+     * reflective invocation is used to fail in the same way as before caching.
+     */
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Function<Object, JsonValue> createEncoder(Class<?> type) {
+        if (JsonSerializable.class.isAssignableFrom(type)) {
+            return JsonSerializer::toJson;
+        }
+        if (type == String.class) {
+            return value -> value == null ? Json.createNull()
+                    : Json.create((String) value);
+        }
+        if (type == boolean.class) {
+            return value -> Json.create((Boolean) value);
+        }
+        if (type == char.class) {
+            return value -> Json.create(value.toString());
+        }
+        if (type.isPrimitive()) {
+            return value -> Json.create(((Number) value).doubleValue());
+        }
+        if (type.isEnum()) {
+            return value -> value == null ? Json.createNull()
+                    : Json.create(((Enum<?>) value).name());
+        }
+        return JsonSerializer::toJson;
+    }
+
+    private static Function<JsonValue, ?> createDecoder(Class<?> type,
+            Type genericType) {
+        Function<JsonValue, ?> simpleTypeDecoder = findSimpleTypeDecoder(type);
+        if (simpleTypeDecoder == null) {
+            return json -> toObject(type, genericType, json);
+        }
+        return json -> json == null || json instanceof JsonNull ? null
+                : simpleTypeDecoder.apply(json);
+    }
+
     /**
      * Converts a Java bean, {@link JsonSerializable} instance, String, wrapper
      * of primitive type or enum to a {@link JsonValue}.
@@ -79,19 +244,7 @@ public final class JsonSerializer {
         }
 
         try {
-            JsonObject json = Json.createObject();
-            BeanInfo info = Introspector.getBeanInfo(bean.getClass());
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                if ("class".equals(pd.getName())) {
-                    continue;
-                }
-                Method reader = pd.getReadMethod();
-                if (reader != null) {
-                    json.put(pd.getName(), toJson(reader.invoke(bean)));
-                }
-            }
-
-            return json;
+            return BEAN_CODECS.get(bean.getClass()).write(bean);
         } catch (Exception e) {
             throw new IllegalArgumentException(
                     "Could not serialize object of type " + bean.getClass()
@@ -210,28 +363,7 @@ public final class JsonSerializer {
                 return instance;
             }
 
-            BeanInfo info = Introspector.getBeanInfo(type);
-            Map<String, Method> writers = new HashMap<>();
-
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                Method writer = pd.getWriteMethod();
-                if (writer != null) {
-                    writers.put(pd.getName(), writer);
-                }
-            }
-            for (String key : keys) {
-                JsonValue jsonValue = jsonObject.get(key);
-
-                Method method = writers.get(key);
-                if (method != null) {
-                    Class<?> parameterType = method.getParameterTypes()[0];
-                    Type genericParameterType = method
-                            .getGenericParameterTypes()[0];
-                    Object value = toObject(parameterType, genericParameterType,
-                            jsonValue);
-                    method.invoke(instance, value);
-                }
-            }
+            BEAN_CODECS.get(type).read(instance, jsonObject, keys);
 
             return instance;
         } catch (Exception e) {
@@ -294,46 +426,55 @@ public final class JsonSerializer {
 
     private static Optional<?> tryToConvertFromSimpleType(Class<?> type,
             JsonValue json) {
+        Function<JsonValue, ?> decoder = findSimpleTypeDecoder(type);
+        if (decoder == null) {
+            return Optional.empty();
+        }
+        return Optional.of(decoder.apply(json));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<JsonValue, ?> findSimpleTypeDecoder(
+            Class<?> type) {
         if (type.isAssignableFrom(String.class)) {
-            return Optional.of(json.asString());
+            return JsonValue::asString;
         }
         if (type.isAssignableFrom(int.class)
                 || type.isAssignableFrom(Integer.class)) {
-            return Optional.of((int) json.asNumber());
+            return json -> (int) json.asNumber();
         }
         if (type.isAssignableFrom(double.class)
                 || type.isAssignableFrom(Double.class)) {
-            return Optional.of(json.asNumber());
+            return JsonValue::asNumber;
         }
         if (type.isAssignableFrom(long.class)
                 || type.isAssignableFrom(Long.class)) {
-            return Optional.of((long) json.asNumber());
+            return json -> (long) json.asNumber();
         }
         if (type.isAssignableFrom(short.class)
                 || type.isAssignableFrom(Short.class)) {
-            return Optional.of((short) json.asNumber());
+            return json -> (short) json.asNumber();
         }
         if (type.isAssignableFrom(byte.class)
                 || type.isAssignableFrom(Byte.class)) {
-            return Optional.of((byte) json.asNumber());
+            return json -> (byte) json.asNumber();
         }
         if (type.isAssignableFrom(char.class)
                 || type.isAssignableFrom(Character.class)) {
-            return Optional.of(json.asString().charAt(0));
+            return json -> json.asString().charAt(0);
         }
         if (type.isAssignableFrom(Boolean.class)
                 || type.isAssignableFrom(boolean.class)) {
-            return Optional.of(json.asBoolean());
+            return JsonValue::asBoolean;
         }
         if (type.isEnum()) {
-            return Optional.of(Enum.valueOf((Class<? extends Enum>) type,
-                    json.asString()));
+            return json -> Enum.valueOf((Class<? extends Enum>) type,
+                    json.asString());
         }
         if (JsonValue.class.isAssignableFrom(type)) {
-            return Optional.of(json);
+            return json -> json;
         }
-        return Optional.empty();
-
+        return null;
     }
 
     private static Collection<?> tryToCreateCollection(Class<?> collectionType,
@@ -80,6 +80,9 @@ public class StateNode implements Serializable {
 
     private boolean isInactiveSelf;
 
+    // Whether changes are not tracked until the node is attached
+    private boolean changeTrackingSuspended;
+
     private boolean isInitialChanges = true;
 
     private ArrayList<StateTree.BeforeClientResponseEntry> beforeClientResponseEntries;
@@ -198,6 +201,11 @@ public class StateNode implements Serializable {
             }
         }
 
+        if (parent != null && parent.changeTrackingSuspended
+                && !attachedAfter) {
+            suspendChangeTracking();
+        }
+
         if (!attachedBefore && attachedAfter) {
             this.parent = parent;
             onAttach();
@@ -289,6 +297,24 @@ public class StateNode implements Serializable {
         return featureType.cast(feature);
     }
 
+    /**
+     * Gets the feature of the given type, adding it to this node first if the
+     * node does not yet contain it. This is used for features that only a few
+     * nodes need, so that the feature is not allocated for every node.
+     *
+     * @param <T>
+     *            the desired feature type
+     * @param featureType
+     *            the desired feature type, not <code>null</code>
+     * @return a feature instance, not <code>null</code>
+     */
+    public <T extends NodeFeature> T getOrCreateFeature(Class<T> featureType) {
+        assert featureType != null;
+
+        addFeature(featureType);
+        return getFeature(featureType);
+    }
+
     /**
      * Checks whether this node contains a feature.
      *
@@ -307,6 +333,10 @@ public class StateNode implements Serializable {
      * Gets the id of this node. The id is unique within the state tree that the
      * node belongs to. The id is 0 if the node does not belong to any state
      * tree.
+     * <p>
+     * The ids of detached nodes are reused for other nodes once the client has
+     * been informed about the detach. A node that is attached again after that
+     * gets a new id.
      *
      * @see StateTree#getNodeById(int)
      *
@@ -322,7 +352,47 @@ public class StateNode implements Serializable {
      * @see StateTree#collectDirtyNodes()
      */
     public void markAsDirty() {
-        owner.markAsDirty(this);
+        if (!changeTrackingSuspended) {
+            owner.markAsDirty(this);
+        }
+    }
+
+    /**
+     * Stops tracking changes for this node and its descendants until they are
+     * attached. Nodes that are later added as descendants of this node while
+     * it is detached are also not tracked.
+     * <p>
+     * All values of a node are sent to the client when it is attached for the
+     * first time, so the individual changes made before that are not needed.
+     * Nodes that have been attached earlier keep tracking their changes, since
+     * the client may still have them.
+     *
+     * @throws IllegalStateException
+     *             if this node is attached
+     */
+    public void suspendChangeTracking() {
+        if (isAttached()) {
+            throw new IllegalStateException(
+                    "Can't suspend change tracking for an attached node");
+        }
+        visitNodeTree(node -> {
+            if (!node.wasAttached) {
+                node.changeTrackingSuspended = true;
+                node.changes = null;
+            }
+        });
+    }
+
+    /**
+     * Checks whether changes to this node are tracked.
+     *
+     * @see #suspendChangeTracking()
+     *
+     * @return <code>true</code> if changes are tracked, <code>false</code> if
+     *         tracking is suspended until the node is attached
+     */
+    public boolean isTrackingChanges() {
+        return !changeTrackingSuspended;
     }
 
     /**
@@ -499,6 +569,8 @@ public class StateNode implements Serializable {
         assert isAttached();
         boolean initialAttach = false;
 
+        changeTrackingSuspended = false;
+
         int newId = owner.register(this);
 
         if (newId != -1) {
@@ -507,8 +579,9 @@ public class StateNode implements Serializable {
                 id = newId;
                 initialAttach = true;
             } else if (newId != id) {
-                throw new IllegalStateException(
-                        "Can't change id once it has been assigned");
+                // The old id has been released to the client and may have
+                // been reused, so the client sees this as a new node
+                id = newId;
             }
 
         }
@@ -16,6 +16,9 @@
 
 package com.vaadin.flow.internal;
 
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -120,10 +123,39 @@ public class StateTree implements NodeOwner {
 
     private Set<StateNode> dirtyNodes = new LinkedHashSet<>();
 
-    private final Map<Integer, StateNode> idToNode = new HashMap<>();
+    /**
+     * Ids released by unregistered nodes that have been sent to the client in
+     * the response with the given sync id.
+     */
+    private static final class ReleasedIds implements Serializable {
+        private final int syncId;
+        private final int[] ids;
+
+        private ReleasedIds(int syncId, int[] ids) {
+            this.syncId = syncId;
+            this.ids = ids;
+        }
+    }
+
+    // Registered nodes indexed by their id
+    private StateNode[] idToNode = new StateNode[64];
 
     private int nextId = 1;
 
+    // Nodes unregistered since changes were last collected, by released id
+    private final Map<Integer, StateNode> unsentReleasedNodes = new HashMap<>();
+
+    // Ids of nodes unregistered before changes were last collected, waiting
+    // for the sync id of the response
+    private int[] sentReleasedIds = new int[16];
+    private int sentReleasedIdCount;
+
+    private final ArrayDeque<ReleasedIds> unconfirmedReleasedIds = new ArrayDeque<>();
+
+    // Ids that the client has confirmed as unregistered and can be reused
+    private int[] freeIds = new int[16];
+    private int freeIdCount;
+
     private Set<StateNode> pendingExecutionNodes = new HashSet<>();
 
     private int nextBeforeClientResponseIndex = 1;
@@ -165,18 +197,24 @@ public class StateTree implements NodeOwner {
         int id = node.getId();
 
         int nodeId;
-        if (id > 0 && !idToNode.containsKey(id)) {
-            // Node already had an id, continue using it
-
-            // Don't accept an id that we haven't yet handed out
-            assert id < nextId;
+        if (id > 0 && unsentReleasedNodes.get(id) == node) {
+            // Node was detached and attached again before the client was
+            // informed, continue using the same id
+            unsentReleasedNodes.remove(id);
 
             nodeId = id;
+        } else if (freeIdCount > 0) {
+            nodeId = freeIds[--freeIdCount];
         } else {
             nodeId = nextId++;
         }
 
-        idToNode.put(nodeId, node);
+        if (nodeId >= idToNode.length) {
+            idToNode = Arrays.copyOf(idToNode,
+                    Math.max(nodeId + 1, idToNode.length * 2));
+        }
+        assert idToNode[nodeId] == null;
+        idToNode[nodeId] = node;
 
         if (node.hasBeforeClientResponseEntries()) {
             pendingExecutionNodes.add(node);
@@ -189,19 +227,14 @@ public class StateTree implements NodeOwner {
     public void unregister(StateNode node) {
         assert node.getOwner() == this;
 
-        Integer id = node.getId();
-
-        StateNode removedNode = idToNode.remove(id);
+        int id = node.getId();
 
-        if (removedNode != node) {
-            // Remove by id didn't remove the expected node
-            if (removedNode != null) {
-                // Put the old node back
-                idToNode.put(removedNode.getId(), removedNode);
-            }
+        if (getNodeById(id) != node) {
             throw new IllegalStateException(
                     "Unregistered node was not found based on its id. The tree is most likely corrupted.");
         }
+        idToNode[id] = null;
+        unsentReleasedNodes.put(id, node);
 
         pendingExecutionNodes.remove(node);
     }
@@ -209,7 +242,7 @@ public class StateTree implements NodeOwner {
     @Override
     public boolean hasNode(StateNode node) {
         assert node.getOwner() == this;
-        return idToNode.containsKey(node.getId());
+        return getNodeById(node.getId()) == node;
     }
 
     /**
@@ -222,7 +255,55 @@ public class StateTree implements NodeOwner {
      *         registered with this tree
      */
     public StateNode getNodeById(int id) {
-        return idToNode.get(id);
+        if (id < 0 || id >= idToNode.length) {
+            return null;
+        }
+        return idToNode[id];
+    }
+
+    /**
+     * Marks the ids of the nodes unregistered before changes were last
+     * collected as sent to the client in the response with the given sync id.
+     * <p>
+     * The ids are reused for new nodes once the client has confirmed that it
+     * has handled the response, see {@link #confirmReleasedIds(int)}. Ids are
+     * never reused if the sync id is <code>-1</code>, since the client cannot
+     * confirm them in that case.
+     *
+     * @param syncId
+     *            the server sync id of the response, or <code>-1</code> if
+     *            sync ids are not in use
+     */
+    public void markReleasedIdsSent(int syncId) {
+        if (sentReleasedIdCount == 0) {
+            return;
+        }
+        if (syncId != -1) {
+            unconfirmedReleasedIds.add(new ReleasedIds(syncId,
+                    Arrays.copyOf(sentReleasedIds, sentReleasedIdCount)));
+        }
+        sentReleasedIdCount = 0;
+    }
+
+    /**
+     * Makes the ids of unregistered nodes available for new nodes when the
+     * client has handled the response in which they were sent. After that, the
+     * client can no longer refer to the unregistered nodes in its messages.
+     *
+     * @param syncId
+     *            the last server sync id seen by the client
+     */
+    public void confirmReleasedIds(int syncId) {
+        while (!unconfirmedReleasedIds.isEmpty()
+                && unconfirmedReleasedIds.peek().syncId <= syncId) {
+            int[] ids = unconfirmedReleasedIds.poll().ids;
+            if (freeIdCount + ids.length > freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds,
+                        Math.max(freeIdCount + ids.length, freeIds.length * 2));
+            }
+            System.arraycopy(ids, 0, freeIds, freeIdCount, ids.length);
+            freeIdCount += ids.length;
+        }
     }
 
     /**
@@ -240,6 +321,18 @@ public class StateTree implements NodeOwner {
         // TODO fire preCollect events
 
         dirtyNodesSet.forEach(node -> node.collectChanges(collector));
+
+        // The client is informed about the unregistered nodes in this batch
+        unsentReleasedNodes.keySet().forEach(this::addSentReleasedId);
+        unsentReleasedNodes.clear();
+    }
+
+    private void addSentReleasedId(int id) {
+        if (sentReleasedIdCount == sentReleasedIds.length) {
+            sentReleasedIds = Arrays.copyOf(sentReleasedIds,
+                    sentReleasedIds.length * 2);
+        }
+        sentReleasedIds[sentReleasedIdCount++] = id;
     }
 
     @Override
@@ -20,10 +20,12 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,10 +34,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.dom.ElementPropertyDefaults;
 import com.vaadin.flow.dom.PropertyChangeEvent;
 import com.vaadin.flow.dom.PropertyChangeListener;
 import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.change.MapRemoveChange;
+import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.templatemodel.AllowClientUpdates;
 
@@ -54,6 +59,10 @@ public class ElementPropertyMap extends AbstractPropertyMap {
 
     private SerializablePredicate<String> updateFromClientFilter = null;
 
+    // Properties removed on the client side, which means that the client no
+    // longer has the default value of the property
+    private Set<String> removedOnClient;
+
     /**
      * Creates a new element property map for the given node.
      *
@@ -222,6 +231,55 @@ public class ElementPropertyMap extends AbstractPropertyMap {
         }
     }
 
+    @Override
+    public void collectChanges(Consumer<NodeChange> collector) {
+        if (getPropertyDefaultsTag() == null) {
+            super.collectChanges(collector);
+            return;
+        }
+        super.collectChanges(change -> {
+            if (change instanceof MapRemoveChange) {
+                if (removedOnClient == null) {
+                    removedOnClient = new HashSet<>();
+                }
+                removedOnClient.add(((MapRemoveChange) change).getKey());
+            }
+            collector.accept(change);
+        });
+    }
+
+    @Override
+    public void generateChangesFromEmpty() {
+        // A new client side element has the default values
+        removedOnClient = null;
+        super.generateChangesFromEmpty();
+    }
+
+    @Override
+    protected boolean isInitialValueOnClient(String key, Object value) {
+        String tag = getPropertyDefaultsTag();
+        return tag != null
+                && (removedOnClient == null || !removedOnClient.contains(key))
+                && ElementPropertyDefaults.isDefault(tag, key, value);
+    }
+
+    /**
+     * Gets the tag to use for looking up property defaults, or
+     * <code>null</code> if the client side element may not have the default
+     * values, e.g. because it's an existing element from a template.
+     */
+    private String getPropertyDefaultsTag() {
+        StateNode node = getNode();
+        if (!node.hasFeature(ElementData.class)) {
+            return null;
+        }
+        ElementData data = node.getFeature(ElementData.class);
+        if (data.getPayload() != null) {
+            return null;
+        }
+        return data.getTag();
+    }
+
     @Override
     protected boolean mayUpdateFromClient(String key, Serializable value) {
         if (forbiddenProperties.contains(key)) {
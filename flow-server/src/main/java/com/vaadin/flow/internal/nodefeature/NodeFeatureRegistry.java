@@ -84,6 +84,8 @@ public class NodeFeatureRegistry {
                 AttachExistingElementFeature::new);
         registerFeature(BasicTypeValue.class, BasicTypeValue::new);
         registerFeature(VirtualChildrenList.class, VirtualChildrenList::new);
+        registerFeature(SynchronizedPropertyModesMap.class,
+                SynchronizedPropertyModesMap::new);
     }
 
     private NodeFeatureRegistry() {
@@ -141,6 +141,11 @@ public final class NodeFeatures {
      */
     public static final int VIRTUAL_CHILDREN = 25;
 
+    /**
+     * Id for {@link SynchronizedPropertyModesMap}.
+     */
+    public static final int SYNCHRONIZED_PROPERTY_MODES = 26;
+
     private NodeFeatures() {
         // Only static
     }
@@ -21,17 +21,15 @@ import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.IdentityHashMap;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.vaadin.flow.internal.StateNode;
-import com.vaadin.flow.internal.change.AbstractListChange;
 import com.vaadin.flow.internal.change.EmptyChange;
 import com.vaadin.flow.internal.change.ListAddChange;
 import com.vaadin.flow.internal.change.ListClearChange;
@@ -51,8 +49,6 @@ import com.vaadin.flow.internal.change.NodeChange;
 public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
     private final class NodeListIterator implements Iterator<T> {
-        private int index = -1;
-        private T current;
         private Iterator<T> arrayIterator = values.iterator();
 
         @Override
@@ -62,16 +58,36 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
         @Override
         public T next() {
-            index++;
-            current = arrayIterator.next();
-            return current;
+            return arrayIterator.next();
         }
 
         @Override
         public void remove() {
+            trackChange(false);
             arrayIterator.remove();
-            addChange(new ListRemoveChange<>(NodeList.this, index, current));
-            index--;
+        }
+    }
+
+    /**
+     * Tracks the changes made to a list since changes were last collected.
+     * Instead of recording each operation, the tracker remembers the items
+     * known by the client, and the changes are computed by comparing those to
+     * the current items when collected.
+     */
+    private static final class ListChangeTracker<T> implements Serializable {
+        // Number of items known by the client while only appending
+        private int originalSize;
+        // The items known by the client, or null if items have only been
+        // appended after them
+        private List<T> originalItems;
+
+        private ListChangeTracker(int originalSize) {
+            this.originalSize = originalSize;
+        }
+
+        private void reset() {
+            originalSize = 0;
+            originalItems = null;
         }
     }
 
@@ -211,15 +227,10 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
             return;
         }
 
-        List<? extends T> itemsList = new ArrayList<>(items);
-
         ensureValues();
 
-        int startIndex = values.size();
-        values.addAll(itemsList);
-
-        addChange(new ListAddChange<>(this, isNodeValues(), startIndex,
-                itemsList));
+        trackChange(true);
+        values.addAll(items);
     }
 
     /**
@@ -232,10 +243,9 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
      */
     protected void add(int index, T item) {
         ensureValues();
-        values.add(index, item);
 
-        addChange(new ListAddChange<>(this, isNodeValues(), index,
-                Collections.singletonList(item)));
+        trackChange(index == values.size());
+        values.add(index, item);
     }
 
     /**
@@ -250,35 +260,41 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
             throw new IndexOutOfBoundsException();
         }
 
+        trackChange(false);
         T removed = values.remove(index);
 
-        addChange(new ListRemoveChange<>(this, index, removed));
-
         if (values.isEmpty()) {
             values = null;
         }
         return removed;
     }
 
+    private ListChangeTracker<T> getChangeTracker() {
+        return getNode().getChangeTracker(this,
+                () -> new ListChangeTracker<>(size()));
+    }
+
     /**
-     * Gets or creates the list used to track changes that should be sent to the
-     * client.
-     * <p>
-     * This method is non-private for testing purposes.
+     * Records that the list is about to be changed. Must be called before
+     * changing the items.
      *
-     * @return the list to track changes in
+     * @param append
+     *            <code>true</code> if items are added to the end of the list,
+     *            <code>false</code> for any other change
      */
-    protected List<AbstractListChange<T>> getChangeTracker() {
-        return getNode().getChangeTracker(this, ArrayList::new);
-    }
+    private void trackChange(boolean append) {
+        if (!getNode().isTrackingChanges()) {
+            return;
+        }
 
-    private void addChange(AbstractListChange<T> change) {
         getNode().markAsDirty();
 
-        // XXX combine with previous changes if possible
-        getChangeTracker().add(change);
-
-        // TODO Fire some listeners
+        ListChangeTracker<T> tracker = getChangeTracker();
+        if (!append && tracker.originalItems == null) {
+            // The items known by the client are still at the start of the list
+            tracker.originalItems = values == null ? new ArrayList<>()
+                    : new ArrayList<>(values.subList(0, tracker.originalSize));
+        }
     }
 
     private void setAccessed() {
@@ -287,93 +303,188 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
     @Override
     public void collectChanges(Consumer<NodeChange> collector) {
-        boolean hasRemoveAll = false;
-
-        // This map contains items wrapped by AbstractListChanges as keys and
-        // index in the following allChanges list as a value (it allows to get
-        // AbstractListChange by the index)
-        Map<Object, Integer> indices = new IdentityHashMap<>();
-
-        // This list contains all changes in the tracker. These changes will be
-        // modified: each "remove" change following by a corresponding "add"
-        // will be replaced by null and "add" will be adjusted. Indeces in
-        // changes in between will be adjusted
-        List<AbstractListChange<T>> allChanges = new ArrayList<>();
-        int index = 0;
-        for (AbstractListChange<T> change : getChangeTracker()) {
-            if (change instanceof ListRemoveChange<?>) {
-                // the remove change => find an appropriate "add" event, adjust
-                // it and adjust everything in between
-                adjustChanges(index, (ListRemoveChange<T>) change, indices,
-                        allChanges);
-            } else if (change instanceof ListAddChange<?>) {
-                allChanges.add(change);
-                int i = index;
-                // put all items into "indeces" as keys and "index" as a value
-                // so that the "change" can be retrieved from the "allChanges"
-                // by the index
-                ((ListAddChange<T>) change).getNewItems()
-                        .forEach(item -> indices.put(item, i));
-            } else if (change instanceof ListClearChange<?>) {
-                hasRemoveAll = true;
-                allChanges.clear();
-                allChanges.add(change);
-            } else {
-                assert false : "AbstractListChange has only three subtypes: add, remove and clear";
+        boolean hasChanges = false;
+
+        if (isRemoveAllCalled) {
+            collector.accept(new ListClearChange<T>(this));
+            hasChanges = true;
+            isRemoveAllCalled = false;
+        }
+
+        ListChangeTracker<T> tracker = getChangeTracker();
+        if (tracker.originalItems == null) {
+            int size = size();
+            if (size > tracker.originalSize) {
+                collector.accept(new ListAddChange<>(this, isNodeValues(),
+                        tracker.originalSize, new ArrayList<>(
+                                values.subList(tracker.originalSize, size))));
+                hasChanges = true;
             }
-            index++;
+        } else {
+            hasChanges |= collectDifference(tracker.originalItems, collector);
         }
 
-        List<AbstractListChange<T>> changes;
+        if (!hasChanges && !isPopulated) {
+            collector.accept(new EmptyChange(this));
+        }
+        isPopulated = true;
+    }
 
-        if (isRemoveAllCalled && !hasRemoveAll) {
-            changes = Stream
-                    .concat(Stream.of(new ListClearChange<T>(this)),
-                            allChanges.stream())
-                    .filter(this::acceptChange).collect(Collectors.toList());
-        } else {
-            changes = allChanges.stream().filter(this::acceptChange)
-                    .collect(Collectors.toList());
+    /**
+     * Collects the changes needed to turn the items known by the client into
+     * the current items.
+     * <p>
+     * Unchanged items at the start and end of the list are skipped. Of the
+     * remaining items, the longest sequence of items that are in the same
+     * relative order in both lists stays in place. All other items are removed
+     * and then added in their new place, with consecutive added items in the
+     * same change.
+     */
+    private boolean collectDifference(List<T> original,
+            Consumer<NodeChange> collector) {
+        List<T> current = values == null ? Collections.emptyList() : values;
+
+        int start = 0;
+        int originalEnd = original.size();
+        int currentEnd = current.size();
+        while (start < originalEnd && start < currentEnd
+                && Objects.equals(original.get(start), current.get(start))) {
+            start++;
+        }
+        while (originalEnd > start && currentEnd > start
+                && Objects.equals(original.get(originalEnd - 1),
+                        current.get(currentEnd - 1))) {
+            originalEnd--;
+            currentEnd--;
+        }
+        if (start == originalEnd && start == currentEnd) {
+            return false;
         }
 
-        isRemoveAllCalled = false;
+        int originalCount = originalEnd - start;
+        int currentCount = currentEnd - start;
+
+        // Equal original items are chained so that each current item is
+        // matched with the first unmatched equal original item
+        Map<T, Integer> firstUnmatched = new HashMap<>(
+                originalCount * 4 / 3 + 1);
+        int[] nextEqual = new int[originalCount];
+        for (int i = originalCount - 1; i >= 0; i--) {
+            Integer next = firstUnmatched.put(original.get(start + i), i);
+            nextEqual[i] = next == null ? -1 : next;
+        }
 
-        if (isPopulated) {
-            changes.forEach(collector);
-        } else {
-            if (changes.isEmpty()) {
-                collector.accept(new EmptyChange(this));
+        // Index of the matching original item for each current item, or -1
+        int[] originalIndices = new int[currentCount];
+        for (int i = 0; i < currentCount; i++) {
+            T item = current.get(start + i);
+            Integer match = firstUnmatched.get(item);
+            if (match == null) {
+                originalIndices[i] = -1;
             } else {
-                changes.forEach(collector);
+                originalIndices[i] = match;
+                if (nextEqual[match] == -1) {
+                    firstUnmatched.remove(item);
+                } else {
+                    firstUnmatched.put(item, nextEqual[match]);
+                }
             }
-            isPopulated = true;
         }
-    }
 
-    private boolean acceptChange(AbstractListChange<T> change) {
-        if (change == null) {
-            return false;
+        boolean[] keptOriginal = new boolean[originalCount];
+        boolean[] keptCurrent = new boolean[currentCount];
+        markLongestIncreasingSubsequence(originalIndices, keptOriginal,
+                keptCurrent);
+
+        int removed = 0;
+        for (int i = 0; i < originalCount; i++) {
+            if (!keptOriginal[i]) {
+                collector.accept(new ListRemoveChange<>(this,
+                        start + i - removed, original.get(start + i)));
+                removed++;
+            }
         }
-        if (change instanceof ListAddChange<?>) {
-            return !((ListAddChange<?>) change).isEmpty();
+
+        int i = 0;
+        while (i < currentCount) {
+            if (keptCurrent[i]) {
+                i++;
+                continue;
+            }
+            int addStart = i;
+            while (i < currentCount && !keptCurrent[i]) {
+                i++;
+            }
+            collector.accept(new ListAddChange<>(this, isNodeValues(),
+                    start + addStart, new ArrayList<>(
+                            current.subList(start + addStart, start + i))));
         }
         return true;
     }
 
+    /**
+     * Marks the items in a longest strictly increasing subsequence of the
+     * given indices. Negative indices are skipped. Of subsequences with the
+     * same length, the one ending first is used, so that an item moved
+     * towards the end is the one that is moved.
+     */
+    private static void markLongestIncreasingSubsequence(int[] indices,
+            boolean[] keptIndices, boolean[] keptPositions) {
+        int count = indices.length;
+        // Position of the smallest last item of a subsequence of each length
+        int[] tails = new int[count];
+        int[] previous = new int[count];
+        int[] lengths = new int[count];
+        int longest = 0;
+        for (int i = 0; i < count; i++) {
+            int index = indices[i];
+            if (index < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = longest;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (indices[tails[middle]] < index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            lengths[i] = low + 1;
+            if (low == longest) {
+                longest++;
+            }
+        }
+        if (longest == 0) {
+            return;
+        }
+
+        int position = 0;
+        while (lengths[position] != longest) {
+            position++;
+        }
+        while (position != -1) {
+            keptPositions[position] = true;
+            keptIndices[indices[position]] = true;
+            position = previous[position];
+        }
+    }
+
     @Override
     public void forEachChild(Consumer<StateNode> action) {
     }
 
     @Override
     public void generateChangesFromEmpty() {
-        if (values != null) {
-            assert !values.isEmpty();
-            getChangeTracker().add(new ListAddChange<>(this, isNodeValues(), 0,
-                    new ArrayList<>(values)));
-        } else if (!isPopulated) {
-            // make change tracker available so that an empty change can be
+        assert values == null || !values.isEmpty();
+        if (values != null || !isPopulated) {
+            // All items are reported as added. If there are no items, the
+            // change tracker is still needed so that an empty change can be
             // reported
-            getChangeTracker();
+            getChangeTracker().reset();
         }
     }
 
@@ -397,7 +508,11 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         }
 
         isRemoveAllCalled = true;
-        addChange(new ListClearChange<T>(this));
+        if (getNode().isTrackingChanges()) {
+            getNode().markAsDirty();
+            // The client has no items after the clear change
+            getChangeTracker().reset();
+        }
     }
 
     /**
@@ -427,56 +542,4 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         return new NodeListIterator();
     }
 
-    private void adjustChanges(int removeChangeIndex,
-            ListRemoveChange<T> change, Map<Object, Integer> indices,
-            List<AbstractListChange<T>> allChanges) {
-        T removedItem = change.getRemovedItem();
-        // retrieve index of the item (it's supposed to be the index of an Add
-        // change)
-        Integer addChangeIndex = indices.get(removedItem);
-        if (addChangeIndex == null) {
-            // if there is no suitable "add" change then just add "remove"
-            // change as is
-            allChanges.add(change);
-        } else {
-            // retrieve the "add" change by the index
-            AbstractListChange<T> addChange = allChanges.get(addChangeIndex);
-            assert addChange instanceof ListAddChange<?>;
-
-            ListAddChange<T> add = (ListAddChange<T>) addChange;
-            // "add" change has to be adjusted : we need to remove "removedItem"
-            // from it
-            int indexToCorrect = add.getNewItems().indexOf(removedItem);
-            assert indexToCorrect != -1;
-            indexToCorrect += add.getIndex();
-            // replace "add" change whose index is "addChangeIndex" with a new
-            // change which is the copy of the original one but has newItems
-            allChanges.set(addChangeIndex,
-                    add.copy(add.getNewItems().stream()
-                            .filter(item -> item != removedItem)
-                            .collect(Collectors.toList())));
-
-            // now go through all the changes in between "add" and "remove" and
-            // reindex them
-            for (int i = addChangeIndex + 1; i < removeChangeIndex; i++) {
-                AbstractListChange<T> listChange = allChanges.get(i);
-                // listChange can be null for handled "removed" changes ( see
-                // the code below the cycle)
-                if (listChange != null
-                        && listChange.getIndex() > indexToCorrect) {
-                    // make a copy with the adjusted index in case change has an
-                    // index which is greater than index of the discarded item
-                    allChanges.set(i,
-                            listChange.copy(listChange.getIndex() - 1));
-                    // listChange can't be ListRemoveChange actually here since
-                    // it has to have the index greater than "indexToCorrect".
-                    // But it means that there was a corresponding ListAddChange
-                    // which has been already adjusted previously and the
-                    // "remove" has been replaced with "null".
-                }
-            }
-            allChanges.add(null);
-        }
-    }
-
 }
@@ -257,12 +257,18 @@ public abstract class NodeMap extends NodeFeature {
 
     private void setUnChanged(String key) {
         assert key != null;
-        getChangeTracker().remove(key);
+        if (getNode().isTrackingChanges()) {
+            getChangeTracker().remove(key);
+        }
     }
 
     private void setChanged(String key) {
         assert key != null;
 
+        if (!getNode().isTrackingChanges()) {
+            return;
+        }
+
         getNode().markAsDirty();
 
         Map<String, Serializable> changes = getChangeTracker();
@@ -304,6 +310,11 @@ public abstract class NodeMap extends NodeFeature {
                 hasChanges = true;
             } else if (containsNow) {
                 Object currentValue = values.get(key);
+                if (!containedEarlier
+                        && isInitialValueOnClient(key, currentValue)) {
+                    // The client already has the value
+                    continue;
+                }
                 if (!containedEarlier || !Objects.equals(value, currentValue)) {
                     // New or changed value
                     collector.accept(new MapPutChange(this, key, currentValue));
@@ -319,6 +330,22 @@ public abstract class NodeMap extends NodeFeature {
         }
     }
 
+    /**
+     * Checks whether the client side already has the given value for a key
+     * that has not been sent to the client, so that no change needs to be sent
+     * for it. Returns <code>false</code> by default.
+     *
+     * @param key
+     *            the key
+     * @param value
+     *            the value stored for the key
+     * @return <code>true</code> if no change needs to be sent for the value,
+     *         <code>false</code> otherwise
+     */
+    protected boolean isInitialValueOnClient(String key, Object value) {
+        return false;
+    }
+
     @Override
     public void generateChangesFromEmpty() {
         if (values == null) {
@@ -331,7 +358,8 @@ public abstract class NodeMap extends NodeFeature {
         }
         assert !values.isEmpty();
 
-        Map<String, Serializable> changes = getChangeTracker();
+        Map<String, Serializable> changes = getNode().getChangeTracker(this,
+                () -> new HashMap<>(values.size() * 4 / 3 + 1));
         values.keySet().forEach(k -> changes.put(k, REMOVED_MARKER));
     }
 
@@ -81,6 +81,10 @@ public abstract class NodeValue<T extends Serializable> extends NodeFeature {
     }
 
     private void markAsDirty() {
+        if (!getNode().isTrackingChanges()) {
+            return;
+        }
+
         getNode().markAsDirty();
 
         // Store current value as the change tracker if not value is already
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal.nodefeature;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.dom.PropertySyncMode;
+import com.vaadin.flow.internal.StateNode;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+
+/**
+ * Map of the synchronization modes of synchronized properties for an element.
+ * Properties without a mapping are synchronized immediately.
+ * <p>
+ * Each mode is stored as a <code>[identifier, timeout]</code> JSON array.
+ *
+ * @author Vaadin Ltd
+ */
+public class SynchronizedPropertyModesMap extends NodeMap {
+
+    /**
+     * Creates a new synchronized property modes map for the given node.
+     *
+     * @param node
+     *            the node that the map belongs to
+     */
+    public SynchronizedPropertyModesMap(StateNode node) {
+        super(node);
+    }
+
+    /**
+     * Sets the synchronization mode of a property.
+     *
+     * @param property
+     *            the property name, not <code>null</code>
+     * @param mode
+     *            the synchronization mode, not <code>null</code>
+     * @param timeout
+     *            the timeout of the mode in milliseconds, not negative
+     */
+    public void setMode(String property, PropertySyncMode mode, int timeout) {
+        Objects.requireNonNull(property, "Property name cannot be null");
+        Objects.requireNonNull(mode, "Synchronization mode cannot be null");
+        if (timeout < 0) {
+            throw new IllegalArgumentException(
+                    "Timeout cannot be negative: " + timeout);
+        }
+
+        if (mode == PropertySyncMode.IMMEDIATE) {
+            if (contains(property)) {
+                remove(property);
+            }
+        } else {
+            JsonArray settings = Json.createArray();
+            settings.set(0, mode.getIdentifier());
+            settings.set(1, timeout);
+            put(property, settings);
+        }
+    }
+
+    /**
+     * Gets the synchronization mode of a property.
+     *
+     * @param property
+     *            the property name
+     * @return the synchronization mode, not <code>null</code>
+     */
+    public PropertySyncMode getMode(String property) {
+        JsonArray settings = (JsonArray) get(property);
+        if (settings == null) {
+            return PropertySyncMode.IMMEDIATE;
+        }
+        String identifier = settings.getString(0);
+        return Stream.of(PropertySyncMode.values())
+                .filter(mode -> identifier.equals(mode.getIdentifier()))
+                .findFirst().orElseThrow(() -> new IllegalStateException(
+                        "Unknown synchronization mode: " + identifier));
+    }
+}
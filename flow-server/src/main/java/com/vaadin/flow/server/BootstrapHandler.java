@@ -415,6 +415,11 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                 .forEach(dependency -> document.body().appendChild(dependency));
         setupDocumentBody(document);
 
+        if (context.getSession().getConfiguration().isPreRender()) {
+            document.body().insertChildren(0,
+                    BootstrapPreRenderer.preRender(context.getUI()));
+        }
+
         document.outputSettings().prettyPrint(false);
 
         BootstrapUtils.getInlineTargets(context)
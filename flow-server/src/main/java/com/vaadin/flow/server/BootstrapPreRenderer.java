@@ -0,0 +1,140 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.parser.Tag;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+/**
+ * Renders the element tree of a UI into static HTML for the bootstrap page.
+ * <p>
+ * Each child element of the UI is rendered with its attributes, text nodes
+ * and child elements. The ids of the state nodes of each rendered subtree are
+ * stored in document order in the
+ * {@value ApplicationConstants#PRE_RENDER_ATTRIBUTE} attribute of its root, so
+ * that the client engine can adopt the rendered DOM nodes instead of creating
+ * new ones. Every text node is preceded by an empty comment, so that adjacent
+ * and empty text nodes can be told apart after the HTML has been parsed.
+ * <p>
+ * Subtrees that the browser would not parse back to the same structure, e.g.
+ * tables or elements with raw text content, are not rendered. Rendering stops
+ * at the first child of the UI that cannot be rendered, so that the client
+ * engine can create the remaining children in the right order.
+ *
+ * @author Vaadin Ltd
+ */
+final class BootstrapPreRenderer implements Serializable {
+
+    private static final Set<String> UNSUPPORTED_TAGS = Collections
+            .unmodifiableSet(new HashSet<>(Arrays.asList("template", "script",
+                    "style", "noscript", "textarea", "title", "iframe",
+                    "table", "p", "select", "svg")));
+
+    private BootstrapPreRenderer() {
+        // Only static methods
+    }
+
+    /**
+     * Renders the children of the UI element.
+     *
+     * @param ui
+     *            the UI to render, not <code>null</code>
+     * @return the rendered elements, in the order they should be added to the
+     *         body, not <code>null</code>
+     */
+    static List<Element> preRender(UI ui) {
+        List<Element> rendered = new ArrayList<>();
+        for (com.vaadin.flow.dom.Element child : (Iterable<com.vaadin.flow.dom.Element>) ui
+                .getElement().getChildren()::iterator) {
+            if (child.isTextNode() || !canRender(child)) {
+                break;
+            }
+            StringBuilder nodeIds = new StringBuilder();
+            Element element = render(child, nodeIds);
+            element.attr(ApplicationConstants.PRE_RENDER_ATTRIBUTE,
+                    nodeIds.toString());
+            rendered.add(element);
+        }
+        return rendered;
+    }
+
+    private static boolean canRender(com.vaadin.flow.dom.Element element) {
+        if (element.isTextNode()) {
+            return true;
+        }
+        String tag = element.getTag();
+        if (UNSUPPORTED_TAGS.contains(tag)) {
+            return false;
+        }
+        if (!element.isVisible()) {
+            // Children of hidden elements are not rendered
+            return true;
+        }
+        if (element.getChildCount() > 0 && Tag.valueOf(tag).isEmpty()) {
+            return false;
+        }
+        return element.getChildren().allMatch(BootstrapPreRenderer::canRender);
+    }
+
+    private static Element render(com.vaadin.flow.dom.Element element,
+            StringBuilder nodeIds) {
+        appendNodeId(element, nodeIds);
+
+        Element rendered = new Element(Tag.valueOf(element.getTag()), "");
+        element.getAttributeNames().forEach(name -> {
+            String value = element.getAttribute(name);
+            if (value != null) {
+                rendered.attr(name, value);
+            }
+        });
+        if (!element.isVisible()) {
+            rendered.attr("hidden", true);
+            return rendered;
+        }
+
+        element.getChildren().forEach(child -> {
+            if (child.isTextNode()) {
+                appendNodeId(child, nodeIds);
+                rendered.appendChild(new Comment("", ""));
+                rendered.appendChild(new TextNode(child.getText(), ""));
+            } else {
+                rendered.appendChild(render(child, nodeIds));
+            }
+        });
+        return rendered;
+    }
+
+    private static void appendNodeId(com.vaadin.flow.dom.Element element,
+            StringBuilder nodeIds) {
+        if (nodeIds.length() > 0) {
+            nodeIds.append(' ');
+        }
+        nodeIds.append(element.getNode().getId());
+    }
+}
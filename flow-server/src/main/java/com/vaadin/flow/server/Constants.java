@@ -43,6 +43,12 @@ public final class Constants implements Serializable {
     public static final String SERVLET_PARAMETER_PUSH_SUSPEND_TIMEOUT_LONGPOLLING = "pushLongPollingSuspendTimeout";
     public static final String SERVLET_PARAMETER_ROUTER_CONFIGURATOR = "routerConfigurator";
     public static final String SERVLET_PARAMETER_POLYFILL_BASE = "polyfillBase";
+    public static final String SERVLET_PARAMETER_SESSION_LOCK_FAIR = "sessionLockFair";
+    public static final String SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT = "sessionLockTimeout";
+    public static final String SERVLET_PARAMETER_SESSION_LOCK_LONG_WAIT_THRESHOLD = "sessionLockLongWaitThreshold";
+    public static final String SERVLET_PARAMETER_PRE_RENDER = "preRender";
+    public static final String SERVLET_PARAMETER_EXECUTOR_POOL_SIZE = "executorPoolSize";
+    public static final String SERVLET_PARAMETER_EXECUTOR_VIRTUAL_THREADS = "executorVirtualThreads";
 
     /**
      * Configuration name for loading the ES5 adapters.
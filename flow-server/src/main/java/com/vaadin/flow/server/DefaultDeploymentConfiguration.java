@@ -56,11 +56,31 @@ public class DefaultDeploymentConfiguration
             + "and \"automatic\". The default of \"disabled\" will be used."
             + SEPARATOR;
 
+    public static final String WARNING_SESSION_LOCK_FAIR_NOT_BOOLEAN = SEPARATOR
+            + "\nWARNING: sessionLockFair has been set to a non boolean value "
+            + "in web.xml. The default of false will be used." + SEPARATOR;
+
+    public static final String WARNING_SESSION_LOCK_TIMEOUT_NOT_NUMERIC = SEPARATOR
+            + "\nWARNING: sessionLockTimeout has been set to a non integer value "
+            + "in web.xml. Requests will wait for the session lock indefinitely."
+            + SEPARATOR;
+
+    public static final String WARNING_SESSION_LOCK_LONG_WAIT_THRESHOLD_NOT_NUMERIC = SEPARATOR
+            + "\nWARNING: sessionLockLongWaitThreshold has been set to a non "
+            + "integer value in web.xml. Long waits for the session lock will "
+            + "not be reported." + SEPARATOR;
+
     /**
      * Default value for {@link #getHeartbeatInterval()} = {@value} .
      */
     public static final int DEFAULT_HEARTBEAT_INTERVAL = 300;
 
+    /**
+     * Default value for {@link #getSessionLockTimeout()} and
+     * {@link #getSessionLockLongWaitThreshold()} = {@value} .
+     */
+    public static final long DEFAULT_SESSION_LOCK_DURATION = -1;
+
     /**
      * Default value for {@link #isCloseIdleSessions()} = {@value} .
      */
@@ -86,6 +106,9 @@ public class DefaultDeploymentConfiguration
     private boolean syncIdCheck;
     private boolean sendUrlsAsParameters;
     private boolean requestTiming;
+    private boolean sessionLockFair;
+    private long sessionLockTimeout;
+    private long sessionLockLongWaitThreshold;
 
     /**
      * Create a new deployment configuration instance.
@@ -111,6 +134,9 @@ public class DefaultDeploymentConfiguration
         checkPushURL();
         checkSyncIdCheck();
         checkSendUrlsAsParameters();
+        checkSessionLockFair();
+        checkSessionLockTimeout();
+        checkSessionLockLongWaitThreshold();
     }
 
     @Override
@@ -288,6 +314,37 @@ public class DefaultDeploymentConfiguration
         return pushURL;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The default value is <code>false</code>.
+     */
+    @Override
+    public boolean isSessionLockFair() {
+        return sessionLockFair;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The default value is <code>-1</code>, i.e. requests wait for the lock
+     * indefinitely.
+     */
+    @Override
+    public long getSessionLockTimeout() {
+        return sessionLockTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The default value is <code>-1</code>, i.e. long waits are not reported.
+     */
+    @Override
+    public long getSessionLockLongWaitThreshold() {
+        return sessionLockLongWaitThreshold;
+    }
+
     @Override
     public Properties getInitParameters() {
         return initParameters;
@@ -368,6 +425,39 @@ public class DefaultDeploymentConfiguration
                 DEFAULT_SEND_URLS_AS_PARAMETERS);
     }
 
+    private void checkSessionLockFair() {
+        try {
+            sessionLockFair = getBooleanProperty(
+                    Constants.SERVLET_PARAMETER_SESSION_LOCK_FAIR, false);
+        } catch (IllegalArgumentException e) {
+            getLogger().warn(WARNING_SESSION_LOCK_FAIR_NOT_BOOLEAN);
+            sessionLockFair = false;
+        }
+    }
+
+    private void checkSessionLockTimeout() {
+        try {
+            sessionLockTimeout = getApplicationOrSystemProperty(
+                    Constants.SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT,
+                    DEFAULT_SESSION_LOCK_DURATION, Long::parseLong);
+        } catch (NumberFormatException e) {
+            getLogger().warn(WARNING_SESSION_LOCK_TIMEOUT_NOT_NUMERIC);
+            sessionLockTimeout = DEFAULT_SESSION_LOCK_DURATION;
+        }
+    }
+
+    private void checkSessionLockLongWaitThreshold() {
+        try {
+            sessionLockLongWaitThreshold = getApplicationOrSystemProperty(
+                    Constants.SERVLET_PARAMETER_SESSION_LOCK_LONG_WAIT_THRESHOLD,
+                    DEFAULT_SESSION_LOCK_DURATION, Long::parseLong);
+        } catch (NumberFormatException e) {
+            getLogger().warn(
+                    WARNING_SESSION_LOCK_LONG_WAIT_THRESHOLD_NOT_NUMERIC);
+            sessionLockLongWaitThreshold = DEFAULT_SESSION_LOCK_DURATION;
+        }
+    }
+
     private Logger getLogger() {
         return LoggerFactory.getLogger(getClass().getName());
     }
@@ -45,6 +45,15 @@ public class FutureAccess extends FutureTask<Void> {
         this.command = command;
     }
 
+    /**
+     * Gets the session to which this task belongs.
+     *
+     * @return the session of this task
+     */
+    public VaadinSession getSession() {
+        return session;
+    }
+
     @Override
     public Void get() throws InterruptedException, ExecutionException {
         /*
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.server.metrics.ServiceMetrics;
+
 /**
  * Event fired to {@link VaadinServiceInitListener} when a {@link VaadinService}
  * is being initialized.
@@ -30,6 +32,9 @@ import java.util.stream.Stream;
  * <p>
  * {@link BootstrapListener}s can also be registered, that are used to modify
  * the initial HTML of the application.
+ * <p>
+ * {@link ServiceMetrics} can be registered to observe where time is spent
+ * while handling requests.
  *
  * @author Vaadin Ltd
  */
@@ -38,6 +43,7 @@ public class ServiceInitEvent extends EventObject {
     private List<RequestHandler> addedRequestHandlers = new ArrayList<>();
     private List<BootstrapListener> addedBootstrapListeners = new ArrayList<>();
     private List<DependencyFilter> addedDependencyFilters = new ArrayList<>();
+    private List<ServiceMetrics> addedServiceMetrics = new ArrayList<>();
 
     /**
      * Creates a new service init event for a given {@link VaadinService} and
@@ -92,6 +98,21 @@ public class ServiceInitEvent extends EventObject {
         addedDependencyFilters.add(dependencyFilter);
     }
 
+    /**
+     * Adds service metrics that will receive timings and counts from the
+     * request, UIDL and push processing of this service. If multiple metrics
+     * are added, all of them receive all measurements.
+     *
+     * @param serviceMetrics
+     *            the service metrics to add, not <code>null</code>
+     */
+    public void addServiceMetrics(ServiceMetrics serviceMetrics) {
+        Objects.requireNonNull(serviceMetrics,
+                "Service metrics cannot be null");
+
+        addedServiceMetrics.add(serviceMetrics);
+    }
+
     /**
      * Gets a stream of all custom request handlers that have been added for the
      * service.
@@ -122,6 +143,16 @@ public class ServiceInitEvent extends EventObject {
         return addedDependencyFilters.stream();
     }
 
+    /**
+     * Gets a stream of all service metrics that have been added for the
+     * service.
+     *
+     * @return the stream of added service metrics
+     */
+    public Stream<ServiceMetrics> getAddedServiceMetrics() {
+        return addedServiceMetrics.stream();
+    }
+
     @Override
     public VaadinService getSource() {
         return (VaadinService) super.getSource();
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.server.metrics.ServiceMetrics;
+
+/**
+ * The lock used for synchronizing access to a {@link VaadinSession}.
+ * <p>
+ * In addition to the functionality of a regular {@link ReentrantLock}, a
+ * session lock can report threads which have to wait for the lock for a long
+ * time. When a thread has waited longer than the configured threshold, the
+ * thread currently holding the lock and its stack trace are logged and
+ * reported to the {@link ServiceMetrics} of the service. This makes it
+ * possible to find out which code is blocking the session, e.g. a slow
+ * background task running inside {@link VaadinSession#access(Command)}.
+ *
+ * @author Vaadin Ltd
+ * @see com.vaadin.flow.function.DeploymentConfiguration#isSessionLockFair()
+ * @see com.vaadin.flow.function.DeploymentConfiguration#getSessionLockLongWaitThreshold()
+ */
+public class SessionLock extends ReentrantLock {
+
+    private final long longWaitThresholdNanos;
+
+    /**
+     * Creates a new session lock.
+     *
+     * @param fair
+     *            <code>true</code> if the lock should use a fair ordering
+     *            policy, <code>false</code> otherwise
+     * @param longWaitThreshold
+     *            the wait time after which the lock holder is reported, or a
+     *            negative value to never report the lock holder
+     * @param unit
+     *            the time unit of the threshold, not <code>null</code>
+     */
+    public SessionLock(boolean fair, long longWaitThreshold, TimeUnit unit) {
+        super(fair);
+        longWaitThresholdNanos = longWaitThreshold < 0 ? -1
+                : unit.toNanos(longWaitThreshold);
+    }
+
+    /**
+     * Gets the thread currently holding this lock.
+     *
+     * @return the thread holding the lock, or an empty optional if the lock
+     *         is not held
+     */
+    public Optional<Thread> getHolder() {
+        return Optional.ofNullable(getOwner());
+    }
+
+    /**
+     * Acquires the lock, reporting the lock holder to the given metrics if the
+     * wait exceeds the long wait threshold. Like {@link #lock()}, this method
+     * is not affected by interrupts while waiting, but the interrupt status of
+     * the thread is preserved.
+     *
+     * @param metrics
+     *            the metrics to report long waits to, not <code>null</code>
+     */
+    public void lock(ServiceMetrics metrics) {
+        if (longWaitThresholdNanos < 0) {
+            lock();
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            try {
+                if (tryLock(-1, TimeUnit.NANOSECONDS, metrics)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            lock();
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Acquires the lock if it becomes available within the given time,
+     * reporting the lock holder to the given metrics if the wait exceeds the
+     * long wait threshold.
+     *
+     * @param timeout
+     *            the maximum time to wait for the lock, or a negative value to
+     *            wait indefinitely
+     * @param unit
+     *            the time unit of the timeout, not <code>null</code>
+     * @param metrics
+     *            the metrics to report long waits to, not <code>null</code>
+     * @return <code>true</code> if the lock was acquired, <code>false</code>
+     *         if the timeout elapsed before the lock could be acquired
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting
+     */
+    public boolean tryLock(long timeout, TimeUnit unit, ServiceMetrics metrics)
+            throws InterruptedException {
+        long timeoutNanos = timeout < 0 ? -1 : unit.toNanos(timeout);
+        if (longWaitThresholdNanos < 0
+                || (timeoutNanos >= 0 && timeoutNanos <= longWaitThresholdNanos)
+                || isHeldByCurrentThread()) {
+            if (timeoutNanos < 0) {
+                lockInterruptibly();
+                return true;
+            }
+            return tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        long start = System.nanoTime();
+        if (tryLock(longWaitThresholdNanos, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        reportLongWait(System.nanoTime() - start, metrics);
+
+        if (timeoutNanos < 0) {
+            lockInterruptibly();
+            return true;
+        }
+        long remaining = timeoutNanos - (System.nanoTime() - start);
+        return tryLock(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Acquires the given session lock and reports the time spent waiting to
+     * the given metrics. Reentrant locking is not reported. This is used both
+     * when locking a {@link VaadinSession} and when the service locks the
+     * underlying session while handling a request.
+     *
+     * @param lock
+     *            the session lock to acquire, not <code>null</code>
+     * @param metrics
+     *            the metrics to report to, not <code>null</code>
+     */
+    static void acquire(Lock lock, ServiceMetrics metrics) {
+        if (isHeldByCurrentThread(lock)) {
+            lock.lock();
+            return;
+        }
+        long start = System.nanoTime();
+        if (lock instanceof SessionLock) {
+            ((SessionLock) lock).lock(metrics);
+        } else {
+            lock.lock();
+        }
+        metrics.sessionLockAcquired(System.nanoTime() - start);
+    }
+
+    /**
+     * Acquires the given session lock if it becomes available within the given
+     * time, and reports the time spent waiting or the timeout to the given
+     * metrics. Reentrant locking is not reported.
+     *
+     * @param lock
+     *            the session lock to acquire, not <code>null</code>
+     * @param timeout
+     *            the maximum time to wait for the lock
+     * @param unit
+     *            the time unit of the timeout, not <code>null</code>
+     * @param metrics
+     *            the metrics to report to, not <code>null</code>
+     * @return <code>true</code> if the lock was acquired, <code>false</code>
+     *         if the timeout elapsed before the lock could be acquired
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting
+     */
+    static boolean tryAcquire(Lock lock, long timeout, TimeUnit unit,
+            ServiceMetrics metrics) throws InterruptedException {
+        if (isHeldByCurrentThread(lock)) {
+            lock.lock();
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean locked;
+        if (lock instanceof SessionLock) {
+            locked = ((SessionLock) lock).tryLock(timeout, unit, metrics);
+        } else {
+            locked = lock.tryLock(timeout, unit);
+        }
+        long waitNanos = System.nanoTime() - start;
+        if (locked) {
+            metrics.sessionLockAcquired(waitNanos);
+        } else {
+            metrics.sessionLockTimedOut(waitNanos);
+        }
+        return locked;
+    }
+
+    private static boolean isHeldByCurrentThread(Lock lock) {
+        return lock instanceof ReentrantLock
+                && ((ReentrantLock) lock).isHeldByCurrentThread();
+    }
+
+    private void reportLongWait(long waitNanos, ServiceMetrics metrics) {
+        Thread holder = getOwner();
+        if (holder == null) {
+            // Released just now
+            return;
+        }
+        StackTraceElement[] holderStack = holder.getStackTrace();
+
+        metrics.sessionLockLongWait(holder, holderStack, waitNanos);
+
+        Logger logger = getLogger();
+        if (logger.isWarnEnabled()) {
+            Exception trace = new Exception(
+                    "Stack trace of the session lock holder " + holder);
+            trace.setStackTrace(holderStack);
+            logger.warn(
+                    "Thread {} has waited {} ms for the session lock, which is held by thread {}",
+                    Thread.currentThread().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos), holder.getName(),
+                    trace);
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(SessionLock.class.getName());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+/**
+ * Exception indicating that a request could not be handled because the session
+ * lock could not be acquired within the configured timeout. The request is
+ * answered with a "service unavailable" response, which the client treats as a
+ * temporary error and retries.
+ *
+ * @author Vaadin Ltd
+ * @see com.vaadin.flow.function.DeploymentConfiguration#getSessionLockTimeout()
+ */
+public class SessionLockTimeoutException extends RuntimeException {
+
+    /**
+     * Creates a new exception with the given message.
+     *
+     * @param message
+     *            the detail message
+     */
+    public SessionLockTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new exception with the given message and cause.
+     *
+     * @param message
+     *            the detail message
+     * @param cause
+     *            the cause
+     */
+    public SessionLockTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
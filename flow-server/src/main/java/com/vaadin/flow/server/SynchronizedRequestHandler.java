@@ -16,12 +16,17 @@
 package com.vaadin.flow.server;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * RequestHandler which takes care of locking and unlocking of the VaadinSession
  * automatically. The session is locked before
  * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
  * is called and unlocked after it has completed.
+ * <p>
+ * If a session lock timeout has been configured and the lock cannot be
+ * acquired in time, a {@link SessionLockTimeoutException} is thrown and the
+ * request is answered with a "service unavailable" response.
  *
  * @author Vaadin Ltd
  * @since 7.1
@@ -35,7 +40,7 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
             return false;
         }
 
-        session.lock();
+        lockSession(session);
         try {
             return synchronizedHandleRequest(session, request, response);
         } finally {
@@ -43,6 +48,26 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
         }
     }
 
+    private static void lockSession(VaadinSession session) {
+        long timeout = session.getService().getDeploymentConfiguration()
+                .getSessionLockTimeout();
+        if (timeout < 0) {
+            session.lock();
+            return;
+        }
+        try {
+            if (!session.tryLock(timeout, TimeUnit.MILLISECONDS)) {
+                throw new SessionLockTimeoutException(
+                        "Could not lock the session within " + timeout
+                                + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionLockTimeoutException(
+                    "Interrupted while waiting for the session lock", e);
+        }
+    }
+
     /**
      * Identical to
      * {@link #handleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
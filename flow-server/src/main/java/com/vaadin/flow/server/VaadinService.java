@@ -21,11 +21,13 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -39,8 +41,16 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -68,6 +78,8 @@ import com.vaadin.flow.server.communication.HeartbeatHandler;
 import com.vaadin.flow.server.communication.SessionRequestHandler;
 import com.vaadin.flow.server.communication.StreamRequestHandler;
 import com.vaadin.flow.server.communication.UidlRequestHandler;
+import com.vaadin.flow.server.metrics.CompositeServiceMetrics;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
 import com.vaadin.flow.server.startup.RouteRegistry;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.JsonConstants;
@@ -170,6 +182,15 @@ public abstract class VaadinService implements Serializable {
 
     private Iterable<DependencyFilter> dependencyFilters;
 
+    private ServiceMetrics metrics = ServiceMetrics.NO_OP;
+
+    private transient volatile ExecutorService executor;
+
+    private transient volatile ScheduledExecutorService scheduledExecutor;
+
+    private transient Set<FutureAccess> executorAccessTasks = ConcurrentHashMap
+            .newKeySet();
+
     private boolean atmosphereAvailable = checkAtmosphereSupport();
 
     /**
@@ -263,6 +284,14 @@ public abstract class VaadinService implements Serializable {
                 .getBootstrapListeners(event.getAddedBootstrapListeners())
                 .collect(Collectors.toList());
 
+        List<ServiceMetrics> addedMetrics = event.getAddedServiceMetrics()
+                .collect(Collectors.toList());
+        if (addedMetrics.size() == 1) {
+            metrics = addedMetrics.get(0);
+        } else if (!addedMetrics.isEmpty()) {
+            metrics = new CompositeServiceMetrics(addedMetrics);
+        }
+
         router = new Router(getRouteRegistry());
         initialized = true;
     }
@@ -719,12 +748,12 @@ public abstract class VaadinService implements Serializable {
             synchronized (VaadinService.class) {
                 lock = getSessionLock(wrappedSession);
                 if (lock == null) {
-                    lock = new ReentrantLock();
+                    lock = createSessionLock();
                     setSessionLock(wrappedSession, lock);
                 }
             }
         }
-        lock.lock();
+        acquireSessionLock(lock);
 
         try {
             // Someone might have invalidated the session between fetching the
@@ -738,6 +767,42 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    private void acquireSessionLock(Lock lock) {
+        long timeout = getDeploymentConfiguration().getSessionLockTimeout();
+        if (timeout < 0) {
+            SessionLock.acquire(lock, getMetrics());
+            return;
+        }
+        try {
+            if (!SessionLock.tryAcquire(lock, timeout, TimeUnit.MILLISECONDS,
+                    getMetrics())) {
+                throw new SessionLockTimeoutException(
+                        "Could not lock the session within " + timeout
+                                + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionLockTimeoutException(
+                    "Interrupted while waiting for the session lock", e);
+        }
+    }
+
+    /**
+     * Creates the lock instance to use for a new session. The default
+     * implementation creates a {@link SessionLock} which is fair or not and
+     * reports long waits according to the deployment configuration.
+     *
+     * @return a new session lock, not <code>null</code>
+     * @see DeploymentConfiguration#isSessionLockFair()
+     * @see DeploymentConfiguration#getSessionLockLongWaitThreshold()
+     */
+    protected ReentrantLock createSessionLock() {
+        DeploymentConfiguration configuration = getDeploymentConfiguration();
+        return new SessionLock(configuration.isSessionLockFair(),
+                configuration.getSessionLockLongWaitThreshold(),
+                TimeUnit.MILLISECONDS);
+    }
+
     /**
      * Releases the lock for the given session for this service instance.
      * Typically you want to call {@link VaadinSession#unlock()} instead of this
@@ -1449,6 +1514,17 @@ public abstract class VaadinService implements Serializable {
         return requestHandlers;
     }
 
+    /**
+     * Gets the metrics which receive timings and counts from the request,
+     * UIDL and push processing of this service. The metrics are registered
+     * using {@link ServiceInitEvent#addServiceMetrics(ServiceMetrics)}.
+     *
+     * @return the service metrics, not <code>null</code>
+     */
+    public ServiceMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Gets the filters which all resource dependencies are passed through
      * before being sent to the client for loading.
@@ -1491,8 +1567,14 @@ public abstract class VaadinService implements Serializable {
                 return;
             }
 
+            ServiceMetrics serviceMetrics = getMetrics();
             for (RequestHandler handler : getRequestHandlers()) {
-                if (handler.handleRequest(vaadinSession, request, response)) {
+                long start = System.nanoTime();
+                boolean handled = handler.handleRequest(vaadinSession, request,
+                        response);
+                serviceMetrics.requestHandled(handler, handled,
+                        System.nanoTime() - start);
+                if (handled) {
                     return;
                 }
             }
@@ -1503,6 +1585,8 @@ public abstract class VaadinService implements Serializable {
 
         } catch (final SessionExpiredException e) {
             handleSessionExpired(request, response);
+        } catch (final SessionLockTimeoutException e) {
+            handleSessionLockTimeout(request, response, e);
         } catch (final Exception e) {
             handleExceptionDuringRequest(request, response, vaadinSession, e);
         } finally {
@@ -1510,6 +1594,33 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    /**
+     * Called when the session lock could not be acquired for a request within
+     * the configured timeout. Responds with "service unavailable", which the
+     * client treats as a temporary error and retries the request.
+     *
+     * @param request
+     *            the request that could not be handled
+     * @param response
+     *            the response to write to
+     * @param exception
+     *            the exception describing the lock timeout
+     * @throws ServiceException
+     *             if writing the response fails
+     */
+    protected void handleSessionLockTimeout(VaadinRequest request,
+            VaadinResponse response, SessionLockTimeoutException exception)
+            throws ServiceException {
+        getLogger().debug("Responding with server busy for request to {}: {}",
+                request.getPathInfo(), exception.getMessage());
+        try {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "The server is busy handling another request for the same session");
+        } catch (IOException e) {
+            throw new ServiceException(e);
+        }
+    }
+
     private void handleExceptionDuringRequest(VaadinRequest request,
             VaadinResponse response, VaadinSession vaadinSession, Exception t)
             throws ServiceException {
@@ -1963,6 +2074,222 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    /**
+     * Gets the executor of this service. The executor can be used for
+     * background work related to sessions of this service, and it runs the
+     * tasks submitted using
+     * {@link #accessSessionInBackground(VaadinSession, Command)}.
+     * <p>
+     * The executor is created using {@link #createExecutor()} the first time
+     * it is needed and it is shut down when this service is destroyed.
+     *
+     * @return the executor of this service, not <code>null</code>
+     */
+    public ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    result = createExecutor();
+                    assert result != null;
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the executor returned by {@link #getExecutor()}. The default
+     * implementation creates an executor that starts a virtual thread for each
+     * task when the Java runtime supports virtual threads and
+     * {@link DeploymentConfiguration#isExecutorVirtualThreads()} is enabled.
+     * Otherwise, a pool of daemon platform threads with the size given by
+     * {@link DeploymentConfiguration#getExecutorPoolSize()} is used.
+     *
+     * @return a new executor, not <code>null</code>
+     */
+    protected ExecutorService createExecutor() {
+        DeploymentConfiguration configuration = getDeploymentConfiguration();
+        if (configuration.isExecutorVirtualThreads()) {
+            Optional<ExecutorService> virtual = createVirtualThreadExecutor();
+            if (virtual.isPresent()) {
+                return virtual.get();
+            }
+        }
+        int poolSize = configuration.getExecutorPoolSize();
+        if (poolSize < 1) {
+            poolSize = Runtime.getRuntime().availableProcessors();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "vaadin-executor-"
+                            + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Gets the scheduled executor of this service. The scheduled executor can
+     * be used for delaying work related to sessions of this service. It uses a
+     * single thread, so the scheduled tasks should only hand over the actual
+     * work e.g. to the {@link #getExecutor() service executor} instead of
+     * running it directly.
+     * <p>
+     * The scheduled executor is created the first time it is needed and it is
+     * shut down when this service is destroyed.
+     *
+     * @return the scheduled executor of this service, not <code>null</code>
+     */
+    public ScheduledExecutorService getScheduledExecutor() {
+        ScheduledExecutorService result = scheduledExecutor;
+        if (result == null) {
+            synchronized (this) {
+                result = scheduledExecutor;
+                if (result == null) {
+                    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+                            1, runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "vaadin-scheduler");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    scheduler.setRemoveOnCancelPolicy(true);
+                    result = scheduler;
+                    scheduledExecutor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Optional<ExecutorService> createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            getLogger().debug("Virtual threads are not available", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Provides exclusive access to the given session from a thread of the
+     * {@link #getExecutor() service executor}. The command is added to the
+     * pending access queue of the session like with
+     * {@link #accessSession(VaadinSession, Command)}, but instead of the
+     * calling thread trying to purge the queue, an executor thread acquires
+     * the session lock and runs the pending tasks. The calling thread is thus
+     * not blocked waiting for the lock.
+     * <p>
+     * If the calling thread already holds the session lock, the executor
+     * thread has to wait until the lock is released, and the command is
+     * typically run by the calling thread when it unlocks the session, since
+     * unlocking runs all pending access tasks.
+     * <p>
+     * Tasks that have not yet been run can be inspected using
+     * {@link #getBackgroundAccessTasks()} and cancelled using
+     * {@link #cancelBackgroundAccessTasks(VaadinSession)}. If the executor
+     * does not accept the task, the queue is purged like with
+     * {@link #accessSession(VaadinSession, Command)}.
+     *
+     * @param session
+     *            the session to access
+     * @param command
+     *            the command to run while the session is locked
+     * @return a future that can be used to check for task completion and to
+     *         cancel the task
+     * @see VaadinSession#accessInBackground(Command)
+     */
+    public Future<Void> accessSessionInBackground(VaadinSession session,
+            Command command) {
+        FutureAccess future = new FutureAccess(session, command);
+        session.getPendingAccessQueue().add(future);
+        executorAccessTasks.add(future);
+
+        try {
+            getExecutor().execute(() -> runBackgroundAccess(future));
+        } catch (RejectedExecutionException e) {
+            executorAccessTasks.remove(future);
+            getLogger().debug(
+                    "Service executor rejected an access task, purging the queue in the current thread",
+                    e);
+            ensureAccessQueuePurged(session);
+        }
+
+        return future;
+    }
+
+    private void runBackgroundAccess(FutureAccess future) {
+        try {
+            if (!future.isDone()) {
+                VaadinSession session = future.getSession();
+                session.lock();
+                // unlock triggers runPendingAccessTasks
+                session.unlock();
+            }
+        } finally {
+            executorAccessTasks.remove(future);
+        }
+    }
+
+    /**
+     * Gets the tasks submitted using
+     * {@link #accessSessionInBackground(VaadinSession, Command)} that have not
+     * yet been completed by the service executor.
+     *
+     * @return a snapshot of the pending background access tasks, not
+     *         <code>null</code>
+     */
+    public List<Future<Void>> getBackgroundAccessTasks() {
+        return new ArrayList<>(executorAccessTasks);
+    }
+
+    /**
+     * Cancels all tasks submitted for the given session using
+     * {@link #accessSessionInBackground(VaadinSession, Command)} that have not
+     * yet started running.
+     *
+     * @param session
+     *            the session for which to cancel tasks
+     * @return the number of cancelled tasks
+     */
+    public int cancelBackgroundAccessTasks(VaadinSession session) {
+        int cancelled = 0;
+        for (FutureAccess future : executorAccessTasks) {
+            if (future.getSession() == session && future.cancel(false)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Override default deserialization logic to account for transient
+     * {@link #executorAccessTasks}.
+     *
+     * @param stream
+     *            the object to read
+     * @throws IOException
+     *             if an IO error occurred
+     * @throws ClassNotFoundException
+     *             if the class of the stream object could not be found
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        executorAccessTasks = ConcurrentHashMap.newKeySet();
+    }
+
     /**
      * Adds a service destroy listener that gets notified when this service is
      * destroyed.
@@ -2000,6 +2327,15 @@ public abstract class VaadinService implements Serializable {
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
         serviceDestroyListeners
                 .forEach(listener -> listener.serviceDestroy(event));
+
+        ExecutorService currentExecutor = executor;
+        if (currentExecutor != null) {
+            currentExecutor.shutdown();
+        }
+        ScheduledExecutorService currentScheduledExecutor = scheduledExecutor;
+        if (currentScheduledExecutor != null) {
+            currentScheduledExecutor.shutdownNow();
+        }
     }
 
     /**
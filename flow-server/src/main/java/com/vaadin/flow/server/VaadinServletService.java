@@ -17,9 +17,13 @@
 package com.vaadin.flow.server;
 
 import java.io.InputStream;
+import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -48,6 +52,72 @@ public class VaadinServletService extends VaadinService {
     private final VaadinServlet servlet;
     private final ServiceContextUriResolver contextResolver = new ServiceContextUriResolver();
 
+    /**
+     * The maximum number of resolved resources kept by the production mode
+     * resource cache.
+     */
+    static final int RESOURCE_CACHE_SIZE = 2000;
+
+    private final Map<ResourceCacheKey, ResolvedResource> resourceCache = Collections
+            .synchronizedMap(new ResourceCache());
+
+    private static class ResourceCache
+            extends LinkedHashMap<ResourceCacheKey, ResolvedResource> {
+        private ResourceCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<ResourceCacheKey, ResolvedResource> eldest) {
+            return size() > RESOURCE_CACHE_SIZE;
+        }
+    }
+
+    private static class ResourceCacheKey implements Serializable {
+        private final String url;
+        private final boolean es6;
+        private final Class<?> themeClass;
+
+        private ResourceCacheKey(String url, boolean es6, Class<?> themeClass) {
+            this.url = url;
+            this.es6 = es6;
+            this.themeClass = themeClass;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ResourceCacheKey)) {
+                return false;
+            }
+            ResourceCacheKey other = (ResourceCacheKey) obj;
+            return es6 == other.es6 && url.equals(other.url)
+                    && Objects.equals(themeClass, other.themeClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, es6, themeClass);
+        }
+    }
+
+    /**
+     * The outcome of resolving a resource URL: the path to use for the
+     * resource and where it was actually found, if anywhere.
+     */
+    private static class ResolvedResource implements Serializable {
+        private final String resolvedPath;
+        private final String themedOrRawPath;
+        private final String location;
+
+        private ResolvedResource(String resolvedPath, String themedOrRawPath,
+                String location) {
+            this.resolvedPath = resolvedPath;
+            this.themedOrRawPath = themedOrRawPath;
+            this.location = location;
+        }
+    }
+
     /**
      * Creates an instance connected to the given servlet and using the given
      * configuration.
@@ -194,6 +264,12 @@ public class VaadinServletService extends VaadinService {
     @Override
     public URL getResource(String path, WebBrowser browser,
             AbstractTheme theme) {
+        if (isResourceCacheEnabled()) {
+            String location = getCachedResource(path, browser,
+                    theme).location;
+            return location == null ? null
+                    : getResourceInServletContext(location);
+        }
         return getResourceInServletContextOrWebJar(
                 getThemedOrRawPath(path, browser, theme));
     }
@@ -201,6 +277,13 @@ public class VaadinServletService extends VaadinService {
     @Override
     public InputStream getResourceAsStream(String path, WebBrowser browser,
             AbstractTheme theme) {
+        if (isResourceCacheEnabled()) {
+            String location = getCachedResource(path, browser,
+                    theme).location;
+            return location == null ? null
+                    : getServlet().getServletContext()
+                            .getResourceAsStream(location);
+        }
         return getResourceInServletContextOrWebJarAsStream(
                 getThemedOrRawPath(path, browser, theme));
     }
@@ -208,13 +291,68 @@ public class VaadinServletService extends VaadinService {
     @Override
     public Optional<String> getThemedUrl(String url, WebBrowser browser,
             AbstractTheme theme) {
-        if (theme != null
-                && !resolveResource(url, browser).equals(getThemedOrRawPath(url, browser, theme))) {
+        if (theme == null) {
+            return Optional.empty();
+        }
+        String resolvedPath;
+        String themedOrRawPath;
+        if (isResourceCacheEnabled()) {
+            ResolvedResource resource = getCachedResource(url, browser, theme);
+            resolvedPath = resource.resolvedPath;
+            themedOrRawPath = resource.themedOrRawPath;
+        } else {
+            resolvedPath = resolveResource(url, browser);
+            themedOrRawPath = getThemedOrRawPath(resolvedPath, theme);
+        }
+        if (!resolvedPath.equals(themedOrRawPath)) {
             return Optional.of(theme.translateUrl(url));
         }
         return Optional.empty();
     }
 
+    /**
+     * Clears the cache of resolved resources. The cache is only used in
+     * production mode, where resources are not expected to change while the
+     * application is running. This method should be called if resources are
+     * nevertheless added, removed or replaced.
+     */
+    public void clearResourceCache() {
+        resourceCache.clear();
+    }
+
+    private boolean isResourceCacheEnabled() {
+        return getDeploymentConfiguration().isProductionMode();
+    }
+
+    private ResolvedResource getCachedResource(String url, WebBrowser browser,
+            AbstractTheme theme) {
+        ResourceCacheKey key = new ResourceCacheKey(url,
+                browser.isEs6Supported(),
+                theme == null ? null : theme.getClass());
+        ResolvedResource resource = resourceCache.get(key);
+        if (resource == null) {
+            String resolvedPath = resolveResource(url, browser);
+            String location = null;
+            String themedOrRawPath = resolvedPath;
+            Optional<String> themeResourcePath = getThemeResourcePath(
+                    resolvedPath, theme);
+            if (themeResourcePath.isPresent()) {
+                location = findResourceLocation(themeResourcePath.get());
+                if (location != null) {
+                    themedOrRawPath = themeResourcePath.get();
+                }
+            }
+            if (location == null) {
+                location = findResourceLocation(resolvedPath);
+            }
+            // Resources that were not found are cached as well
+            resource = new ResolvedResource(resolvedPath, themedOrRawPath,
+                    location);
+            resourceCache.put(key, resource);
+        }
+        return resource;
+    }
+
     /**
      * Resolves the given {@code url} resource and tries to find a themed or raw
      * version.
@@ -235,8 +373,11 @@ public class VaadinServletService extends VaadinService {
      */
     private String getThemedOrRawPath(String url, WebBrowser browser,
             AbstractTheme theme) {
-        String resourcePath = resolveResource(url, browser);
+        return getThemedOrRawPath(resolveResource(url, browser), theme);
+    }
 
+    private String getThemedOrRawPath(String resourcePath,
+            AbstractTheme theme) {
         Optional<String> themeResourcePath = getThemeResourcePath(resourcePath,
                 theme);
         if (themeResourcePath.isPresent()) {
@@ -298,6 +439,37 @@ public class VaadinServletService extends VaadinService {
         return null;
     }
 
+    /**
+     * Finds the path in the servlet context where the given resource is
+     * available, either directly or in a webjar.
+     *
+     * @param path
+     *            the path inside servlet context, automatically translated as
+     *            needed for webjars
+     * @return the servlet context path of the resource or <code>null</code> if
+     *         no resource was found
+     */
+    private String findResourceLocation(String path) {
+        if (getResourceInServletContext(path) != null) {
+            return path;
+        }
+        Optional<String> webJarPath = getWebJarPath(path);
+        if (webJarPath.isPresent()
+                && getResourceInServletContext(webJarPath.get()) != null) {
+            return webJarPath.get();
+        }
+        return null;
+    }
+
+    private URL getResourceInServletContext(String path) {
+        try {
+            return getServlet().getServletContext().getResource(path);
+        } catch (MalformedURLException e) {
+            getLogger().warn("Error finding resource for '{}'", path, e);
+            return null;
+        }
+    }
+
     /**
      * Opens a stream for the given resource found in the servlet context or in
      * a webjar.
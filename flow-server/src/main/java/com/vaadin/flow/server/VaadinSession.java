@@ -32,6 +32,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -45,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
 import com.vaadin.flow.shared.communication.PushMode;
 
 /**
@@ -106,6 +108,13 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
 
     private transient Lock lock;
 
+    /*
+     * The time when the session lock was acquired through lock(), for
+     * reporting the lock hold time to the service metrics. Only accessed by
+     * the thread holding the lock, 0 when not known.
+     */
+    private transient long lockAcquiredNanos;
+
     /*
      * Pending tasks can't be serialized and the queue should be empty when the
      * session is serialized as long as it doesn't happen while some other
@@ -490,6 +499,14 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return uIs.get(uiId);
     }
 
+    private ServiceMetrics getServiceMetrics() {
+        VaadinService vaadinService = getService();
+        if (vaadinService == null) {
+            return ServiceMetrics.NO_OP;
+        }
+        return vaadinService.getMetrics();
+    }
+
     /**
      * Checks if the current thread has exclusive access to this VaadinSession
      *
@@ -630,7 +647,45 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
      * @see #hasLock()
      */
     public void lock() {
-        getLockInstance().lock();
+        Lock lockInstance = getLockInstance();
+        if (hasLock()) {
+            // Reentrant locking, no waiting involved
+            lockInstance.lock();
+            return;
+        }
+        SessionLock.acquire(lockInstance, getServiceMetrics());
+        lockAcquiredNanos = System.nanoTime();
+    }
+
+    /**
+     * Locks this session if the lock becomes available within the given time.
+     * If the lock is acquired, it must be released using {@link #unlock()} in
+     * the same way as when using {@link #lock()}.
+     *
+     * @param timeout
+     *            the maximum time to wait for the lock
+     * @param unit
+     *            the time unit of the timeout, not <code>null</code>
+     * @return <code>true</code> if the session was locked, <code>false</code>
+     *         if the timeout elapsed before the lock could be acquired
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting for the
+     *             lock
+     * @see #lock()
+     */
+    public boolean tryLock(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        Lock lockInstance = getLockInstance();
+        if (hasLock()) {
+            lockInstance.lock();
+            return true;
+        }
+        boolean locked = SessionLock.tryAcquire(lockInstance, timeout, unit,
+                getServiceMetrics());
+        if (locked) {
+            lockAcquiredNanos = System.nanoTime();
+        }
+        return locked;
     }
 
     /**
@@ -670,6 +725,11 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
                 }
             }
         } finally {
+            if (ultimateRelease && lockAcquiredNanos != 0) {
+                getServiceMetrics().sessionLockReleased(
+                        System.nanoTime() - lockAcquiredNanos);
+                lockAcquiredNanos = 0;
+            }
             getLockInstance().unlock();
         }
 
@@ -959,6 +1019,30 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return getService().accessSession(this, command);
     }
 
+    /**
+     * Provides exclusive access to this session from a thread of the service
+     * executor.
+     * <p>
+     * The given command is executed while holding the session lock, like with
+     * {@link #access(Command)}. The difference is that the lock is acquired by
+     * a thread of {@link VaadinService#getExecutor()} instead of the current
+     * thread, which is not blocked waiting for the lock. If the current thread
+     * already holds the session lock, the command is typically run by the
+     * current thread when it unlocks the session.
+     *
+     * @param command
+     *            the command which accesses the session
+     * @return a future that can be used to check for task completion and to
+     *         cancel the task
+     *
+     * @see #access(Command)
+     * @see VaadinService#accessSessionInBackground(VaadinSession, Command)
+     * @see UI#accessInBackground(Command)
+     */
+    public Future<Void> accessInBackground(Command command) {
+        return getService().accessSessionInBackground(this, command);
+    }
+
     /**
      * Gets the queue of tasks submitted using {@link #access(Command)}. It is
      * safe to call this method and access the returned queue without holding
@@ -17,8 +17,12 @@
 package com.vaadin.flow.server;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.TimeZone;
 
 import com.vaadin.flow.shared.BrowserDetails;
@@ -32,6 +36,28 @@ import com.vaadin.flow.shared.BrowserDetails;
  */
 public class WebBrowser implements Serializable {
 
+    /**
+     * The maximum number of parsed user agent strings kept in
+     * {@link #BROWSER_DETAILS_CACHE}.
+     */
+    static final int BROWSER_DETAILS_CACHE_SIZE = 1000;
+
+    /*
+     * Parsed user agent strings shared by all sessions in the JVM. A
+     * BrowserDetails instance cannot be modified after it has been created,
+     * so the same instance can be used by all sessions with the same user
+     * agent. The least recently used entry is evicted when the cache is full.
+     */
+    private static final Map<String, BrowserDetails> BROWSER_DETAILS_CACHE = Collections
+            .synchronizedMap(new LinkedHashMap<String, BrowserDetails>(16,
+                    0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Entry<String, BrowserDetails> eldest) {
+                    return size() > BROWSER_DETAILS_CACHE_SIZE;
+                }
+            });
+
     private int screenHeight = -1;
     private int screenWidth = -1;
     private String browserApplication = null;
@@ -516,9 +542,9 @@ public class WebBrowser implements Serializable {
         // case sensitive in Weblogic portal...
         String agent = request.getHeader("User-Agent");
 
-        if (agent != null) {
+        if (agent != null && !agent.equals(browserApplication)) {
             browserApplication = agent;
-            browserDetails = new BrowserDetails(agent);
+            browserDetails = getBrowserDetails(agent);
         }
 
         if (request.getParameter("v-sw") != null) {
@@ -571,4 +597,31 @@ public class WebBrowser implements Serializable {
         return browserDetails.isEs6Supported();
     }
 
+    /**
+     * Gets the browser details for the given user agent string. Parsed details
+     * are cached and shared between all sessions, so the same user agent
+     * string is parsed only once as long as it remains in the cache.
+     *
+     * @param userAgent
+     *            the user agent string, not <code>null</code>
+     * @return the browser details for the user agent, not <code>null</code>
+     */
+    static BrowserDetails getBrowserDetails(String userAgent) {
+        assert userAgent != null;
+        BrowserDetails details = BROWSER_DETAILS_CACHE.get(userAgent);
+        if (details == null) {
+            // Parse outside the lock, a duplicate parse is harmless
+            details = new BrowserDetails(userAgent);
+            BROWSER_DETAILS_CACHE.put(userAgent, details);
+        }
+        return details;
+    }
+
+    /**
+     * Removes all parsed user agent strings from the shared cache.
+     */
+    static void clearBrowserDetailsCache() {
+        BROWSER_DETAILS_CACHE.clear();
+    }
+
 }
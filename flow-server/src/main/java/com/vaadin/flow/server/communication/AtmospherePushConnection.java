@@ -191,9 +191,13 @@ public class AtmospherePushConnection implements PushConnection {
             }
         } else {
             try {
+                long start = System.nanoTime();
                 JsonObject response = new UidlWriter().createUidl(getUI(),
                         async);
-                sendMessage("for(;;);[" + response.toJson() + "]");
+                String message = "for(;;);[" + response.toJson() + "]";
+                sendMessage(message);
+                getUI().getSession().getService().getMetrics()
+                        .pushSent(message.length(), System.nanoTime() - start);
             } catch (Exception e) {
                 throw new RuntimeException("Push failed", e);
             }
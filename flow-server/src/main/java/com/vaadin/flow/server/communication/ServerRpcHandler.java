@@ -44,6 +44,7 @@ import com.vaadin.flow.server.communication.rpc.MapSyncRpcHandler;
 import com.vaadin.flow.server.communication.rpc.NavigationRpcHandler;
 import com.vaadin.flow.server.communication.rpc.PublishedServerEventHandlerRpcHandler;
 import com.vaadin.flow.server.communication.rpc.RpcInvocationHandler;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.JsonConstants;
 
@@ -242,7 +243,12 @@ public class ServerRpcHandler implements Serializable {
             return;
         }
 
+        ServiceMetrics metrics = ui.getSession().getService().getMetrics();
+        long decodeStart = System.nanoTime();
         RpcRequest rpcRequest = new RpcRequest(changeMessage, request);
+        JsonArray invocationsData = rpcRequest.getRpcInvocationsData();
+        metrics.rpcDecoded(invocationsData.length(),
+                System.nanoTime() - decodeStart);
 
         // Security: double cookie submission pattern unless disabled by
         // property
@@ -306,7 +312,16 @@ public class ServerRpcHandler implements Serializable {
             // Message id ok, process RPCs
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
-            handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            long handleStart = System.nanoTime();
+            handleInvocations(ui, invocationsData);
+            metrics.rpcHandled(invocationsData.length(),
+                    System.nanoTime() - handleStart);
+
+            // Stale references to unregistered nodes have now been handled
+            if (rpcRequest.getSyncId() != -1) {
+                ui.getInternals().getStateTree()
+                        .confirmReleasedIds(rpcRequest.getSyncId());
+            }
         }
 
         if (rpcRequest.isResynchronize()) {
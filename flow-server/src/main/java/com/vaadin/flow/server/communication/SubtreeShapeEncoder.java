@@ -0,0 +1,338 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.ConstantPoolKey;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+/**
+ * Replaces the changes of structurally identical subtrees of newly attached
+ * nodes with references to a shared subtree shape.
+ * <p>
+ * A shape is a template of all the changes for the nodes of a subtree. In the
+ * template, node ids are replaced by indexes into the node ids of an instance
+ * and put and splice values are replaced by indexes into the values of an
+ * instance. The shape is sent once through the constant pool, and every
+ * subtree with that shape is then sent as a single change with the shape id,
+ * the ids of its nodes and its values. The client expands each such change
+ * back into the original changes before processing them.
+ * <p>
+ * Shapes are only used for subtrees that occur at least
+ * {@value #MIN_INSTANCES} times in the same set of changes and that consist of
+ * at least {@value #MIN_CHANGES} changes.
+ *
+ * @author Vaadin Ltd
+ */
+class SubtreeShapeEncoder {
+
+    /**
+     * The number of subtrees with the same shape needed for using the shape.
+     */
+    static final int MIN_INSTANCES = 2;
+
+    /**
+     * The number of changes in a subtree needed for using a shape for it.
+     */
+    static final int MIN_CHANGES = 3;
+
+    private static final int NOT_SHAPEABLE = -1;
+
+    private final ConstantPool constantPool;
+
+    private final Map<Integer, AttachedNode> attachedNodes = new HashMap<>();
+    private final Map<Integer, Integer> referenceCounts = new HashMap<>();
+    private final Map<String, Integer> signatureIds = new HashMap<>();
+    private final Map<Integer, Integer> signatureCounts = new HashMap<>();
+    private final Map<Integer, String> shapeIds = new HashMap<>();
+
+    /**
+     * A node attached in the encoded changes.
+     */
+    private static class AttachedNode {
+        private final List<JsonObject> changes = new ArrayList<>();
+        private final List<Integer> children = new ArrayList<>();
+        private boolean child;
+        private int signature = NOT_SHAPEABLE;
+        private int changeCount;
+    }
+
+    /**
+     * Creates a new encoder that stores shapes in the given constant pool.
+     *
+     * @param constantPool
+     *            the constant pool of the UI, not <code>null</code>
+     */
+    SubtreeShapeEncoder(ConstantPool constantPool) {
+        this.constantPool = constantPool;
+    }
+
+    /**
+     * Encodes the given JSON changes using subtree shapes when possible.
+     *
+     * @param changes
+     *            the JSON changes to encode, not <code>null</code>
+     * @return the encoded changes, or the given array if no shape is used
+     */
+    JsonArray encode(JsonArray changes) {
+        int length = changes.length();
+        for (int i = 0; i < length; i++) {
+            JsonObject change = changes.getObject(i);
+            if (isAttach(change)) {
+                attachedNodes.put(getNodeId(change), new AttachedNode());
+            }
+        }
+        if (attachedNodes.size() < MIN_INSTANCES) {
+            return changes;
+        }
+
+        for (int i = 0; i < length; i++) {
+            JsonObject change = changes.getObject(i);
+            AttachedNode node = attachedNodes.get(getNodeId(change));
+            if (node != null) {
+                node.changes.add(change);
+            }
+            forEachReference(change, id -> referenceCounts
+                    .merge(Integer.valueOf(id), 1, Integer::sum));
+        }
+        attachedNodes.values().forEach(this::collectChildren);
+
+        boolean shapesUsed = false;
+        for (AttachedNode node : attachedNodes.values()) {
+            computeSignature(node);
+        }
+        for (Integer count : signatureCounts.values()) {
+            shapesUsed |= count.intValue() >= MIN_INSTANCES;
+        }
+        if (!shapesUsed) {
+            return changes;
+        }
+
+        JsonArray encoded = Json.createArray();
+        for (int i = 0; i < length; i++) {
+            JsonObject change = changes.getObject(i);
+            int nodeId = getNodeId(change);
+            AttachedNode node = attachedNodes.get(nodeId);
+            if (node == null) {
+                append(encoded, change);
+            } else if (isAttach(change) && !node.child) {
+                // Subtrees are written in place of the attach of their root
+                encodeSubtree(nodeId, node, encoded);
+            }
+        }
+        return encoded;
+    }
+
+    private void collectChildren(AttachedNode node) {
+        node.changes.forEach(change -> forEachReference(change, id -> {
+            AttachedNode child = attachedNodes.get(id);
+            if (child != null && referenceCounts.get(id).intValue() == 1) {
+                child.child = true;
+                node.children.add(Integer.valueOf(id));
+            }
+        }));
+    }
+
+    /**
+     * Computes an id identifying the shape of the subtree of the given node,
+     * or {@link #NOT_SHAPEABLE} if the subtree references nodes outside of
+     * it.
+     */
+    private int computeSignature(AttachedNode node) {
+        if (node.changeCount > 0) {
+            return node.signature;
+        }
+        node.changeCount = node.changes.size();
+
+        boolean shapeable = true;
+        Map<Integer, Integer> childSignatures = new HashMap<>();
+        for (Integer childId : node.children) {
+            AttachedNode child = attachedNodes.get(childId);
+            int childSignature = computeSignature(child);
+            shapeable &= childSignature != NOT_SHAPEABLE;
+            node.changeCount += child.changeCount;
+            childSignatures.put(childId, Integer.valueOf(childSignature));
+        }
+        if (!shapeable) {
+            return NOT_SHAPEABLE;
+        }
+
+        StringBuilder signature = new StringBuilder();
+        for (JsonObject change : node.changes) {
+            JsonObject template = createTemplate(change, id -> {
+                Integer childSignature = childSignatures
+                        .get(Integer.valueOf(id));
+                return childSignature == null ? null
+                        : Json.create("#" + childSignature);
+            }, value -> Json.create("?"));
+            if (template == null) {
+                return NOT_SHAPEABLE;
+            }
+            signature.append(template.toJson());
+        }
+
+        node.signature = signatureIds.computeIfAbsent(signature.toString(),
+                key -> Integer.valueOf(signatureIds.size())).intValue();
+        signatureCounts.merge(Integer.valueOf(node.signature), 1,
+                Integer::sum);
+        return node.signature;
+    }
+
+    private void encodeSubtree(int nodeId, AttachedNode node,
+            JsonArray encoded) {
+        if (node.signature == NOT_SHAPEABLE
+                || node.changeCount < MIN_CHANGES
+                || signatureCounts.get(Integer.valueOf(node.signature))
+                        .intValue() < MIN_INSTANCES) {
+            node.changes.forEach(change -> append(encoded, change));
+            node.children.forEach(childId -> encodeSubtree(childId,
+                    attachedNodes.get(childId), encoded));
+            return;
+        }
+
+        // Index the nodes in the order they are referenced from their parents
+        List<Integer> nodeIds = new ArrayList<>();
+        collectSubtree(Integer.valueOf(nodeId), nodeIds);
+        Map<Integer, Integer> localIndexes = new HashMap<>();
+        for (int i = 0; i < nodeIds.size(); i++) {
+            localIndexes.put(nodeIds.get(i), Integer.valueOf(i));
+        }
+
+        JsonArray template = Json.createArray();
+        JsonArray values = Json.createArray();
+        for (Integer id : nodeIds) {
+            for (JsonObject change : attachedNodes.get(id).changes) {
+                JsonObject changeTemplate = createTemplate(change,
+                        ref -> Json.create(localIndexes
+                                .get(Integer.valueOf(ref)).intValue()),
+                        value -> {
+                            append(values, value);
+                            return Json.create(values.length() - 1);
+                        });
+                changeTemplate.put(JsonConstants.CHANGE_NODE,
+                        localIndexes.get(id).intValue());
+                append(template, changeTemplate);
+            }
+        }
+
+        String shapeId = shapeIds.computeIfAbsent(
+                Integer.valueOf(node.signature), key -> constantPool
+                        .getConstantId(new ConstantPoolKey(template)));
+
+        JsonObject instance = Json.createObject();
+        instance.put(JsonConstants.CHANGE_NODE, nodeId);
+        instance.put(JsonConstants.CHANGE_TYPE,
+                JsonConstants.CHANGE_TYPE_SHAPE);
+        instance.put(JsonConstants.CHANGE_SHAPE_ID, shapeId);
+        JsonArray nodeIdsJson = Json.createArray();
+        nodeIds.forEach(id -> nodeIdsJson.set(nodeIdsJson.length(),
+                id.intValue()));
+        instance.put(JsonConstants.CHANGE_SHAPE_NODES, nodeIdsJson);
+        instance.put(JsonConstants.CHANGE_SHAPE_VALUES, values);
+        append(encoded, instance);
+    }
+
+    private void collectSubtree(Integer nodeId, List<Integer> nodeIds) {
+        nodeIds.add(nodeId);
+        attachedNodes.get(nodeId).children
+                .forEach(childId -> collectSubtree(childId, nodeIds));
+    }
+
+    /**
+     * Creates a copy of the given change without the node id, with node
+     * references and values replaced using the given functions. Returns
+     * <code>null</code> if a referenced node cannot be replaced.
+     */
+    private static JsonObject createTemplate(JsonObject change,
+            IntFunction<JsonValue> referenceMapper,
+            Function<JsonValue, JsonValue> valueMapper) {
+        JsonObject template = Json.createObject();
+        for (String key : change.keys()) {
+            JsonValue value = change.get(key);
+            switch (key) {
+            case JsonConstants.CHANGE_NODE:
+                break;
+            case JsonConstants.CHANGE_PUT_NODE_VALUE:
+                value = referenceMapper.apply((int) change.getNumber(key));
+                if (value == null) {
+                    return null;
+                }
+                template.put(key, value);
+                break;
+            case JsonConstants.CHANGE_SPLICE_ADD_NODES:
+                JsonArray nodes = change.getArray(key);
+                JsonArray mapped = Json.createArray();
+                for (int i = 0; i < nodes.length(); i++) {
+                    JsonValue reference = referenceMapper
+                            .apply((int) nodes.getNumber(i));
+                    if (reference == null) {
+                        return null;
+                    }
+                    mapped.set(i, reference);
+                }
+                template.put(key, mapped);
+                break;
+            case JsonConstants.CHANGE_PUT_VALUE:
+            case JsonConstants.CHANGE_SPLICE_ADD:
+                template.put(key, valueMapper.apply(value));
+                break;
+            default:
+                template.put(key, value);
+            }
+        }
+        return template;
+    }
+
+    private static void forEachReference(JsonObject change,
+            IntConsumer action) {
+        if (change.hasKey(JsonConstants.CHANGE_PUT_NODE_VALUE)) {
+            action.accept((int) change
+                    .getNumber(JsonConstants.CHANGE_PUT_NODE_VALUE));
+        } else if (change.hasKey(JsonConstants.CHANGE_SPLICE_ADD_NODES)) {
+            JsonArray nodes = change
+                    .getArray(JsonConstants.CHANGE_SPLICE_ADD_NODES);
+            for (int i = 0; i < nodes.length(); i++) {
+                action.accept((int) nodes.getNumber(i));
+            }
+        }
+    }
+
+    private static boolean isAttach(JsonObject change) {
+        return JsonConstants.CHANGE_TYPE_ATTACH
+                .equals(change.getString(JsonConstants.CHANGE_TYPE));
+    }
+
+    private static int getNodeId(JsonObject change) {
+        return (int) change.getNumber(JsonConstants.CHANGE_NODE);
+    }
+
+    private static void append(JsonArray array, JsonValue value) {
+        array.set(array.length(), value);
+    }
+}
@@ -118,8 +118,11 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
     private static void writeUidl(UI ui, Writer writer) throws IOException {
         JsonObject uidl = new UidlWriter().createUidl(ui, false);
 
+        long start = System.nanoTime();
         // some dirt to prevent cross site scripting
         String responseString = "for(;;);[" + uidl.toJson() + "]";
+        ui.getSession().getService().getMetrics().responseEncoded(
+                responseString.length(), System.nanoTime() - start);
         writer.write(responseString);
     }
 
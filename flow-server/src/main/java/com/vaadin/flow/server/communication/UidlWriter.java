@@ -42,6 +42,8 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.ConstantPoolKey;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateTree;
@@ -54,6 +56,7 @@ import com.vaadin.flow.server.SystemMessages;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.WebBrowser;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
@@ -174,13 +177,21 @@ public class UidlWriter implements Serializable {
             response.put("meta", meta);
         }
 
-        JsonArray stateChanges = Json.createArray();
-
-        encodeChanges(ui, stateChanges);
+        JsonArray stateChanges = encodeChanges(ui);
+        uiInternals.getStateTree().markReleasedIdsSent(syncId);
 
         populateDependencies(response, uiInternals.getDependencyList(),
                 new ResolveContext(service, session.getBrowser(), null));
 
+        List<JavaScriptInvocation> executeJavaScriptList = uiInternals
+                .dumpPendingJavaScriptInvocations();
+        if (!executeJavaScriptList.isEmpty()) {
+            // Encoded before dumping constants to include reusable functions
+            response.put(JsonConstants.UIDL_KEY_EXECUTE,
+                    encodeExecuteJavaScriptList(executeJavaScriptList,
+                            uiInternals.getConstantPool()));
+        }
+
         if (uiInternals.getConstantPool().hasNewConstants()) {
             response.put("constants",
                     uiInternals.getConstantPool().dumpConstants());
@@ -188,13 +199,6 @@ public class UidlWriter implements Serializable {
         if (stateChanges.length() != 0) {
             response.put("changes", stateChanges);
         }
-
-        List<JavaScriptInvocation> executeJavaScriptList = uiInternals
-                .dumpPendingJavaScriptInvocations();
-        if (!executeJavaScriptList.isEmpty()) {
-            response.put(JsonConstants.UIDL_KEY_EXECUTE,
-                    encodeExecuteJavaScriptList(executeJavaScriptList));
-        }
         if (ui.getSession().getService().getDeploymentConfiguration()
                 .isRequestTiming()) {
             response.put("timings", createPerformanceData(ui));
@@ -296,22 +300,30 @@ public class UidlWriter implements Serializable {
 
     // non-private for testing purposes
     static JsonArray encodeExecuteJavaScriptList(
-            List<JavaScriptInvocation> executeJavaScriptList) {
+            List<JavaScriptInvocation> executeJavaScriptList,
+            ConstantPool constantPool) {
         return executeJavaScriptList.stream()
-                .map(UidlWriter::encodeExecuteJavaScript)
+                .map(invocation -> encodeExecuteJavaScript(invocation,
+                        constantPool))
                 .collect(JsonUtils.asArray());
     }
 
     private static JsonArray encodeExecuteJavaScript(
-            JavaScriptInvocation executeJavaScript) {
+            JavaScriptInvocation executeJavaScript, ConstantPool constantPool) {
         Stream<JsonValue> parametersStream = executeJavaScript.getParameters()
                 .stream().map(JsonCodec::encodeWithTypeInfo);
 
+        JsonValue script = Json.create(executeJavaScript.getExpression());
+        if (executeJavaScript.isReusable()) {
+            // {fn: constantId} referencing the expression in the constant pool
+            JsonObject function = Json.createObject();
+            function.put(JsonConstants.EXECUTE_FUNCTION_ID,
+                    constantPool.getConstantId(new ConstantPoolKey(script)));
+            script = function;
+        }
+
         // [argument1, argument2, ..., script]
-        return Stream
-                .concat(parametersStream,
-                        Stream.of(
-                                Json.create(executeJavaScript.getExpression())))
+        return Stream.concat(parametersStream, Stream.of(script))
                 .collect(JsonUtils.asArray());
     }
 
@@ -321,18 +333,24 @@ public class UidlWriter implements Serializable {
      * {@link StateTree#beforeClientResponse(com.vaadin.flow.internal.StateNode, com.vaadin.flow.function.SerializableConsumer)}
      * at evaluated before the changes are encoded.
      *
+     * Repeated subtrees of attached nodes are encoded using subtree shapes.
+     *
      * @param ui
      *            the UI
-     * @param stateChanges
-     *            a JSON array to put state changes into
+     * @return a JSON array of state changes
      * @see StateTree#runExecutionsBeforeClientResponse()
      */
-    private void encodeChanges(UI ui, JsonArray stateChanges) {
+    private JsonArray encodeChanges(UI ui) {
         UIInternals uiInternals = ui.getInternals();
         StateTree stateTree = uiInternals.getStateTree();
+        ServiceMetrics metrics = ui.getSession().getService().getMetrics();
 
+        long start = System.nanoTime();
         stateTree.runExecutionsBeforeClientResponse();
+        long collectStart = System.nanoTime();
+        metrics.beforeClientResponseExecuted(collectStart - start);
 
+        JsonArray stateChanges = Json.createArray();
         Set<Class<? extends Component>> componentsWithDependencies = new LinkedHashSet<>();
         stateTree.collectChanges(change -> {
             if (attachesComponent(change)) {
@@ -346,9 +364,14 @@ public class UidlWriter implements Serializable {
             stateChanges.set(stateChanges.length(),
                     change.toJson(uiInternals.getConstantPool()));
         });
+        metrics.changesCollected(stateChanges.length(),
+                System.nanoTime() - collectStart);
 
         componentsWithDependencies
                 .forEach(uiInternals::addComponentDependencies);
+
+        return new SubtreeShapeEncoder(uiInternals.getConstantPool())
+                .encode(stateChanges);
     }
 
     private static boolean attachesComponent(NodeChange change) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.vaadin.flow.server.RequestHandler;
+
+/**
+ * Service metrics which delegates to a number of other service metrics, in the
+ * order they were given.
+ *
+ * @author Vaadin Ltd
+ */
+public class CompositeServiceMetrics implements ServiceMetrics {
+
+    private final ServiceMetrics[] delegates;
+
+    /**
+     * Creates a new composite for the given metrics.
+     *
+     * @param delegates
+     *            the metrics to delegate to, not <code>null</code>
+     */
+    public CompositeServiceMetrics(Collection<ServiceMetrics> delegates) {
+        List<ServiceMetrics> list = new ArrayList<>(delegates);
+        this.delegates = list.toArray(new ServiceMetrics[list.size()]);
+    }
+
+    @Override
+    public void requestHandled(RequestHandler handler, boolean handled,
+            long durationNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.requestHandled(handler, handled, durationNanos);
+        }
+    }
+
+    @Override
+    public void sessionLockAcquired(long waitNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.sessionLockAcquired(waitNanos);
+        }
+    }
+
+    @Override
+    public void sessionLockReleased(long holdNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.sessionLockReleased(holdNanos);
+        }
+    }
+
+    @Override
+    public void sessionLockTimedOut(long waitNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.sessionLockTimedOut(waitNanos);
+        }
+    }
+
+    @Override
+    public void sessionLockLongWait(Thread holder,
+            StackTraceElement[] holderStack, long waitNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.sessionLockLongWait(holder, holderStack, waitNanos);
+        }
+    }
+
+    @Override
+    public void rpcDecoded(int invocationCount, long decodeNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.rpcDecoded(invocationCount, decodeNanos);
+        }
+    }
+
+    @Override
+    public void rpcHandled(int invocationCount, long durationNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.rpcHandled(invocationCount, durationNanos);
+        }
+    }
+
+    @Override
+    public void beforeClientResponseExecuted(long durationNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.beforeClientResponseExecuted(durationNanos);
+        }
+    }
+
+    @Override
+    public void changesCollected(int changeCount, long durationNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.changesCollected(changeCount, durationNanos);
+        }
+    }
+
+    @Override
+    public void responseEncoded(int length, long durationNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.responseEncoded(length, durationNanos);
+        }
+    }
+
+    @Override
+    public void pushSent(int length, long durationNanos) {
+        for (ServiceMetrics delegate : delegates) {
+            delegate.pushSent(length, durationNanos);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.vaadin.flow.server.RequestHandler;
+
+/**
+ * Service metrics implementation which aggregates all measurements in memory.
+ * <p>
+ * Each measurement is recorded in a {@link Timer} identified by a name. The
+ * names used for the built-in measurements are available as constants in this
+ * class. Request handler timers are named {@value #REQUEST_HANDLER_PREFIX}
+ * followed by the fully qualified class name of the handler.
+ * <p>
+ * This implementation is mainly intended for development and testing, and as
+ * a reference for integrating with a real monitoring system.
+ *
+ * @author Vaadin Ltd
+ */
+public class InMemoryServiceMetrics implements ServiceMetrics {
+
+    /**
+     * Prefix of timer names for request handlers that handled a request.
+     */
+    public static final String REQUEST_HANDLER_PREFIX = "request.handler.";
+    /**
+     * Timer name for session lock wait times.
+     */
+    public static final String SESSION_LOCK_WAIT = "session.lock.wait";
+    /**
+     * Timer name for session lock hold times.
+     */
+    public static final String SESSION_LOCK_HOLD = "session.lock.hold";
+    /**
+     * Timer name for session lock waits that timed out.
+     */
+    public static final String SESSION_LOCK_TIMEOUT = "session.lock.timeout";
+    /**
+     * Timer name for session lock waits that exceeded the long wait
+     * threshold, with the time waited until the lock holder was sampled.
+     */
+    public static final String SESSION_LOCK_LONG_WAIT = "session.lock.longWait";
+    /**
+     * Timer name for RPC message decoding, with the number of invocations as
+     * the amount.
+     */
+    public static final String RPC_DECODE = "rpc.decode";
+    /**
+     * Timer name for RPC invocation handling, with the number of invocations
+     * as the amount.
+     */
+    public static final String RPC_HANDLE = "rpc.handle";
+    /**
+     * Timer name for running before client response executions.
+     */
+    public static final String BEFORE_CLIENT_RESPONSE = "uidl.beforeClientResponse";
+    /**
+     * Timer name for collecting changes, with the number of changes as the
+     * amount.
+     */
+    public static final String COLLECT_CHANGES = "uidl.collectChanges";
+    /**
+     * Timer name for encoding responses, with the response length as the
+     * amount.
+     */
+    public static final String ENCODE_RESPONSE = "uidl.encode";
+    /**
+     * Timer name for sending push messages, with the message length as the
+     * amount.
+     */
+    public static final String PUSH_SEND = "push.send";
+
+    private static final int HISTOGRAM_BUCKETS = 6;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final AtomicReference<LockHolderSample> lastLockHolderSample = new AtomicReference<>();
+
+    /**
+     * The thread holding the session lock, sampled when another thread had
+     * waited for the lock longer than the configured threshold.
+     */
+    public static class LockHolderSample implements Serializable {
+        private final String threadName;
+        private final StackTraceElement[] stackTrace;
+        private final long waitNanos;
+
+        private LockHolderSample(String threadName,
+                StackTraceElement[] stackTrace, long waitNanos) {
+            this.threadName = threadName;
+            this.stackTrace = stackTrace;
+            this.waitNanos = waitNanos;
+        }
+
+        /**
+         * Gets the name of the thread holding the lock.
+         *
+         * @return the thread name
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Gets the stack trace of the thread holding the lock at the time of
+         * sampling.
+         *
+         * @return a copy of the stack trace
+         */
+        public StackTraceElement[] getStackTrace() {
+            return stackTrace.clone();
+        }
+
+        /**
+         * Gets how long the waiting thread had waited when the sample was
+         * taken.
+         *
+         * @param unit
+         *            the time unit to get the duration in, not
+         *            <code>null</code>
+         * @return the wait time in the given unit
+         */
+        public long getWaitTime(TimeUnit unit) {
+            return unit.convert(waitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Aggregated measurements for one metric: the number of measurements, the
+     * total and maximum duration, a histogram of durations and the total of an
+     * optional amount, such as a size or a count, reported with each
+     * measurement.
+     */
+    public static class Timer implements Serializable {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        // Not serializable because of the accumulator function
+        private transient LongAccumulator maxNanos = createMaxAccumulator();
+        private final LongAdder amount = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+        private Timer() {
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        private void record(long durationNanos, long measuredAmount) {
+            count.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+            amount.add(measuredAmount);
+            histogram[getBucket(durationNanos)].increment();
+        }
+
+        private static LongAccumulator createMaxAccumulator() {
+            return new LongAccumulator(Math::max, 0);
+        }
+
+        private void writeObject(ObjectOutputStream stream)
+                throws IOException {
+            stream.defaultWriteObject();
+            stream.writeLong(maxNanos.get());
+        }
+
+        private void readObject(ObjectInputStream stream)
+                throws IOException, ClassNotFoundException {
+            stream.defaultReadObject();
+            maxNanos = createMaxAccumulator();
+            maxNanos.accumulate(stream.readLong());
+        }
+
+        private static int getBucket(long durationNanos) {
+            long limit = TimeUnit.MILLISECONDS.toNanos(1);
+            int bucket = 0;
+            while (bucket < HISTOGRAM_BUCKETS - 1 && durationNanos >= limit) {
+                limit *= 10;
+                bucket++;
+            }
+            return bucket;
+        }
+
+        /**
+         * Gets a histogram of the recorded durations with exponentially
+         * growing buckets: less than 1 ms, 1-10 ms, 10-100 ms, 100 ms - 1 s,
+         * 1-10 s and 10 s or more.
+         *
+         * @return the number of measurements in each bucket
+         */
+        public long[] getHistogram() {
+            long[] counts = new long[histogram.length];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = histogram[i].sum();
+            }
+            return counts;
+        }
+
+        /**
+         * Gets the number of recorded measurements.
+         *
+         * @return the number of measurements
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the sum of all recorded durations.
+         *
+         * @param unit
+         *            the time unit to get the duration in, not
+         *            <code>null</code>
+         * @return the total duration in the given unit
+         */
+        public long getTotalTime(TimeUnit unit) {
+            return unit.convert(totalNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the longest recorded duration.
+         *
+         * @param unit
+         *            the time unit to get the duration in, not
+         *            <code>null</code>
+         * @return the maximum duration in the given unit
+         */
+        public long getMaxTime(TimeUnit unit) {
+            return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Gets the mean of all recorded durations.
+         *
+         * @param unit
+         *            the time unit to get the duration in, not
+         *            <code>null</code>
+         * @return the mean duration in the given unit, or 0 if nothing has
+         *         been recorded
+         */
+        public double getMeanTime(TimeUnit unit) {
+            long measurements = getCount();
+            if (measurements == 0) {
+                return 0;
+            }
+            return (double) getTotalTime(TimeUnit.NANOSECONDS) / measurements
+                    / unit.toNanos(1);
+        }
+
+        /**
+         * Gets the sum of the amounts reported with the measurements, e.g.
+         * the total number of RPC invocations or the total response length.
+         *
+         * @return the total amount
+         */
+        public long getTotalAmount() {
+            return amount.sum();
+        }
+    }
+
+    @Override
+    public void requestHandled(RequestHandler handler, boolean handled,
+            long durationNanos) {
+        if (handled) {
+            record(REQUEST_HANDLER_PREFIX + handler.getClass().getName(),
+                    durationNanos, 0);
+        }
+    }
+
+    @Override
+    public void sessionLockAcquired(long waitNanos) {
+        record(SESSION_LOCK_WAIT, waitNanos, 0);
+    }
+
+    @Override
+    public void sessionLockReleased(long holdNanos) {
+        record(SESSION_LOCK_HOLD, holdNanos, 0);
+    }
+
+    @Override
+    public void sessionLockTimedOut(long waitNanos) {
+        record(SESSION_LOCK_TIMEOUT, waitNanos, 0);
+    }
+
+    @Override
+    public void sessionLockLongWait(Thread holder,
+            StackTraceElement[] holderStack, long waitNanos) {
+        record(SESSION_LOCK_LONG_WAIT, waitNanos, 0);
+        lastLockHolderSample.set(new LockHolderSample(holder.getName(),
+                holderStack, waitNanos));
+    }
+
+    @Override
+    public void rpcDecoded(int invocationCount, long decodeNanos) {
+        record(RPC_DECODE, decodeNanos, invocationCount);
+    }
+
+    @Override
+    public void rpcHandled(int invocationCount, long durationNanos) {
+        record(RPC_HANDLE, durationNanos, invocationCount);
+    }
+
+    @Override
+    public void beforeClientResponseExecuted(long durationNanos) {
+        record(BEFORE_CLIENT_RESPONSE, durationNanos, 0);
+    }
+
+    @Override
+    public void changesCollected(int changeCount, long durationNanos) {
+        record(COLLECT_CHANGES, durationNanos, changeCount);
+    }
+
+    @Override
+    public void responseEncoded(int length, long durationNanos) {
+        record(ENCODE_RESPONSE, durationNanos, length);
+    }
+
+    @Override
+    public void pushSent(int length, long durationNanos) {
+        record(PUSH_SEND, durationNanos, length);
+    }
+
+    /**
+     * Records a measurement for the timer with the given name, creating the
+     * timer if necessary.
+     *
+     * @param name
+     *            the timer name, not <code>null</code>
+     * @param durationNanos
+     *            the measured duration in nanoseconds
+     * @param amount
+     *            the amount to add to the total amount of the timer
+     */
+    protected void record(String name, long durationNanos, long amount) {
+        timers.computeIfAbsent(name, key -> new Timer()).record(durationNanos,
+                amount);
+    }
+
+    /**
+     * Gets the timer with the given name.
+     *
+     * @param name
+     *            the timer name, not <code>null</code>
+     * @return the timer, or an empty optional if nothing has been recorded
+     *         with the name
+     */
+    public Optional<Timer> getTimer(String name) {
+        return Optional.ofNullable(timers.get(name));
+    }
+
+    /**
+     * Gets the names of all timers with recorded measurements.
+     *
+     * @return an unmodifiable set of timer names
+     */
+    public Set<String> getTimerNames() {
+        return Collections.unmodifiableSet(timers.keySet());
+    }
+
+    /**
+     * Gets the most recent sample of a thread holding the session lock while
+     * another thread had to wait longer than the configured threshold.
+     *
+     * @return the latest lock holder sample, or an empty optional if no long
+     *         waits have been reported
+     */
+    public Optional<LockHolderSample> getLastLockHolderSample() {
+        return Optional.ofNullable(lastLockHolderSample.get());
+    }
+
+    /**
+     * Removes all recorded measurements.
+     */
+    public void reset() {
+        timers.clear();
+        lastLockHolderSample.set(null);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.metrics;
+
+import java.io.Serializable;
+
+import com.vaadin.flow.server.RequestHandler;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinService;
+
+/**
+ * Receives timings and counts from the hot paths of request, UIDL and push
+ * processing of a {@link VaadinService}.
+ * <p>
+ * Metrics are registered for a service using
+ * {@link ServiceInitEvent#addServiceMetrics(ServiceMetrics)} in a
+ * {@link com.vaadin.flow.server.VaadinServiceInitListener}. All methods have
+ * an empty default implementation so that an implementation only needs to
+ * override the methods it is interested in.
+ * <p>
+ * Methods are called from request threads, often while the session lock is
+ * held, so implementations must be thread safe and should return quickly.
+ * All durations are given in nanoseconds, as measured by
+ * {@link System#nanoTime()}.
+ *
+ * @author Vaadin Ltd
+ * @see InMemoryServiceMetrics
+ */
+public interface ServiceMetrics extends Serializable {
+
+    /**
+     * Metrics instance which ignores everything, used when no metrics have
+     * been registered for a service.
+     */
+    ServiceMetrics NO_OP = new ServiceMetrics() {
+    };
+
+    /**
+     * Called after a request handler has been invoked for a request.
+     *
+     * @param handler
+     *            the invoked request handler
+     * @param handled
+     *            <code>true</code> if the handler handled the request,
+     *            <code>false</code> if the request was passed on to the next
+     *            handler
+     * @param durationNanos
+     *            the time spent in the handler
+     */
+    default void requestHandled(RequestHandler handler, boolean handled,
+            long durationNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after a thread has acquired the session lock.
+     *
+     * @param waitNanos
+     *            the time spent waiting for the lock
+     */
+    default void sessionLockAcquired(long waitNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called when a thread finally releases the session lock.
+     *
+     * @param holdNanos
+     *            the time the lock was held
+     */
+    default void sessionLockReleased(long holdNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called when a thread gives up waiting for the session lock because the
+     * configured timeout elapsed.
+     *
+     * @param waitNanos
+     *            the time spent waiting for the lock
+     * @see com.vaadin.flow.function.DeploymentConfiguration#getSessionLockTimeout()
+     */
+    default void sessionLockTimedOut(long waitNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called when a thread has been waiting for the session lock longer than
+     * the configured threshold. The thread holding the lock is sampled at that
+     * moment.
+     *
+     * @param holder
+     *            the thread holding the lock
+     * @param holderStack
+     *            the stack trace of the holder at the time of sampling
+     * @param waitNanos
+     *            the time the waiting thread has waited so far
+     * @see com.vaadin.flow.function.DeploymentConfiguration#getSessionLockLongWaitThreshold()
+     */
+    default void sessionLockLongWait(Thread holder,
+            StackTraceElement[] holderStack, long waitNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after an RPC message from the client has been decoded.
+     *
+     * @param invocationCount
+     *            the number of RPC invocations in the message
+     * @param decodeNanos
+     *            the time spent parsing the message
+     */
+    default void rpcDecoded(int invocationCount, long decodeNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after all RPC invocations of a message from the client have been
+     * handled.
+     *
+     * @param invocationCount
+     *            the number of handled RPC invocations
+     * @param durationNanos
+     *            the time spent handling the invocations
+     */
+    default void rpcHandled(int invocationCount, long durationNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after the executions registered using
+     * {@link com.vaadin.flow.internal.StateTree#beforeClientResponse(com.vaadin.flow.internal.StateNode, com.vaadin.flow.function.SerializableConsumer)}
+     * have been run for a response.
+     *
+     * @param durationNanos
+     *            the time spent running the executions
+     */
+    default void beforeClientResponseExecuted(long durationNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after the state tree changes for a response have been collected
+     * and encoded.
+     *
+     * @param changeCount
+     *            the number of collected changes
+     * @param durationNanos
+     *            the time spent collecting and encoding the changes
+     */
+    default void changesCollected(int changeCount, long durationNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after a UIDL response has been serialized to JSON.
+     *
+     * @param length
+     *            the length of the serialized response in characters
+     * @param durationNanos
+     *            the time spent serializing the response
+     */
+    default void responseEncoded(int length, long durationNanos) {
+        // NO-OP by default
+    }
+
+    /**
+     * Called after a push message has been handed over to the push
+     * connection.
+     *
+     * @param length
+     *            the length of the message in characters
+     * @param durationNanos
+     *            the time spent creating and sending the message
+     */
+    default void pushSent(int length, long durationNanos) {
+        // NO-OP by default
+    }
+}
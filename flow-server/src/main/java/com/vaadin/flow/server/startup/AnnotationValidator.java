@@ -42,6 +42,10 @@ public class AnnotationValidator extends AbstractAnnotationValidator
     @Override
     public void onStartup(Set<Class<?>> classSet, ServletContext servletContext)
             throws ServletException {
+        if (StartupClassIndex.isIndexed(servletContext, getClass())) {
+            // Run by StartupClassIndexInitializer with the indexed classes
+            return;
+        }
         validateClasses(classSet);
     }
 
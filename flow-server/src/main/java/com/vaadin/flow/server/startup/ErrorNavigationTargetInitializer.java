@@ -35,10 +35,27 @@ import com.vaadin.flow.router.HasErrorParameter;
 public class ErrorNavigationTargetInitializer
         implements ServletContainerInitializer {
 
-    @SuppressWarnings("unchecked")
     @Override
     public void onStartup(Set<Class<?>> classSet, ServletContext servletContext)
             throws ServletException {
+        if (StartupClassIndex.isIndexed(servletContext, getClass())) {
+            // Run by StartupClassIndexInitializer with the indexed classes
+            return;
+        }
+        initialize(classSet, servletContext);
+    }
+
+    /**
+     * Registers the given classes as error navigation targets.
+     *
+     * @param classSet
+     *            the classes implementing {@link HasErrorParameter}, may be
+     *            <code>null</code>
+     * @param servletContext
+     *            the servlet context
+     */
+    @SuppressWarnings("unchecked")
+    void initialize(Set<Class<?>> classSet, ServletContext servletContext) {
         if (classSet == null) {
             classSet = new HashSet<>();
         }
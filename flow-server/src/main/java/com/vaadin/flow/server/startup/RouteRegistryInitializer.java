@@ -38,6 +38,26 @@ public class RouteRegistryInitializer extends AbstractRouteRegistryInitializer
     @Override
     public void onStartup(Set<Class<?>> classSet, ServletContext servletContext)
             throws ServletException {
+        if (StartupClassIndex.isIndexed(servletContext, getClass())) {
+            // Run by StartupClassIndexInitializer with the indexed classes
+            return;
+        }
+        initialize(classSet, servletContext);
+    }
+
+    /**
+     * Registers the navigation targets among the given classes.
+     *
+     * @param classSet
+     *            the classes annotated with the handled types, may be
+     *            <code>null</code>
+     * @param servletContext
+     *            the servlet context
+     * @throws ServletException
+     *             if the route configuration is invalid
+     */
+    void initialize(Set<Class<?>> classSet, ServletContext servletContext)
+            throws ServletException {
         try {
             if (classSet == null) {
                 RouteRegistry.getInstance(servletContext)
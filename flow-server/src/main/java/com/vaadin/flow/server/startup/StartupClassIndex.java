@@ -0,0 +1,196 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.startup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.ServletContext;
+import javax.servlet.annotation.HandlesTypes;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Index of the classes handled by the servlet container initializers, created
+ * at build time so that the initializers don't depend on the classes found by
+ * the servlet container when scanning the class path.
+ * <p>
+ * The index is read from the {@value #INDEX_RESOURCE} resource in the classes
+ * of the web application, i.e. in <code>/WEB-INF/classes</code> of the servlet
+ * context. Index resources in library jars are ignored, since they only cover
+ * the classes of the library and not the classes of the application. The
+ * resource is a JSON object that maps the name of a handled type to an array
+ * of the names of the classes that are annotated with it or extend it.
+ * <p>
+ * An initializer is covered by the index if the index contains an entry for
+ * each type in the {@link HandlesTypes} annotation of the initializer and all
+ * the indexed classes can be loaded. A covered initializer ignores the classes
+ * provided by the servlet container and is run with the indexed classes by
+ * {@link StartupClassIndexInitializer} instead. Other initializers use the
+ * classes provided by the servlet container.
+ * <p>
+ * The servlet container scans the class path as long as any initializer with
+ * a {@link HandlesTypes} annotation is enabled. To avoid the scan, the
+ * initializers covered by the index can be excluded in the container
+ * configuration, e.g. using the <code>containerSciFilter</code> attribute of
+ * the context in Tomcat or the
+ * <code>org.eclipse.jetty.containerInitializerExclusionPattern</code> context
+ * attribute in Jetty.
+ *
+ * @author Vaadin Ltd
+ */
+public final class StartupClassIndex {
+
+    /**
+     * The location of the class index resources in the class path.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/VAADIN/flow-class-index.json";
+
+    private static final String WEBAPP_INDEX_RESOURCE = "/WEB-INF/classes/"
+            + INDEX_RESOURCE;
+
+    private static final String INDEX_ATTRIBUTE = StartupClassIndex.class
+            .getName();
+
+    private final Map<String, Set<String>> classNames;
+
+    private final Map<Class<?>, Optional<Set<Class<?>>>> indexedClasses = new ConcurrentHashMap<>();
+
+    private StartupClassIndex(Map<String, Set<String>> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Gets the classes handled by the given initializer from the class index.
+     *
+     * @param servletContext
+     *            the servlet context
+     * @param initializerType
+     *            the type of the initializer with a {@link HandlesTypes}
+     *            annotation
+     * @return the indexed classes, or an empty optional if the index doesn't
+     *         cover the initializer
+     */
+    public static Optional<Set<Class<?>>> getIndexedClasses(
+            ServletContext servletContext, Class<?> initializerType) {
+        StartupClassIndex index = getInstance(servletContext);
+        return index.indexedClasses.computeIfAbsent(initializerType,
+                type -> index.loadClasses(type,
+                        servletContext.getClassLoader()));
+    }
+
+    /**
+     * Checks whether the class index covers the given initializer. A covered
+     * initializer should ignore the classes provided by the servlet container,
+     * since it is run by {@link StartupClassIndexInitializer} instead.
+     *
+     * @param servletContext
+     *            the servlet context
+     * @param initializerType
+     *            the type of the initializer
+     * @return <code>true</code> if the initializer is covered by the index,
+     *         <code>false</code> otherwise
+     */
+    public static boolean isIndexed(ServletContext servletContext,
+            Class<?> initializerType) {
+        return getIndexedClasses(servletContext, initializerType).isPresent();
+    }
+
+    private Optional<Set<Class<?>>> loadClasses(Class<?> initializerType,
+            ClassLoader classLoader) {
+        HandlesTypes handlesTypes = initializerType
+                .getAnnotation(HandlesTypes.class);
+        if (handlesTypes == null) {
+            return Optional.empty();
+        }
+        Set<Class<?>> classes = new HashSet<>();
+        for (Class<?> handledType : handlesTypes.value()) {
+            Set<String> names = classNames.get(handledType.getName());
+            if (names == null) {
+                return Optional.empty();
+            }
+            for (String name : names) {
+                try {
+                    classes.add(Class.forName(name, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    getLogger().warn(
+                            "Ignoring the class index for {}, since the indexed class {} could not be loaded",
+                            initializerType.getName(), name, e);
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(classes);
+    }
+
+    private static StartupClassIndex getInstance(
+            ServletContext servletContext) {
+        synchronized (servletContext) {
+            Object attribute = servletContext.getAttribute(INDEX_ATTRIBUTE);
+            if (attribute instanceof StartupClassIndex) {
+                return (StartupClassIndex) attribute;
+            }
+            StartupClassIndex index = new StartupClassIndex(
+                    readIndex(servletContext));
+            servletContext.setAttribute(INDEX_ATTRIBUTE, index);
+            return index;
+        }
+    }
+
+    private static Map<String, Set<String>> readIndex(
+            ServletContext servletContext) {
+        Map<String, Set<String>> classNames = new HashMap<>();
+        try (InputStream stream = servletContext
+                .getResourceAsStream(WEBAPP_INDEX_RESOURCE)) {
+            if (stream == null) {
+                return classNames;
+            }
+            JsonObject json = Json
+                    .parse(IOUtils.toString(stream, StandardCharsets.UTF_8));
+            for (String type : json.keys()) {
+                JsonArray names = json.getArray(type);
+                Set<String> typeClasses = new HashSet<>();
+                for (int i = 0; i < names.length(); i++) {
+                    typeClasses.add(names.getString(i));
+                }
+                classNames.put(type, typeClasses);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to read the class index " + WEBAPP_INDEX_RESOURCE,
+                    e);
+        }
+        return classNames;
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(StartupClassIndex.class.getName());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.startup;
+
+import java.util.Optional;
+import java.util.Set;
+
+import javax.servlet.ServletContainerInitializer;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+
+/**
+ * Servlet initializer that runs the initializers covered by the
+ * {@link StartupClassIndex} with the indexed classes. This initializer has no
+ * {@link javax.servlet.annotation.HandlesTypes} annotation, so it doesn't
+ * require the servlet container to scan the class path.
+ */
+public class StartupClassIndexInitializer
+        implements ServletContainerInitializer {
+
+    @Override
+    public void onStartup(Set<Class<?>> classSet, ServletContext servletContext)
+            throws ServletException {
+        Optional<Set<Class<?>>> routes = StartupClassIndex
+                .getIndexedClasses(servletContext,
+                        RouteRegistryInitializer.class);
+        if (routes.isPresent()) {
+            new RouteRegistryInitializer().initialize(routes.get(),
+                    servletContext);
+        }
+
+        Optional<Set<Class<?>>> errorTargets = StartupClassIndex
+                .getIndexedClasses(servletContext,
+                        ErrorNavigationTargetInitializer.class);
+        if (errorTargets.isPresent()) {
+            new ErrorNavigationTargetInitializer()
+                    .initialize(errorTargets.get(), servletContext);
+        }
+
+        Optional<Set<Class<?>>> annotated = StartupClassIndex
+                .getIndexedClasses(servletContext, AnnotationValidator.class);
+        if (annotated.isPresent()) {
+            new AnnotationValidator().validateClasses(annotated.get());
+        }
+    }
+}
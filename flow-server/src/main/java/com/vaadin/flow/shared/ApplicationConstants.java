@@ -176,6 +176,12 @@ public class ApplicationConstants implements Serializable {
      */
     public static final String ROUTER_LINK_ATTRIBUTE = "router-link";
 
+    /**
+     * Attribute holding the state node ids of a subtree pre-rendered into the
+     * bootstrap page, in document order.
+     */
+    public static final String PRE_RENDER_ATTRIBUTE = "data-flow-prerender";
+
     /**
      * Configuration parameter for the build URL of ES6 web components.
      */
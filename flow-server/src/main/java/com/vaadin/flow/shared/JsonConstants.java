@@ -19,6 +19,7 @@ import java.io.Serializable;
 
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.dom.DebouncePhase;
+import com.vaadin.flow.dom.PropertySyncMode;
 
 /**
  * A utility class providing constants for JSON related features.
@@ -123,6 +124,29 @@ public class JsonConstants implements Serializable {
      */
     public static final String CHANGE_PUT_NODE_VALUE = "nodeValue";
 
+    /**
+     * Type value for a change that instantiates a subtree shape.
+     */
+    public static final String CHANGE_TYPE_SHAPE = "shape";
+
+    /**
+     * Key holding the constant pool id of the changes template of a subtree
+     * shape change.
+     */
+    public static final String CHANGE_SHAPE_ID = "shapeId";
+
+    /**
+     * Key holding the ids of the nodes of a subtree shape change, referenced
+     * by index from the changes template.
+     */
+    public static final String CHANGE_SHAPE_NODES = "nodes";
+
+    /**
+     * Key holding the values of a subtree shape change, referenced by index
+     * from the changes template.
+     */
+    public static final String CHANGE_SHAPE_VALUES = "values";
+
     /**
      * Key holding the type in of messages sent from the client.
      */
@@ -164,6 +188,12 @@ public class JsonConstants implements Serializable {
      */
     public static final String UIDL_KEY_EXECUTE = "execute";
 
+    /**
+     * Key holding the constant pool id of the expression to invoke in an
+     * {@link #UIDL_KEY_EXECUTE} invocation that refers to a reusable function.
+     */
+    public static final String EXECUTE_FUNCTION_ID = "fn";
+
     /**
      * Key used to hold the feature id when synchronizing node values.
      */
@@ -294,4 +324,24 @@ public class JsonConstants implements Serializable {
      * Character used for representing {@link DebouncePhase#TRAILING}.
      */
     public static final String EVENT_PHASE_TRAILING = "trailing";
+
+    /**
+     * String used for representing {@link PropertySyncMode#COALESCE}.
+     */
+    public static final String SYNC_MODE_COALESCE = "coalesce";
+
+    /**
+     * String used for representing {@link PropertySyncMode#THROTTLE}.
+     */
+    public static final String SYNC_MODE_THROTTLE = "throttle";
+
+    /**
+     * String used for representing {@link PropertySyncMode#DEBOUNCE}.
+     */
+    public static final String SYNC_MODE_DEBOUNCE = "debounce";
+
+    /**
+     * String used for representing {@link PropertySyncMode#IDLE}.
+     */
+    public static final String SYNC_MODE_IDLE = "idle";
 }
@@ -23,6 +23,9 @@ import org.junit.Test;
 import com.vaadin.flow.component.ComponentTest.TestComponent;
 import com.vaadin.flow.internal.ReflectionCache;
 
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
 public class ComponentEventBusUtilTest {
 
     @DomEvent("dom-event")
@@ -104,4 +107,46 @@ public class ComponentEventBusUtilTest {
                     exception.getMessage());
         }
     }
+
+    @Test
+    public void createEventForDomEvent_eventDataDecoded() {
+        TestComponent component = new TestComponent();
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.someData", 42);
+        eventData.put("event.moreData", "foo");
+
+        MappedToDomEvent event = ComponentEventBusUtil.createEventForDomEvent(
+                MappedToDomEvent.class, new com.vaadin.flow.dom.DomEvent(
+                        component.getElement(), "dom-event", eventData),
+                component);
+
+        Assert.assertSame(component, event.getSource());
+        Assert.assertTrue(event.isFromClient());
+        Assert.assertEquals(42, event.getSomeData());
+        Assert.assertEquals("foo", event.getMoreData());
+    }
+
+    @Test
+    public void createEventForDomEvent_missingObjectData_null() {
+        TestComponent component = new TestComponent();
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.someData", 1);
+
+        MappedToDomEvent event = ComponentEventBusUtil.createEventForDomEvent(
+                MappedToDomEvent.class, new com.vaadin.flow.dom.DomEvent(
+                        component.getElement(), "dom-event", eventData),
+                component);
+
+        Assert.assertEquals(1, event.getSomeData());
+        Assert.assertNull(event.getMoreData());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createEventForDomEvent_missingPrimitiveData_throws() {
+        TestComponent component = new TestComponent();
+        ComponentEventBusUtil.createEventForDomEvent(MappedToDomEvent.class,
+                new com.vaadin.flow.dom.DomEvent(component.getElement(),
+                        "dom-event", Json.createObject()),
+                component);
+    }
 }
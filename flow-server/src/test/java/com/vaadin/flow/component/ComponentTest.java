@@ -43,8 +43,13 @@ import com.vaadin.flow.dom.DisabledUpdateMode;
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
+import com.vaadin.flow.dom.ElementPropertyDefaults;
+import com.vaadin.flow.dom.PropertySyncMode;
+import com.vaadin.flow.internal.change.MapPutChange;
+import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
 import com.vaadin.flow.internal.nodefeature.SynchronizedPropertiesList;
+import com.vaadin.flow.internal.nodefeature.SynchronizedPropertyModesMap;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.Registration;
@@ -53,6 +58,7 @@ import com.vaadin.tests.util.MockUI;
 import com.vaadin.tests.util.TestUtil;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import net.jcip.annotations.NotThreadSafe;
 
 @NotThreadSafe
@@ -248,6 +254,14 @@ public class ComponentTest {
 
     }
 
+    @Tag("property-defaults-test")
+    @PropertyDefault(name = "label", value = "\"\"")
+    @PropertyDefault(name = "opened", value = "false")
+    @PropertyDefault(name = "max", value = "100")
+    private static class TestComponentWithPropertyDefaults extends Component {
+
+    }
+
     private static class BrokenComponent extends Component {
 
         public BrokenComponent() {
@@ -930,6 +944,15 @@ public class ComponentTest {
         }
     }
 
+    @Tag("div")
+    public static class SynchronizePropertyWithSyncModeComponent
+            extends Component {
+        @Synchronize(value = "input", syncMode = PropertySyncMode.DEBOUNCE, syncTimeout = 250)
+        public String getFoo() {
+            return "";
+        }
+    }
+
     @Tag("div")
     public static class SynchronizeOnNonGetterComponent extends Component {
         @Synchronize("change")
@@ -1015,6 +1038,22 @@ public class ComponentTest {
         new SynchronizeOnNonGetterComponent();
     }
 
+    @Test
+    public void synchronizePropertyWithSyncMode() {
+        Element element = new SynchronizePropertyWithSyncModeComponent()
+                .getElement();
+        assertSynchronizedProperties(element, "foo");
+        Assert.assertEquals(PropertySyncMode.DEBOUNCE,
+                element.getSynchronizedPropertyMode("foo"));
+        List<NodeChange> changes = new ArrayList<>();
+        element.getNode().getFeature(SynchronizedPropertyModesMap.class)
+                .collectChanges(changes::add);
+        Assert.assertEquals(1, changes.size());
+        JsonArray settings = (JsonArray) ((MapPutChange) changes.get(0))
+                .getValue();
+        Assert.assertEquals(250, settings.getNumber(1), 0);
+    }
+
     @Tag("div")
     @HtmlImport("html.html")
     @JavaScript("js.js")
@@ -1566,4 +1605,22 @@ public class ComponentTest {
                 subSubChild.getElement().getAttribute("disabled"));
 
     }
+
+    @Test
+    public void propertyDefaults_registeredForTag() {
+        new TestComponentWithPropertyDefaults();
+
+        try {
+            Assert.assertEquals("", ElementPropertyDefaults
+                    .getDefault("property-defaults-test", "label"));
+            Assert.assertEquals(Boolean.FALSE, ElementPropertyDefaults
+                    .getDefault("property-defaults-test", "opened"));
+            Assert.assertTrue(ElementPropertyDefaults
+                    .isDefault("property-defaults-test", "max", 100));
+            Assert.assertFalse(ElementPropertyDefaults
+                    .isDefault("property-defaults-test", "max", 10));
+        } finally {
+            ElementPropertyDefaults.clearDefaults("property-defaults-test");
+        }
+    }
 }
@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import net.jcip.annotations.NotThreadSafe;
@@ -28,16 +29,22 @@ import com.vaadin.flow.component.Html;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
+import com.vaadin.flow.component.page.JavaScriptFunction;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
+import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.NullOwner;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.change.ListAddChange;
+import com.vaadin.flow.internal.change.MapPutChange;
+import com.vaadin.flow.internal.change.NodeAttachChange;
+import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.internal.nodefeature.ElementAttributeMap;
 import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
 import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
 import com.vaadin.flow.internal.nodefeature.ElementStylePropertyMap;
 import com.vaadin.flow.internal.nodefeature.SynchronizedPropertiesList;
 import com.vaadin.flow.internal.nodefeature.SynchronizedPropertyEventsList;
+import com.vaadin.flow.internal.nodefeature.SynchronizedPropertyModesMap;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -46,6 +53,7 @@ import com.vaadin.tests.util.MockUI;
 import com.vaadin.tests.util.TestUtil;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonValue;
 import elemental.json.impl.JreJsonObject;
 
@@ -1288,6 +1296,87 @@ public class ElementTest extends AbstractNodeTest {
                 .allMatch(prop -> prop.equals("bar")));
     }
 
+    @Test
+    public void synchronizePropertyWithSyncMode() {
+        Element element = ElementFactory.createDiv();
+        element.synchronizeProperty("foo", "event", PropertySyncMode.THROTTLE,
+                200);
+
+        Assert.assertEquals(PropertySyncMode.THROTTLE,
+                element.getSynchronizedPropertyMode("foo"));
+        Assert.assertEquals(PropertySyncMode.IMMEDIATE,
+                element.getSynchronizedPropertyMode("bar"));
+        List<NodeChange> changes = new ArrayList<>();
+        element.getNode().getFeature(SynchronizedPropertyModesMap.class)
+                .collectChanges(changes::add);
+        Assert.assertEquals(1, changes.size());
+        JsonArray settings = (JsonArray) ((MapPutChange) changes.get(0))
+                .getValue();
+        Assert.assertEquals(200, settings.getNumber(1), 0);
+    }
+
+    @Test
+    public void synchronizeProperty_noSyncMode_modesFeatureNotCreated() {
+        Element element = ElementFactory.createDiv();
+        element.synchronizeProperty("foo", "event");
+        element.setSynchronizedPropertyMode("foo", PropertySyncMode.IMMEDIATE,
+                0);
+
+        Assert.assertFalse(element.getNode()
+                .hasFeature(SynchronizedPropertyModesMap.class));
+        Assert.assertEquals(PropertySyncMode.IMMEDIATE,
+                element.getSynchronizedPropertyMode("foo"));
+    }
+
+    @Test
+    public void removeSynchronizedProperty_syncModeRemoved() {
+        Element element = ElementFactory.createDiv();
+        element.synchronizeProperty("foo", "event", PropertySyncMode.DEBOUNCE,
+                300);
+
+        element.removeSynchronizedProperty("foo");
+        Assert.assertEquals(PropertySyncMode.IMMEDIATE,
+                element.getSynchronizedPropertyMode("foo"));
+    }
+
+    @Test
+    public void removeSynchronizedProperty_noSyncMode_nodeNotMarkedDirty() {
+        UI ui = new UI();
+        Element element = ElementFactory.createDiv();
+        ui.getElement().appendChild(element);
+        element.synchronizeProperty("foo", "event", PropertySyncMode.DEBOUNCE,
+                300);
+        ui.getInternals().getStateTree().collectChanges(change -> {
+        });
+
+        element.removeSynchronizedProperty("bar");
+
+        Assert.assertFalse(ui.getInternals().getStateTree().hasDirtyNodes());
+        Assert.assertEquals(PropertySyncMode.DEBOUNCE,
+                element.getSynchronizedPropertyMode("foo"));
+    }
+
+    @Test
+    public void removeSynchronizedProperty_noSyncModesFeature_notCreated() {
+        UI ui = new UI();
+        Element element = ElementFactory.createDiv();
+        ui.getElement().appendChild(element);
+        element.addSynchronizedProperty("foo");
+        ui.getInternals().getStateTree().collectChanges(change -> {
+        });
+
+        element.removeSynchronizedProperty("foo");
+
+        Assert.assertFalse(element.getNode()
+                .hasFeature(SynchronizedPropertyModesMap.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setSynchronizedPropertyMode_negativeTimeout_throws() {
+        ElementFactory.createDiv().setSynchronizedPropertyMode("foo",
+                PropertySyncMode.DEBOUNCE, -1);
+    }
+
     @Test
     public void removeSynchronizedPropertyEvent() {
         Element element = ElementFactory.createDiv();
@@ -2355,7 +2444,8 @@ public class ElementTest extends AbstractNodeTest {
     private void assertPendingJs(UI ui, String js, Serializable... arguments) {
         List<JavaScriptInvocation> pendingJs = ui.getInternals()
                 .dumpPendingJavaScriptInvocations();
-        JavaScriptInvocation expected = new JavaScriptInvocation(js, arguments);
+        JavaScriptInvocation expected = new JavaScriptInvocation(
+                new JavaScriptFunction(js), arguments);
         Assert.assertEquals(1, pendingJs.size());
         assertEquals(expected, pendingJs.get(0));
 
@@ -2364,8 +2454,102 @@ public class ElementTest extends AbstractNodeTest {
     private void assertEquals(JavaScriptInvocation expected,
             JavaScriptInvocation actual) {
         Assert.assertEquals(expected.getExpression(), actual.getExpression());
+        Assert.assertEquals(expected.isReusable(), actual.isReusable());
         Assert.assertArrayEquals(expected.getParameters().toArray(),
                 actual.getParameters().toArray());
 
     }
+
+    @Test
+    public void batch_largeSubtree_changesNotTrackedUntilAttached() {
+        int rows = 50_000;
+        Element table = new Element("table").batch(t -> {
+            for (int i = 0; i < rows; i++) {
+                t.appendChild(new Element("tr").setAttribute("class", "row")
+                        .setProperty("index", i));
+            }
+        });
+
+        Assert.assertEquals(rows, table.getChildCount());
+        Assert.assertFalse(table.getNode().isTrackingChanges());
+        Assert.assertFalse(table.getChild(rows - 1).getNode()
+                .isTrackingChanges());
+
+        UI ui = new UI();
+        ui.getElement().appendChild(table);
+        Assert.assertTrue(table.getChild(rows - 1).getNode()
+                .isTrackingChanges());
+
+        List<NodeChange> changes = new ArrayList<>();
+        ui.getInternals().getStateTree().collectChanges(changes::add);
+
+        // Attach changes for the rows, the table and the UI
+        Assert.assertEquals(rows + 2, changes.stream()
+                .filter(NodeAttachChange.class::isInstance).count());
+        Assert.assertTrue(changes.stream()
+                .filter(change -> change.getNode() == table.getNode())
+                .filter(ListAddChange.class::isInstance)
+                .anyMatch(change -> ((ListAddChange<?>) change).getNewItems()
+                        .size() == rows));
+        Assert.assertTrue(changes.stream()
+                .filter(change -> change.getNode() == table
+                        .getChild(rows - 1).getNode())
+                .filter(MapPutChange.class::isInstance)
+                .map(MapPutChange.class::cast)
+                .anyMatch(change -> "index".equals(change.getKey())
+                        && Double.valueOf(rows - 1)
+                                .equals(change.getValue())));
+    }
+
+    @Test
+    public void batch_sameChangesAsWithoutBatch() {
+        Consumer<Element> builder = root -> {
+            for (int i = 0; i < 100; i++) {
+                Element row = new Element("div").setProperty("index", i);
+                row.appendChild(Element.createText("row " + i));
+                row.getStyle().set("color", "red");
+                root.appendChild(row);
+            }
+            root.removeChild(root.getChild(10));
+            root.getChild(0).setAttribute("title", "first");
+        };
+
+        Element batched = new Element("div").batch(builder);
+        Element unbatched = new Element("div");
+        builder.accept(unbatched);
+
+        Assert.assertEquals(collectAttachChanges(unbatched),
+                collectAttachChanges(batched));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void batch_attachedElement_throws() {
+        UI ui = new UI();
+        ui.getElement().batch(root -> {
+        });
+    }
+
+    @Test
+    public void batch_previouslyAttachedChild_changesTracked() {
+        UI ui = new UI();
+        Element child = new Element("span");
+        ui.getElement().appendChild(child);
+        ui.getInternals().getStateTree().collectChanges(change -> {
+        });
+        child.removeFromParent();
+
+        new Element("div").batch(root -> root.appendChild(child));
+
+        Assert.assertTrue(child.getNode().isTrackingChanges());
+    }
+
+    private static List<String> collectAttachChanges(Element element) {
+        UI ui = new UI();
+        ui.getElement().appendChild(element);
+        ConstantPool constantPool = new ConstantPool();
+        List<String> changes = new ArrayList<>();
+        ui.getInternals().getStateTree().collectChanges(
+                change -> changes.add(change.toJson(constantPool).toJson()));
+        return changes;
+    }
 }
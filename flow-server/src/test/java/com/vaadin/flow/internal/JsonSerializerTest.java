@@ -717,6 +717,31 @@ public class JsonSerializerTest {
         }
     }
 
+    @Test
+    public void serializeAndDeserializeListOfBeans_sameResultForEachBean() {
+        List<ObjectWithSimpleTypes> beans = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ObjectWithSimpleTypes bean = new ObjectWithSimpleTypes();
+            bean.setStringProperty("string" + i);
+            bean.setIntProperty(i);
+            bean.setEnumProperty(SomeEnum.SOME_VALUE_2);
+            beans.add(bean);
+        }
+
+        JsonArray json = JsonSerializer.toJson(beans);
+        List<ObjectWithSimpleTypes> deserialized = JsonSerializer
+                .toObjects(ObjectWithSimpleTypes.class, json);
+
+        Assert.assertEquals(3, deserialized.size());
+        for (int i = 0; i < 3; i++) {
+            ObjectWithSimpleTypes bean = deserialized.get(i);
+            Assert.assertEquals("string" + i, bean.getStringProperty());
+            Assert.assertEquals(i, bean.getIntProperty());
+            Assert.assertEquals(SomeEnum.SOME_VALUE_2, bean.getEnumProperty());
+            Assert.assertNull(bean.getIntegerProperty());
+        }
+    }
+
     private RecursiveObject createRecusiveObject(int recursions, int index) {
         if (index < recursions) {
             RecursiveObject bean = new RecursiveObject();
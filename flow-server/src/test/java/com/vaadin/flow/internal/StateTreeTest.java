@@ -320,6 +320,129 @@ public class StateTreeTest {
         Assert.assertSame(grandChild, tree.getNodeById(grandChildId));
     }
 
+    @Test
+    public void detachedNodeId_reusedAfterClientConfirmation() {
+        ElementChildrenList children = tree.getRootNode()
+                .getFeature(ElementChildrenList.class);
+        StateNode detached = new StateNode(ElementChildrenList.class);
+        children.add(0, detached);
+        int detachedId = detached.getId();
+        tree.collectChanges(change -> {
+        });
+
+        children.remove(0);
+        tree.collectChanges(change -> {
+        });
+        tree.markReleasedIdsSent(5);
+
+        StateNode beforeConfirmation = new StateNode(
+                ElementChildrenList.class);
+        children.add(0, beforeConfirmation);
+        Assert.assertNotEquals(detachedId, beforeConfirmation.getId());
+
+        tree.confirmReleasedIds(4);
+        StateNode beforeResponseHandled = new StateNode(
+                ElementChildrenList.class);
+        children.add(0, beforeResponseHandled);
+        Assert.assertNotEquals(detachedId, beforeResponseHandled.getId());
+
+        tree.confirmReleasedIds(5);
+        StateNode afterConfirmation = new StateNode(
+                ElementChildrenList.class);
+        children.add(0, afterConfirmation);
+        Assert.assertEquals(detachedId, afterConfirmation.getId());
+        Assert.assertSame(afterConfirmation, tree.getNodeById(detachedId));
+        Assert.assertFalse(tree.hasNode(detached));
+    }
+
+    @Test
+    public void detachedNodeId_noSyncId_notReused() {
+        ElementChildrenList children = tree.getRootNode()
+                .getFeature(ElementChildrenList.class);
+        StateNode detached = new StateNode(ElementChildrenList.class);
+        children.add(0, detached);
+        int detachedId = detached.getId();
+
+        children.remove(0);
+        tree.collectChanges(change -> {
+        });
+        tree.markReleasedIdsSent(-1);
+        tree.confirmReleasedIds(Integer.MAX_VALUE);
+
+        StateNode node = new StateNode(ElementChildrenList.class);
+        children.add(0, node);
+        Assert.assertNotEquals(detachedId, node.getId());
+    }
+
+    @Test
+    public void reattachedNodeWithReusedId_getsNewId() {
+        ElementChildrenList children = tree.getRootNode()
+                .getFeature(ElementChildrenList.class);
+        StateNode detached = new StateNode(ElementChildrenList.class);
+        children.add(0, detached);
+        int detachedId = detached.getId();
+
+        children.remove(0);
+        tree.collectChanges(change -> {
+        });
+        tree.markReleasedIdsSent(1);
+        tree.confirmReleasedIds(1);
+
+        StateNode node = new StateNode(ElementChildrenList.class);
+        children.add(0, node);
+        Assert.assertEquals(detachedId, node.getId());
+
+        children.add(1, detached);
+        Assert.assertNotEquals(detachedId, detached.getId());
+        Assert.assertSame(detached, tree.getNodeById(detached.getId()));
+        Assert.assertSame(node, tree.getNodeById(detachedId));
+
+        List<NodeChange> changes = new ArrayList<>();
+        tree.collectChanges(changes::add);
+        Assert.assertTrue(changes.stream()
+                .anyMatch(change -> change instanceof NodeAttachChange
+                        && change.getNode() == detached));
+    }
+
+    @Test
+    public void reusedIdReleasedByOtherNode_reattachedNodeGetsNewId() {
+        ElementChildrenList children = tree.getRootNode()
+                .getFeature(ElementChildrenList.class);
+        StateNode first = new StateNode(ElementChildrenList.class);
+        children.add(0, first);
+        int firstId = first.getId();
+
+        children.remove(0);
+        tree.collectChanges(change -> {
+        });
+        tree.markReleasedIdsSent(1);
+        tree.confirmReleasedIds(1);
+
+        StateNode second = new StateNode(ElementChildrenList.class);
+        children.add(0, second);
+        Assert.assertEquals(firstId, second.getId());
+        tree.collectChanges(change -> {
+        });
+
+        // Release the id by the second node and attach the first node again
+        // in the same roundtrip
+        children.remove(0);
+        children.add(0, first);
+
+        Assert.assertNotEquals(firstId, first.getId());
+        Assert.assertSame(first, tree.getNodeById(first.getId()));
+        Assert.assertNull(tree.getNodeById(firstId));
+
+        List<NodeChange> changes = new ArrayList<>();
+        tree.collectChanges(changes::add);
+        Assert.assertTrue(changes.stream()
+                .anyMatch(change -> change instanceof NodeDetachChange
+                        && change.getNode() == second));
+        Assert.assertTrue(changes.stream()
+                .anyMatch(change -> change instanceof NodeAttachChange
+                        && change.getNode() == first));
+    }
+
     @Test
     public void detachedNodeGarbageCollected() throws InterruptedException {
         StateNode child = new StateNode(ElementChildrenList.class);
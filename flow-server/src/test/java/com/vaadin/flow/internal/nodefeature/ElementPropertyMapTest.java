@@ -16,6 +16,7 @@
 package com.vaadin.flow.internal.nodefeature;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -25,14 +26,20 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.dom.ElementPropertyDefaults;
 import com.vaadin.flow.dom.PropertyChangeEvent;
 import com.vaadin.flow.dom.PropertyChangeListener;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.change.MapPutChange;
 import com.vaadin.flow.shared.Registration;
 
+import elemental.json.Json;
+
 public class ElementPropertyMapTest {
 
+    private static final String DEFAULTS_TAG = "defaults-test-element";
+
     @Test
     public void addPropertyChangeListener_fireServerEvent_listenerIsNotified() {
         listenerIsNotified(false);
@@ -232,6 +239,90 @@ public class ElementPropertyMapTest {
         map.setProperty("bar", "foo");
     }
 
+    @Test
+    public void propertyDefault_defaultValueNotSent() {
+        withPropertyDefaults(() -> {
+            ElementPropertyMap map = createDefaultsPropertyMap();
+            map.setProperty("label", "");
+            map.setProperty("disabled", true);
+            map.setProperty("count", 0.0);
+
+            Set<String> changed = collectPutKeys(map);
+            Assert.assertEquals(Collections.singleton("disabled"), changed);
+            Assert.assertEquals("",
+                    map.getNode().getFeature(ElementPropertyMap.class)
+                            .getProperty("label"));
+        });
+    }
+
+    @Test
+    public void propertyDefault_changedBackToDefault_defaultSent() {
+        withPropertyDefaults(() -> {
+            ElementPropertyMap map = createDefaultsPropertyMap();
+            map.setProperty("label", "foo");
+            collectPutKeys(map);
+
+            map.setProperty("label", "");
+            Assert.assertEquals(Collections.singleton("label"),
+                    collectPutKeys(map));
+        });
+    }
+
+    @Test
+    public void propertyDefault_removedOnClient_defaultSent() {
+        withPropertyDefaults(() -> {
+            ElementPropertyMap map = createDefaultsPropertyMap();
+            map.setProperty("label", "foo");
+            collectPutKeys(map);
+            map.removeProperty("label");
+            collectPutKeys(map);
+
+            map.setProperty("label", "");
+            Assert.assertEquals(Collections.singleton("label"),
+                    collectPutKeys(map));
+        });
+    }
+
+    @Test
+    public void propertyDefault_existingClientElement_defaultSent() {
+        withPropertyDefaults(() -> {
+            ElementPropertyMap map = createDefaultsPropertyMap();
+            map.getNode().getFeature(ElementData.class)
+                    .setPayload(Json.createObject());
+            map.setProperty("label", "");
+
+            Assert.assertEquals(Collections.singleton("label"),
+                    collectPutKeys(map));
+        });
+    }
+
+    private static void withPropertyDefaults(Runnable test) {
+        ElementPropertyDefaults.setDefault(DEFAULTS_TAG, "label", "");
+        ElementPropertyDefaults.setDefault(DEFAULTS_TAG, "disabled", false);
+        ElementPropertyDefaults.setDefault(DEFAULTS_TAG, "count", 0);
+        try {
+            test.run();
+        } finally {
+            ElementPropertyDefaults.clearDefaults(DEFAULTS_TAG);
+        }
+    }
+
+    private static ElementPropertyMap createDefaultsPropertyMap() {
+        return BasicElementStateProvider.createStateNode(DEFAULTS_TAG)
+                .getFeature(ElementPropertyMap.class);
+    }
+
+    private static Set<String> collectPutKeys(ElementPropertyMap map) {
+        Set<String> keys = new HashSet<>();
+        map.collectChanges(change -> {
+            if (change instanceof MapPutChange) {
+                keys.add(((MapPutChange) change).getKey());
+            }
+        });
+        map.getNode().clearChanges();
+        return keys;
+    }
+
     private static ElementPropertyMap createSimplePropertyMap() {
         return BasicElementStateProvider.createStateNode("div")
                 .getFeature(ElementPropertyMap.class);
@@ -15,9 +15,7 @@
  */
 package com.vaadin.flow.internal.nodefeature;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -25,7 +23,6 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.internal.StateNode;
-import com.vaadin.flow.internal.change.AbstractListChange;
 import com.vaadin.flow.internal.nodefeature.NodeList;
 import com.vaadin.flow.internal.nodefeature.SerializableNodeList;
 import com.vaadin.flow.internal.nodefeature.NodeList.SetView;
@@ -36,17 +33,10 @@ public class ListFeatureSetViewTest {
     private SetView<String> set;
 
     private static class TestFeature extends SerializableNodeList<String> {
-        private final ArrayList<AbstractListChange<String>> changes = new ArrayList<>();
-
         public TestFeature() {
+            // Changes are not tracked since the mock node is not tracking
             super(Mockito.mock(StateNode.class));
         }
-
-        @Override
-        protected List<AbstractListChange<String>> getChangeTracker() {
-            // Default implementation calls unmocked method in StateNode
-            return changes;
-        }
     }
 
     private static class TestSetView extends NodeList.SetView<String> {
@@ -95,6 +95,8 @@ public class NodeFeatureTest {
         expectedIds.put(BasicTypeValue.class, NodeFeatures.BASIC_TYPE_VALUE);
         expectedIds.put(VirtualChildrenList.class,
                 NodeFeatures.VIRTUAL_CHILDREN);
+        expectedIds.put(SynchronizedPropertyModesMap.class,
+                NodeFeatures.SYNCHRONIZED_PROPERTY_MODES);
 
         return expectedIds;
     }
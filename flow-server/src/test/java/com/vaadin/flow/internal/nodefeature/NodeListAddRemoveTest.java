@@ -2,7 +2,9 @@ package com.vaadin.flow.internal.nodefeature;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -118,9 +120,13 @@ public class NodeListAddRemoveTest
 
         List<NodeChange> changes = collectChanges(nodeList);
 
-        // remove is discarded, the fist add is discarded, others are adjusted
-        Assert.assertEquals(2, changes.size());
-        verifyAdded(changes, Arrays.asList("bar", "bar1"), index, index + 1);
+        // remove and the first add are discarded, others are combined
+        Assert.assertEquals(1, changes.size());
+        Assert.assertTrue(changes.get(0) instanceof ListAddChange<?>);
+
+        ListAddChange<?> add = (ListAddChange<?>) changes.get(0);
+        Assert.assertEquals(index, add.getIndex());
+        Assert.assertEquals(Arrays.asList("bar", "bar1"), add.getNewItems());
     }
 
     @Test
@@ -156,23 +162,18 @@ public class NodeListAddRemoveTest
         // remove the first item from the added above (via "all")
         nodeList.remove(index - 2);
 
-        // As a result: "remove" change is discarded and the "add" are adjusted
+        // As a result: "remove" change is discarded and the adds are
+        // combined
         List<NodeChange> changes = collectChanges(nodeList);
-        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals(1, changes.size());
 
         Assert.assertTrue(changes.get(0) instanceof ListAddChange<?>);
-        Assert.assertTrue(changes.get(1) instanceof ListAddChange<?>);
 
         ListAddChange<?> add = (ListAddChange<?>) changes.get(0);
         Assert.assertEquals(index - 2, add.getIndex());
-        Assert.assertEquals(2, add.getNewItems().size());
-        items.remove(0);
-        Assert.assertEquals(items, add.getNewItems());
-
-        add = (ListAddChange<?>) changes.get(1);
-        Assert.assertEquals(index - 1, add.getIndex());
-        Assert.assertEquals(1, add.getNewItems().size());
-        Assert.assertEquals("bar", add.getNewItems().get(0));
+        Assert.assertEquals(
+                Arrays.asList(items.get(1), "bar", items.get(2)),
+                add.getNewItems());
     }
 
     @Test
@@ -300,6 +301,104 @@ public class NodeListAddRemoveTest
         Assert.assertTrue(changes.get(0) instanceof ListAddChange<?>);
     }
 
+    @Test
+    public void moveItemToStart_oneRemoveAndOneAdd() {
+        List<String> items = resetToRemoveAfterAddCase();
+
+        nodeList.remove(3);
+        nodeList.add(0, items.get(3));
+
+        List<NodeChange> changes = collectChanges(nodeList);
+        Assert.assertEquals(2, changes.size());
+        verifyRemoved(changes, Arrays.asList(items.get(3)), 3);
+        Assert.assertTrue(changes.get(1) instanceof ListAddChange<?>);
+        verifyAdded(changes.subList(1, 2), Arrays.asList(items.get(3)), 0);
+    }
+
+    @Test
+    public void reverseOrder_changesTurnOriginalIntoCurrentItems() {
+        List<String> items = new ArrayList<>(resetToRemoveAfterAddCase());
+        addItemsAll(items, 6);
+        collectChanges(nodeList);
+
+        for (int i = 0; i < items.size(); i++) {
+            nodeList.add(i, nodeList.remove(nodeList.size() - 1));
+        }
+
+        List<String> expected = new ArrayList<>(items);
+        Collections.reverse(expected);
+        List<NodeChange> changes = collectChanges(nodeList);
+
+        Assert.assertEquals(expected, applyChanges(items, changes));
+        // One item stays in place, all others are removed and added back
+        // in one change
+        Assert.assertEquals(items.size() - 1, changes.stream()
+                .filter(ListRemoveChange.class::isInstance).count());
+        Assert.assertEquals(items.size(), changes.size());
+    }
+
+    @Test
+    public void shuffleAddAndRemove_changesTurnOriginalIntoCurrentItems() {
+        List<String> items = resetToRemoveAfterAddCase();
+        addItemsAll(items, 20);
+        collectChanges(nodeList);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || nodeList.size() == 0) {
+                nodeList.add(random.nextInt(nodeList.size() + 1), "n-" + i);
+            } else if (operation == 1) {
+                nodeList.remove(random.nextInt(nodeList.size()));
+            } else {
+                nodeList.add(random.nextInt(nodeList.size()),
+                        nodeList.remove(random.nextInt(nodeList.size())));
+            }
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < nodeList.size(); i++) {
+            expected.add(nodeList.get(i));
+        }
+        Assert.assertEquals(expected,
+                applyChanges(items, collectChanges(nodeList)));
+    }
+
+    @Test
+    public void sameItemsInDifferentOrder_withDuplicates_changesTurnOriginalIntoCurrentItems() {
+        SerializableNodeList<String> list = new SerializableNodeList<String>(
+                nodeList.getNode()) {
+        };
+        List<String> items = Arrays.asList("a", "b", "a", "c", "b");
+        items.forEach(list::add);
+        collectChanges(list);
+
+        list.add(0, list.remove(4));
+        list.add(list.remove(1));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            expected.add(list.get(i));
+        }
+        Assert.assertEquals(expected,
+                applyChanges(items, collectChanges(list)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> applyChanges(List<String> items,
+            List<NodeChange> changes) {
+        List<String> result = new ArrayList<>(items);
+        for (NodeChange change : changes) {
+            if (change instanceof ListRemoveChange<?>) {
+                result.remove(((ListRemoveChange<?>) change).getIndex());
+            } else {
+                ListAddChange<String> add = (ListAddChange<String>) change;
+                result.addAll(add.getIndex(), add.getNewItems());
+            }
+        }
+        return result;
+    }
+
     private List<String> addOriginalItems(int numberOfOriginalItems) {
         List<String> items = new ArrayList<>();
         for (int i = 0; i < numberOfOriginalItems; i++) {
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.List;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+public class BootstrapPreRendererTest {
+
+    private UI ui;
+
+    @Before
+    public void setUp() {
+        ui = new UI();
+    }
+
+    @Test
+    public void elementTree_renderedWithNodeIds() {
+        com.vaadin.flow.dom.Element div = new com.vaadin.flow.dom.Element(
+                "div");
+        div.setAttribute("class", "main");
+        com.vaadin.flow.dom.Element span = new com.vaadin.flow.dom.Element(
+                "span");
+        com.vaadin.flow.dom.Element text = com.vaadin.flow.dom.Element
+                .createText("Hello <b>");
+        span.appendChild(text);
+        div.appendChild(span);
+        ui.getElement().appendChild(div);
+
+        List<Element> rendered = BootstrapPreRenderer.preRender(ui);
+
+        Assert.assertEquals(1, rendered.size());
+        Element element = rendered.get(0);
+        Element withoutIds = element.clone();
+        withoutIds.removeAttr(ApplicationConstants.PRE_RENDER_ATTRIBUTE);
+        Assert.assertEquals(
+                "<div class=\"main\"><span><!---->Hello &lt;b&gt;</span></div>",
+                toHtml(withoutIds));
+        Assert.assertEquals(
+                div.getNode().getId() + " " + span.getNode().getId() + " "
+                        + text.getNode().getId(),
+                element.attr(ApplicationConstants.PRE_RENDER_ATTRIBUTE));
+    }
+
+    @Test
+    public void invisibleElement_renderedHiddenWithoutChildren() {
+        com.vaadin.flow.dom.Element div = new com.vaadin.flow.dom.Element(
+                "div");
+        div.appendChild(new com.vaadin.flow.dom.Element("span"));
+        div.setVisible(false);
+        ui.getElement().appendChild(div);
+
+        Element element = BootstrapPreRenderer.preRender(ui).get(0);
+
+        Assert.assertTrue(element.hasAttr("hidden"));
+        Assert.assertEquals(0, element.childNodeSize());
+        Assert.assertEquals(String.valueOf(div.getNode().getId()),
+                element.attr(ApplicationConstants.PRE_RENDER_ATTRIBUTE));
+    }
+
+    @Test
+    public void unsupportedSubtree_renderingStopped() {
+        com.vaadin.flow.dom.Element first = new com.vaadin.flow.dom.Element(
+                "div");
+        com.vaadin.flow.dom.Element second = new com.vaadin.flow.dom.Element(
+                "div");
+        second.appendChild(new com.vaadin.flow.dom.Element("table"));
+        ui.getElement().appendChild(first, second,
+                new com.vaadin.flow.dom.Element("div"));
+
+        List<Element> rendered = BootstrapPreRenderer.preRender(ui);
+
+        Assert.assertEquals(1, rendered.size());
+        Assert.assertEquals(String.valueOf(first.getNode().getId()), rendered
+                .get(0).attr(ApplicationConstants.PRE_RENDER_ATTRIBUTE));
+    }
+
+    private static String toHtml(Element element) {
+        Document document = new Document("");
+        document.outputSettings().prettyPrint(false);
+        document.appendChild(element);
+        return element.outerHtml();
+    }
+}
@@ -110,6 +110,45 @@ public class DefaultDeploymentConfigurationTest {
         createDeploymentConfig(initParameters);
     }
 
+    @Test
+    public void sessionLockParameters_readOnce() {
+        Properties initParameters = new Properties();
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_FAIR, "true");
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT, "1000");
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_LONG_WAIT_THRESHOLD,
+                "200");
+        DefaultDeploymentConfiguration config = createDeploymentConfig(
+                initParameters);
+
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT, "2000");
+
+        Assert.assertTrue(config.isSessionLockFair());
+        Assert.assertEquals(1000, config.getSessionLockTimeout());
+        Assert.assertEquals(200, config.getSessionLockLongWaitThreshold());
+    }
+
+    @Test
+    public void sessionLockParameters_invalidValues_defaultsUsed() {
+        Properties initParameters = new Properties();
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_FAIR, "sometimes");
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT, "1s");
+        initParameters.setProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_LONG_WAIT_THRESHOLD,
+                "long");
+        DefaultDeploymentConfiguration config = createDeploymentConfig(
+                initParameters);
+
+        Assert.assertFalse(config.isSessionLockFair());
+        Assert.assertEquals(-1, config.getSessionLockTimeout());
+        Assert.assertEquals(-1, config.getSessionLockLongWaitThreshold());
+    }
+
     @Test
     public void frontendPrefixes_developmentMode() {
         Properties initParameters = new Properties();
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.server.metrics.InMemoryServiceMetrics;
+import com.vaadin.flow.server.metrics.InMemoryServiceMetrics.LockHolderSample;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
+
+public class SessionLockTest {
+
+    private final CountDownLatch holderLocked = new CountDownLatch(1);
+    private final CountDownLatch releaseHolder = new CountDownLatch(1);
+    private Thread holder;
+
+    @After
+    public void releaseLock() throws InterruptedException {
+        releaseHolder.countDown();
+        if (holder != null) {
+            holder.join();
+        }
+    }
+
+    @Test
+    public void fairness_configuredThroughConstructor() {
+        Assert.assertTrue(
+                new SessionLock(true, -1, TimeUnit.MILLISECONDS).isFair());
+        Assert.assertFalse(
+                new SessionLock(false, -1, TimeUnit.MILLISECONDS).isFair());
+    }
+
+    @Test
+    public void getHolder_returnsLockingThread() {
+        SessionLock lock = new SessionLock(false, -1, TimeUnit.MILLISECONDS);
+        Assert.assertFalse(lock.getHolder().isPresent());
+
+        lock.lock();
+        try {
+            Assert.assertSame(Thread.currentThread(), lock.getHolder().get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    public void tryLock_heldByOtherThread_timesOut()
+            throws InterruptedException {
+        SessionLock lock = new SessionLock(false, -1, TimeUnit.MILLISECONDS);
+        lockInOtherThread(lock);
+
+        Assert.assertFalse(
+                lock.tryLock(20, TimeUnit.MILLISECONDS, ServiceMetrics.NO_OP));
+    }
+
+    @Test
+    public void tryLock_longWait_holderReported() throws InterruptedException {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        SessionLock lock = new SessionLock(false, 10, TimeUnit.MILLISECONDS);
+        lockInOtherThread(lock);
+
+        Assert.assertFalse(lock.tryLock(50, TimeUnit.MILLISECONDS, metrics));
+
+        LockHolderSample sample = metrics.getLastLockHolderSample().get();
+        Assert.assertEquals(holder.getName(), sample.getThreadName());
+        Assert.assertTrue(sample.getWaitTime(TimeUnit.MILLISECONDS) >= 10);
+        Assert.assertEquals(1,
+                metrics.getTimer(InMemoryServiceMetrics.SESSION_LOCK_LONG_WAIT)
+                        .get().getCount());
+    }
+
+    @Test
+    public void tryLock_shortWait_holderNotReported()
+            throws InterruptedException {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        SessionLock lock = new SessionLock(false, 1000, TimeUnit.MILLISECONDS);
+        lockInOtherThread(lock);
+
+        Assert.assertFalse(lock.tryLock(10, TimeUnit.MILLISECONDS, metrics));
+        Assert.assertFalse(metrics.getLastLockHolderSample().isPresent());
+    }
+
+    @Test
+    public void lock_longWait_lockEventuallyAcquired()
+            throws InterruptedException {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        SessionLock lock = new SessionLock(false, 10, TimeUnit.MILLISECONDS);
+        lockInOtherThread(lock);
+
+        new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            releaseHolder.countDown();
+        }).start();
+
+        lock.lock(metrics);
+        try {
+            Assert.assertTrue(lock.isHeldByCurrentThread());
+            Assert.assertTrue(metrics.getLastLockHolderSample().isPresent());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test(expected = SessionLockTimeoutException.class)
+    public void synchronizedRequestHandler_lockTimeout_throws()
+            throws Exception {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_SESSION_LOCK_TIMEOUT, "10");
+        MockVaadinServletService service = new MockVaadinServletService(
+                configuration);
+        MockVaadinSession session = new MockVaadinSession(service);
+        lockInOtherThread((ReentrantLock) session.getLockInstance());
+
+        new SynchronizedRequestHandler() {
+            @Override
+            public boolean synchronizedHandleRequest(VaadinSession session,
+                    VaadinRequest request, VaadinResponse response) {
+                Assert.fail("Request should not be handled without the lock");
+                return true;
+            }
+        }.handleRequest(session, null, null);
+    }
+
+    private void lockInOtherThread(ReentrantLock lock)
+            throws InterruptedException {
+        holder = new Thread(() -> {
+            lock.lock();
+            try {
+                holderLocked.countDown();
+                releaseHolder.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        }, "session-lock-holder");
+        holder.start();
+        holderLocked.await();
+    }
+}
@@ -19,9 +19,19 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,6 +42,7 @@ import javax.servlet.http.HttpSessionBindingEvent;
 import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.server.BootstrapListener;
@@ -42,6 +53,9 @@ import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServiceInitListener;
 import com.vaadin.flow.server.VaadinServlet;
 import com.vaadin.flow.server.communication.StreamRequestHandler;
+import com.vaadin.flow.server.metrics.InMemoryServiceMetrics;
+import com.vaadin.flow.server.metrics.ServiceMetrics;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
 
 import net.jcip.annotations.NotThreadSafe;
 
@@ -226,6 +240,195 @@ public class VaadinServiceTest {
         Assert.assertTrue(listener2Run.get());
     }
 
+    @Test
+    public void serviceMetrics_noneAdded_noOpMetricsUsed()
+            throws ServiceException {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init(new MockInstantiator());
+
+        Assert.assertSame(ServiceMetrics.NO_OP, service.getMetrics());
+    }
+
+    @Test
+    public void serviceMetrics_addedInInitListener_metricsUsed()
+            throws ServiceException {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init(new MockInstantiator(
+                evt -> evt.addServiceMetrics(metrics)));
+
+        Assert.assertSame(metrics, service.getMetrics());
+    }
+
+    @Test
+    public void serviceMetrics_multipleAdded_allReceiveMeasurements()
+            throws ServiceException {
+        InMemoryServiceMetrics metrics1 = new InMemoryServiceMetrics();
+        InMemoryServiceMetrics metrics2 = new InMemoryServiceMetrics();
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init(new MockInstantiator(
+                evt -> evt.addServiceMetrics(metrics1),
+                evt -> evt.addServiceMetrics(metrics2)));
+
+        service.getMetrics().rpcHandled(3, 100);
+
+        Assert.assertEquals(3, metrics1
+                .getTimer(InMemoryServiceMetrics.RPC_HANDLE).get()
+                .getTotalAmount());
+        Assert.assertEquals(3, metrics2
+                .getTimer(InMemoryServiceMetrics.RPC_HANDLE).get()
+                .getTotalAmount());
+    }
+
+    @Test
+    public void serviceMetrics_sessionLockedAndUnlocked_waitAndHoldRecorded()
+            throws ServiceException {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init(new MockInstantiator(
+                evt -> evt.addServiceMetrics(metrics)));
+
+        MockVaadinSession session = new MockVaadinSession(service);
+        session.lock();
+        // Reentrant locking is not measured separately
+        session.lock();
+        session.unlock();
+        session.unlock();
+
+        Assert.assertEquals(1, metrics
+                .getTimer(InMemoryServiceMetrics.SESSION_LOCK_WAIT).get()
+                .getCount());
+        Assert.assertEquals(1, metrics
+                .getTimer(InMemoryServiceMetrics.SESSION_LOCK_HOLD).get()
+                .getCount());
+    }
+
+    @Test
+    public void serviceMetrics_wrappedSessionLocked_waitRecorded()
+            throws ServiceException {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init(new MockInstantiator(
+                evt -> evt.addServiceMetrics(metrics)));
+
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.when(wrappedSession.getAttribute(Mockito.anyString()))
+                .thenReturn(service.createSessionLock());
+        service.lockSession(wrappedSession);
+        service.unlockSession(wrappedSession);
+
+        Assert.assertEquals(1, metrics
+                .getTimer(InMemoryServiceMetrics.SESSION_LOCK_WAIT).get()
+                .getCount());
+    }
+
+    @Test
+    public void accessSessionInBackground_commandRunByExecutorWithLock()
+            throws Exception {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init();
+        MockVaadinSession session = new MockVaadinSession(service);
+
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        AtomicBoolean hadLock = new AtomicBoolean();
+        Future<Void> future = session.accessInBackground(() -> {
+            executingThread.set(Thread.currentThread());
+            hadLock.set(session.hasLock());
+        });
+
+        future.get(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(executingThread.get());
+        Assert.assertNotSame(Thread.currentThread(), executingThread.get());
+        Assert.assertTrue(hadLock.get());
+        Assert.assertFalse(session.hasLock());
+
+        service.destroy();
+    }
+
+    @Test
+    public void accessSessionInBackground_sessionLocked_cancelledTaskNotRun()
+            throws Exception {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init();
+        MockVaadinSession session = new MockVaadinSession(service);
+
+        AtomicBoolean executed = new AtomicBoolean();
+        session.lock();
+        Future<Void> future;
+        try {
+            future = service.accessSessionInBackground(session,
+                    () -> executed.set(true));
+            Assert.assertEquals(Collections.singletonList(future),
+                    service.getBackgroundAccessTasks());
+
+            Assert.assertEquals(1, service.cancelBackgroundAccessTasks(session));
+        } finally {
+            session.unlock();
+        }
+
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertFalse(executed.get());
+
+        service.destroy();
+    }
+
+    public static class SerializableClassLoader extends ClassLoader
+            implements Serializable {
+        public SerializableClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+    }
+
+    @Test
+    public void accessSessionInBackground_deserializedService_commandRun()
+            throws Exception {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty("ClassLoader",
+                SerializableClassLoader.class.getName());
+        VaadinService service = new VaadinServletService(null,
+                configuration);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(service);
+        }
+        VaadinService deserializedService;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bos.toByteArray()))) {
+            deserializedService = (VaadinService) in.readObject();
+        }
+        MockVaadinSession session = new MockVaadinSession(
+                deserializedService);
+
+        AtomicBoolean executed = new AtomicBoolean();
+        Future<Void> future = deserializedService
+                .accessSessionInBackground(session, () -> executed.set(true));
+
+        future.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(executed.get());
+
+        deserializedService.destroy();
+    }
+
+    @Test
+    public void createExecutor_platformThreads_usesConfiguredPoolSize() {
+        MockDeploymentConfiguration configuration = new MockDeploymentConfiguration();
+        configuration.setApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_EXECUTOR_VIRTUAL_THREADS, "false");
+        configuration.setApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_EXECUTOR_POOL_SIZE, "3");
+        MockVaadinServletService service = new MockVaadinServletService(
+                configuration);
+
+        ExecutorService executor = service.getExecutor();
+        Assert.assertSame(executor, service.getExecutor());
+        Assert.assertEquals(3,
+                ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+
+        service.destroy();
+        Assert.assertTrue(executor.isShutdown());
+    }
+
     private static VaadinService createService() {
         ServletConfig servletConfig = new MockServletConfig();
         VaadinServlet servlet = new VaadinServlet();
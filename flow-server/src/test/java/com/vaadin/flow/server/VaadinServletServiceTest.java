@@ -255,4 +255,56 @@ public class VaadinServletServiceTest {
         }
     }
 
+
+    @Test
+    public void getResource_production_resultCachedUntilCleared()
+            throws IOException {
+        mocks.setProductionMode(true);
+        WebBrowser browser = mocks.getBrowser();
+
+        testGetResourceAndGetResourceAsStream(null, "frontend://foo.txt",
+                browser, null);
+
+        // Missing resources are also cached
+        mocks.getServlet().addServletContextResource("/frontend-es6/foo.txt");
+        testGetResourceAndGetResourceAsStream(null, "frontend://foo.txt",
+                browser, null);
+
+        service.clearResourceCache();
+        testGetResourceAndGetResourceAsStream("/frontend-es6/foo.txt",
+                "frontend://foo.txt", browser, null);
+    }
+
+    @Test
+    public void getResource_development_resultNotCached() throws IOException {
+        WebBrowser browser = mocks.getBrowser();
+
+        testGetResourceAndGetResourceAsStream(null, "frontend://foo.txt",
+                browser, null);
+
+        mocks.getServlet().addServletContextResource("/frontend/foo.txt");
+        testGetResourceAndGetResourceAsStream("/frontend/foo.txt",
+                "frontend://foo.txt", browser, null);
+    }
+
+    @Test
+    public void getThemedUrl_production_themedVariantDetected() {
+        mocks.setProductionMode(true);
+        WebBrowser browser = mocks.getBrowser();
+        TestTheme theme = new TestTheme();
+        mocks.getServlet()
+                .addServletContextResource("/frontend-es6/theme/themed.txt");
+        mocks.getServlet()
+                .addServletContextResource("/frontend-es6/raw/raw-only.txt");
+
+        Assert.assertEquals("frontend://theme/themed.txt", service
+                .getThemedUrl("frontend://raw/themed.txt", browser, theme)
+                .get());
+        Assert.assertFalse(service
+                .getThemedUrl("frontend://raw/raw-only.txt", browser, theme)
+                .isPresent());
+        Assert.assertFalse(service
+                .getThemedUrl("frontend://raw/themed.txt", browser, null)
+                .isPresent());
+    }
 }
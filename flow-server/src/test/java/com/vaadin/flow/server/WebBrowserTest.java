@@ -0,0 +1,133 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.lang.reflect.Field;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.shared.BrowserDetails;
+
+public class WebBrowserTest {
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/62.0.3202.94 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_13_1) AppleWebKit/604.3.5 (KHTML, like Gecko) Version/11.0.1 Safari/604.3.5",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:57.0) Gecko/20100101 Firefox/57.0",
+            "Mozilla/5.0 (Windows NT 6.1; Trident/7.0; SLCC2; .NET CLR 2.0.50727; .NET CLR 3.5.30729; .NET CLR 3.0.30729; Media Center PC 6.0; .NET4.0C; rv:11.0) like Gecko",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/42.0.2311.135 Safari/537.36 Edge/12.10240",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 11_1_2 like Mac OS X) AppleWebKit/604.3.5 (KHTML, like Gecko) Version/11.0 Mobile/15B202 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 4.0.4; Galaxy Nexus Build/IMM76B) AppleWebKit/535.19 (KHTML, like Gecko) Chrome/18.0.1025.133 Mobile Safari/535.19",
+            "Mozilla/5.0 (X11; CrOS x86_64 6457.31.0) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/40.0.2214.38 Safari/537.36" };
+
+    @Before
+    @After
+    public void clearCache() {
+        WebBrowser.clearBrowserDetailsCache();
+    }
+
+    @Test
+    public void getBrowserDetails_sameUserAgent_sameInstance() {
+        for (String userAgent : USER_AGENTS) {
+            BrowserDetails details = WebBrowser.getBrowserDetails(userAgent);
+            Assert.assertSame(details,
+                    WebBrowser.getBrowserDetails(new String(userAgent)));
+        }
+    }
+
+    @Test
+    public void getBrowserDetails_cachedDetailsMatchParsedDetails() {
+        for (String userAgent : USER_AGENTS) {
+            // Populate the cache
+            WebBrowser.getBrowserDetails(userAgent);
+        }
+        for (String userAgent : USER_AGENTS) {
+            BrowserDetails cached = WebBrowser.getBrowserDetails(userAgent);
+            BrowserDetails parsed = new BrowserDetails(userAgent);
+
+            Assert.assertEquals(parsed.isChrome(), cached.isChrome());
+            Assert.assertEquals(parsed.isSafari(), cached.isSafari());
+            Assert.assertEquals(parsed.isFirefox(), cached.isFirefox());
+            Assert.assertEquals(parsed.isIE(), cached.isIE());
+            Assert.assertEquals(parsed.isEdge(), cached.isEdge());
+            Assert.assertEquals(parsed.isIOS(), cached.isIOS());
+            Assert.assertEquals(parsed.isAndroid(), cached.isAndroid());
+            Assert.assertEquals(parsed.isChromeOS(), cached.isChromeOS());
+            Assert.assertEquals(parsed.getBrowserMajorVersion(),
+                    cached.getBrowserMajorVersion());
+            Assert.assertEquals(parsed.getBrowserMinorVersion(),
+                    cached.getBrowserMinorVersion());
+            Assert.assertEquals(parsed.isEs6Supported(),
+                    cached.isEs6Supported());
+        }
+    }
+
+    @Test
+    public void getBrowserDetails_cacheIsBounded() {
+        BrowserDetails first = WebBrowser.getBrowserDetails(USER_AGENTS[0]);
+        for (int i = 0; i < WebBrowser.BROWSER_DETAILS_CACHE_SIZE; i++) {
+            WebBrowser.getBrowserDetails(USER_AGENTS[1] + i);
+        }
+
+        Assert.assertNotSame(first,
+                WebBrowser.getBrowserDetails(USER_AGENTS[0]));
+    }
+
+    @Test
+    public void updateRequestDetails_sessionsWithSameUserAgent_shareDetails()
+            throws Exception {
+        WebBrowser browser1 = new WebBrowser();
+        WebBrowser browser2 = new WebBrowser();
+        browser1.updateRequestDetails(createRequest(USER_AGENTS[0]));
+        // Equal but not identical header value, as in separate requests
+        browser2.updateRequestDetails(
+                createRequest(new String(USER_AGENTS[0])));
+
+        Assert.assertTrue(browser1.isChrome());
+        Assert.assertTrue(browser2.isChrome());
+        Assert.assertSame(
+                "Sessions with the same user agent should share the parsed details",
+                getDetails(browser1), getDetails(browser2));
+    }
+
+    @Test
+    public void updateRequestDetails_userAgentChanges_detailsUpdated() {
+        WebBrowser browser = new WebBrowser();
+        browser.updateRequestDetails(createRequest(USER_AGENTS[0]));
+        Assert.assertTrue(browser.isChrome());
+
+        browser.updateRequestDetails(createRequest(USER_AGENTS[2]));
+        Assert.assertFalse(browser.isChrome());
+        Assert.assertTrue(browser.isFirefox());
+    }
+
+    private static BrowserDetails getDetails(WebBrowser browser)
+            throws Exception {
+        Field field = WebBrowser.class.getDeclaredField("browserDetails");
+        field.setAccessible(true);
+        return (BrowserDetails) field.get(browser);
+    }
+
+    private static VaadinRequest createRequest(String userAgent) {
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getHeader("User-Agent")).thenReturn(userAgent);
+        return request;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+public class SubtreeShapeEncoderTest {
+
+    private UI ui;
+    private ConstantPool constantPool;
+    private Element list;
+
+    @Before
+    public void setUp() {
+        ui = new UI();
+        constantPool = new ConstantPool();
+        list = new Element("div");
+        ui.getElement().appendChild(list);
+        collectChanges();
+    }
+
+    @Test
+    public void repeatedSubtrees_encodedAsShapeInstances() {
+        for (int i = 0; i < 3; i++) {
+            list.appendChild(createRow("Item " + i));
+        }
+        JsonArray changes = collectChanges();
+
+        JsonArray encoded = new SubtreeShapeEncoder(constantPool)
+                .encode(changes);
+
+        List<JsonObject> shapeChanges = getShapeChanges(encoded);
+        Assert.assertEquals(3, shapeChanges.size());
+        Set<String> shapeIds = new HashSet<>();
+        shapeChanges.forEach(change -> shapeIds
+                .add(change.getString(JsonConstants.CHANGE_SHAPE_ID)));
+        Assert.assertEquals(1, shapeIds.size());
+        Assert.assertTrue(encoded.length() < changes.length());
+
+        Assert.assertEquals(normalize(changes),
+                normalize(expand(encoded, constantPool.dumpConstants())));
+    }
+
+    @Test
+    public void uniqueSubtrees_notEncoded() {
+        list.appendChild(createRow("Item"));
+        Element other = new Element("span");
+        other.setAttribute("title", "foo");
+        list.appendChild(other);
+        JsonArray changes = collectChanges();
+
+        Assert.assertSame(changes,
+                new SubtreeShapeEncoder(constantPool).encode(changes));
+        Assert.assertFalse(constantPool.hasNewConstants());
+    }
+
+    @Test
+    public void subtreeWithExistingNode_notEncodedAsShape() {
+        Element existing = new Element("span");
+        list.appendChild(existing);
+        collectChanges();
+
+        Element first = createRow("First");
+        Element second = createRow("Second");
+        first.appendChild(existing);
+        list.appendChild(first, second);
+        JsonArray changes = collectChanges();
+
+        JsonArray encoded = new SubtreeShapeEncoder(constantPool)
+                .encode(changes);
+
+        Assert.assertEquals(normalize(changes),
+                normalize(expand(encoded, constantPool.dumpConstants())));
+        // The row referencing a node outside of it is sent as is
+        boolean firstAttached = false;
+        for (int i = 0; i < encoded.length(); i++) {
+            JsonObject change = encoded.getObject(i);
+            firstAttached |= JsonConstants.CHANGE_TYPE_ATTACH
+                    .equals(change.getString(JsonConstants.CHANGE_TYPE))
+                    && (int) change.getNumber(
+                            JsonConstants.CHANGE_NODE) == first.getNode()
+                                    .getId();
+        }
+        Assert.assertTrue(firstAttached);
+    }
+
+    private static Element createRow(String text) {
+        Element row = new Element("div");
+        row.setAttribute("class", "row");
+        Element label = new Element("span");
+        label.setText(text);
+        row.appendChild(label);
+        return row;
+    }
+
+    private JsonArray collectChanges() {
+        JsonArray changes = Json.createArray();
+        ui.getInternals().getStateTree().collectChanges(change -> changes
+                .set(changes.length(), change.toJson(constantPool)));
+        return changes;
+    }
+
+    private static List<JsonObject> getShapeChanges(JsonArray changes) {
+        List<JsonObject> shapeChanges = new ArrayList<>();
+        for (int i = 0; i < changes.length(); i++) {
+            JsonObject change = changes.getObject(i);
+            if (JsonConstants.CHANGE_TYPE_SHAPE
+                    .equals(change.getString(JsonConstants.CHANGE_TYPE))) {
+                shapeChanges.add(change);
+            }
+        }
+        return shapeChanges;
+    }
+
+    /**
+     * Expands shape changes the same way as the client does.
+     */
+    private static JsonArray expand(JsonArray changes, JsonObject constants) {
+        JsonArray expanded = Json.createArray();
+        for (int i = 0; i < changes.length(); i++) {
+            JsonObject change = changes.getObject(i);
+            if (!JsonConstants.CHANGE_TYPE_SHAPE
+                    .equals(change.getString(JsonConstants.CHANGE_TYPE))) {
+                expanded.set(expanded.length(), change);
+                continue;
+            }
+            JsonArray shape = constants.getArray(
+                    change.getString(JsonConstants.CHANGE_SHAPE_ID));
+            JsonArray nodes = change.getArray(JsonConstants.CHANGE_SHAPE_NODES);
+            JsonArray values = change
+                    .getArray(JsonConstants.CHANGE_SHAPE_VALUES);
+            for (int j = 0; j < shape.length(); j++) {
+                JsonObject template = shape.getObject(j);
+                JsonObject instance = Json.createObject();
+                for (String key : template.keys()) {
+                    switch (key) {
+                    case JsonConstants.CHANGE_NODE:
+                    case JsonConstants.CHANGE_PUT_NODE_VALUE:
+                        instance.put(key,
+                                getIndexed(nodes, template.getNumber(key)));
+                        break;
+                    case JsonConstants.CHANGE_SPLICE_ADD_NODES:
+                        JsonArray indexes = template.getArray(key);
+                        JsonArray ids = Json.createArray();
+                        for (int k = 0; k < indexes.length(); k++) {
+                            ids.set(k, getIndexed(nodes, indexes.getNumber(k)));
+                        }
+                        instance.put(key, ids);
+                        break;
+                    case JsonConstants.CHANGE_PUT_VALUE:
+                    case JsonConstants.CHANGE_SPLICE_ADD:
+                        instance.put(key,
+                                getIndexed(values, template.getNumber(key)));
+                        break;
+                    default:
+                        JsonValue value = template.get(key);
+                        instance.put(key, value);
+                    }
+                }
+                expanded.set(expanded.length(), instance);
+            }
+        }
+        return expanded;
+    }
+
+    private static JsonValue getIndexed(JsonArray array, double index) {
+        return array.get((int) index);
+    }
+
+    private static List<String> normalize(JsonArray changes) {
+        List<String> normalized = new ArrayList<>();
+        for (int i = 0; i < changes.length(); i++) {
+            JsonObject change = changes.getObject(i);
+            String[] keys = change.keys();
+            Arrays.sort(keys);
+            StringBuilder builder = new StringBuilder();
+            for (String key : keys) {
+                builder.append(key).append('=')
+                        .append(change.get(key).toJson()).append(';');
+            }
+            normalized.add(builder.toString());
+        }
+        Collections.sort(normalized);
+        return normalized;
+    }
+}
@@ -38,8 +38,10 @@ import com.vaadin.flow.component.dependency.HtmlImport;
 import com.vaadin.flow.component.dependency.JavaScript;
 import com.vaadin.flow.component.dependency.StyleSheet;
 import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
+import com.vaadin.flow.component.page.JavaScriptFunction;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
+import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.router.ParentLayout;
 import com.vaadin.flow.router.Route;
@@ -48,6 +50,7 @@ import com.vaadin.flow.server.MockServletServiceSessionSetup;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
@@ -195,8 +198,8 @@ public class UidlWriterTest {
         List<JavaScriptInvocation> executeJavaScriptList = Arrays
                 .asList(invocation1, invocation2);
 
-        JsonArray json = UidlWriter
-                .encodeExecuteJavaScriptList(executeJavaScriptList);
+        JsonArray json = UidlWriter.encodeExecuteJavaScriptList(
+                executeJavaScriptList, new ConstantPool());
 
         JsonArray expectedJson = JsonUtils.createArray(JsonUtils.createArray(
                 // Null since element is not attached
@@ -207,6 +210,37 @@ public class UidlWriterTest {
         assertTrue(JsonUtils.jsonEquals(expectedJson, json));
     }
 
+    @Test
+    public void encodeExecuteJavaScript_reusableFunction_expressionSentOnce() {
+        JavaScriptFunction function = new JavaScriptFunction(
+                "console.log($0)");
+        ConstantPool constantPool = new ConstantPool();
+
+        JsonArray json = UidlWriter.encodeExecuteJavaScriptList(
+                Arrays.asList(new JavaScriptInvocation(function, "first"),
+                        new JavaScriptInvocation(function, "second")),
+                constantPool);
+
+        assertEquals(2, json.length());
+        JsonObject reference = json.getArray(0).getObject(1);
+        String functionId = reference
+                .getString(JsonConstants.EXECUTE_FUNCTION_ID);
+        assertEquals("first", json.getArray(0).getString(0));
+        assertEquals("second", json.getArray(1).getString(0));
+        assertTrue(JsonUtils.jsonEquals(reference,
+                json.getArray(1).getObject(1)));
+
+        JsonObject constants = constantPool.dumpConstants();
+        assertEquals(1, constants.keys().length);
+        assertEquals("console.log($0)", constants.getString(functionId));
+
+        // Already known by the client
+        UidlWriter.encodeExecuteJavaScriptList(
+                Arrays.asList(new JavaScriptInvocation(function, "third")),
+                constantPool);
+        assertFalse(constantPool.hasNewConstants());
+    }
+
     @Test
     public void componentDependencies() throws Exception {
         UI ui = initializeUIForDependenciesTest(new TestUI());
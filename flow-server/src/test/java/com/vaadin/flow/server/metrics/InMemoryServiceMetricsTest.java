@@ -0,0 +1,116 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.server.communication.HeartbeatHandler;
+import com.vaadin.flow.server.metrics.InMemoryServiceMetrics.Timer;
+
+public class InMemoryServiceMetricsTest {
+
+    private InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+
+    @Test
+    public void nothingRecorded_noTimers() {
+        Assert.assertTrue(metrics.getTimerNames().isEmpty());
+        Assert.assertFalse(
+                metrics.getTimer(InMemoryServiceMetrics.RPC_DECODE)
+                        .isPresent());
+    }
+
+    @Test
+    public void recordMeasurements_countTotalMaxAndAmountAggregated() {
+        metrics.responseEncoded(100, TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.responseEncoded(50, TimeUnit.MILLISECONDS.toNanos(4));
+
+        Timer timer = metrics
+                .getTimer(InMemoryServiceMetrics.ENCODE_RESPONSE).get();
+        Assert.assertEquals(2, timer.getCount());
+        Assert.assertEquals(6, timer.getTotalTime(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(4, timer.getMaxTime(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(3, timer.getMeanTime(TimeUnit.MILLISECONDS),
+                0.0001);
+        Assert.assertEquals(150, timer.getTotalAmount());
+    }
+
+    @Test
+    public void serializeTimer_measurementsPreserved() throws Exception {
+        metrics.responseEncoded(100, TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.responseEncoded(50, TimeUnit.MILLISECONDS.toNanos(4));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(metrics);
+        }
+        InMemoryServiceMetrics deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bos.toByteArray()))) {
+            deserialized = (InMemoryServiceMetrics) in.readObject();
+        }
+
+        Timer timer = deserialized
+                .getTimer(InMemoryServiceMetrics.ENCODE_RESPONSE).get();
+        Assert.assertEquals(2, timer.getCount());
+        Assert.assertEquals(4, timer.getMaxTime(TimeUnit.MILLISECONDS));
+
+        deserialized.responseEncoded(10, TimeUnit.MILLISECONDS.toNanos(8));
+        Assert.assertEquals(8, timer.getMaxTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void requestHandled_onlyHandlingHandlerRecorded() {
+        HeartbeatHandler handler = new HeartbeatHandler();
+        metrics.requestHandled(handler, false, 10);
+        Assert.assertTrue(metrics.getTimerNames().isEmpty());
+
+        metrics.requestHandled(handler, true, 10);
+        Assert.assertEquals(1,
+                metrics.getTimer(InMemoryServiceMetrics.REQUEST_HANDLER_PREFIX
+                        + HeartbeatHandler.class.getName()).get().getCount());
+    }
+
+    @Test
+    public void reset_timersRemoved() {
+        metrics.sessionLockAcquired(10);
+        metrics.sessionLockReleased(20);
+        Assert.assertEquals(2, metrics.getTimerNames().size());
+
+        metrics.reset();
+
+        Assert.assertTrue(metrics.getTimerNames().isEmpty());
+    }
+
+    @Test
+    public void histogram_durationsCountedInExponentialBuckets() {
+        metrics.sessionLockAcquired(TimeUnit.MICROSECONDS.toNanos(500));
+        metrics.sessionLockAcquired(TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.sessionLockAcquired(TimeUnit.MILLISECONDS.toNanos(50));
+        metrics.sessionLockAcquired(TimeUnit.MILLISECONDS.toNanos(60));
+        metrics.sessionLockAcquired(TimeUnit.SECONDS.toNanos(30));
+
+        Assert.assertArrayEquals(new long[] { 1, 1, 2, 0, 0, 1 },
+                metrics.getTimer(InMemoryServiceMetrics.SESSION_LOCK_WAIT)
+                        .get().getHistogram());
+    }
+}
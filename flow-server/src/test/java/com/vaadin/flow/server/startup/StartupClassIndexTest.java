@@ -0,0 +1,240 @@
+/*
+ * Copyright 2000-2017 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.startup;
+
+import javax.servlet.ServletContext;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.ErrorParameter;
+import com.vaadin.flow.router.HasErrorParameter;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
+
+public class StartupClassIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ServletContext servletContext;
+
+    @Tag("div")
+    @Route("indexed")
+    public static class IndexedRoute extends Component {
+    }
+
+    @Tag("div")
+    @Route("scanned")
+    public static class ScannedRoute extends Component {
+    }
+
+    @Tag("div")
+    public static class IndexedErrorView extends Component
+            implements HasErrorParameter<IllegalStateException> {
+        @Override
+        public int setErrorParameter(BeforeEnterEvent event,
+                ErrorParameter<IllegalStateException> parameter) {
+            return 500;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        servletContext = Mockito.mock(ServletContext.class);
+        Map<String, Object> attributes = new HashMap<>();
+        Mockito.when(servletContext.getAttribute(Mockito.anyString()))
+                .then(invocation -> attributes
+                        .get(invocation.getArgumentAt(0, String.class)));
+        Mockito.doAnswer(invocation -> attributes.put(
+                invocation.getArgumentAt(0, String.class),
+                invocation.getArgumentAt(1, Object.class)))
+                .when(servletContext)
+                .setAttribute(Mockito.anyString(), Mockito.any());
+        Mockito.when(servletContext.getClassLoader())
+                .thenReturn(getClass().getClassLoader());
+    }
+
+    @Test
+    public void indexCoversAllHandledTypes_indexedClassesUsed()
+            throws IOException {
+        useRouteIndex();
+
+        Assert.assertEquals(
+                Optional.of(Collections.singleton(IndexedRoute.class)),
+                StartupClassIndex.getIndexedClasses(servletContext,
+                        RouteRegistryInitializer.class));
+        Assert.assertTrue(StartupClassIndex.isIndexed(servletContext,
+                RouteRegistryInitializer.class));
+    }
+
+    @Test
+    public void indexMissesHandledType_notIndexed() throws IOException {
+        useIndex("{\"" + Route.class.getName() + "\": [\""
+                + IndexedRoute.class.getName() + "\"]}");
+
+        Assert.assertFalse(StartupClassIndex.isIndexed(servletContext,
+                RouteRegistryInitializer.class));
+    }
+
+    @Test
+    public void indexedClassNotFound_notIndexed() throws IOException {
+        useIndex("{\"" + Route.class.getName()
+                + "\": [\"com.example.Missing\"], \""
+                + RouteAlias.class.getName() + "\": []}");
+
+        Assert.assertFalse(StartupClassIndex.isIndexed(servletContext,
+                RouteRegistryInitializer.class));
+    }
+
+    @Test
+    public void noIndex_notIndexed() {
+        Assert.assertFalse(StartupClassIndex.isIndexed(servletContext,
+                RouteRegistryInitializer.class));
+    }
+
+    @Test
+    public void libraryIndexOnClassPath_ignored_scannedRoutesRegistered()
+            throws Exception {
+        useLibraryIndex("{\"" + Route.class.getName() + "\": [\""
+                + IndexedRoute.class.getName() + "\"], \""
+                + RouteAlias.class.getName() + "\": [], \""
+                + HasErrorParameter.class.getName() + "\": []}");
+
+        Assert.assertFalse(StartupClassIndex.isIndexed(servletContext,
+                RouteRegistryInitializer.class));
+
+        new RouteRegistryInitializer().onStartup(
+                Collections.singleton(ScannedRoute.class), servletContext);
+
+        Assert.assertEquals(ScannedRoute.class,
+                RouteRegistry.getInstance(servletContext)
+                        .getNavigationTarget("scanned").get());
+    }
+
+    @Test
+    public void applicationAndLibraryIndex_onlyApplicationIndexUsed()
+            throws IOException {
+        useLibraryIndex("{\"" + Route.class.getName() + "\": [\""
+                + ScannedRoute.class.getName() + "\"], \""
+                + RouteAlias.class.getName() + "\": []}");
+        useRouteIndex();
+
+        Assert.assertEquals(
+                Optional.of(Collections.singleton(IndexedRoute.class)),
+                StartupClassIndex.getIndexedClasses(servletContext,
+                        RouteRegistryInitializer.class));
+    }
+
+    @Test
+    public void indexedInitializer_scannedClassesIgnored() throws Exception {
+        useRouteIndex();
+
+        new RouteRegistryInitializer().onStartup(
+                Collections.singleton(ScannedRoute.class), servletContext);
+
+        Assert.assertFalse(RouteRegistry.getInstance(servletContext)
+                .navigationTargetsInitialized());
+    }
+
+    @Test
+    public void notIndexedInitializer_scannedClassesUsed() throws Exception {
+        new RouteRegistryInitializer().onStartup(
+                Collections.singleton(ScannedRoute.class), servletContext);
+
+        Assert.assertEquals(ScannedRoute.class,
+                RouteRegistry.getInstance(servletContext)
+                        .getNavigationTarget("scanned").get());
+    }
+
+    @Test
+    public void startupClassIndexInitializer_indexedClassesRegistered()
+            throws Exception {
+        useIndex("{\"" + Route.class.getName() + "\": [\""
+                + IndexedRoute.class.getName() + "\"], \""
+                + RouteAlias.class.getName() + "\": [], \""
+                + HasErrorParameter.class.getName() + "\": [\""
+                + IndexedErrorView.class.getName() + "\"]}");
+
+        new StartupClassIndexInitializer().onStartup(null, servletContext);
+
+        RouteRegistry registry = RouteRegistry.getInstance(servletContext);
+        Assert.assertEquals(IndexedRoute.class,
+                registry.getNavigationTarget("indexed").get());
+        Assert.assertFalse(registry.getNavigationTarget("scanned").isPresent());
+        Assert.assertEquals(IndexedErrorView.class,
+                registry.getErrorNavigationTarget(new IllegalStateException())
+                        .get().getNavigationTarget());
+    }
+
+    @Test
+    public void startupClassIndexInitializer_noIndex_nothingRegistered()
+            throws Exception {
+        new StartupClassIndexInitializer().onStartup(null, servletContext);
+
+        RouteRegistry registry = RouteRegistry.getInstance(servletContext);
+        Assert.assertFalse(registry.navigationTargetsInitialized());
+        Assert.assertFalse(registry.errorNavigationTargetsInitialized());
+    }
+
+    private void useRouteIndex() throws IOException {
+        useIndex("{\"" + Route.class.getName() + "\": [\""
+                + IndexedRoute.class.getName() + "\"], \""
+                + RouteAlias.class.getName() + "\": []}");
+    }
+
+    private void useIndex(String json) throws IOException {
+        File index = new File(writeIndex(json),
+                StartupClassIndex.INDEX_RESOURCE);
+        Mockito.when(servletContext.getResourceAsStream(
+                "/WEB-INF/classes/" + StartupClassIndex.INDEX_RESOURCE))
+                .then(invocation -> new FileInputStream(index));
+    }
+
+    private void useLibraryIndex(String json) throws IOException {
+        File root = writeIndex(json);
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { root.toURI().toURL() },
+                getClass().getClassLoader());
+        Mockito.when(servletContext.getClassLoader()).thenReturn(classLoader);
+    }
+
+    private File writeIndex(String json) throws IOException {
+        File root = temporaryFolder.newFolder();
+        File index = new File(root, StartupClassIndex.INDEX_RESOURCE);
+        index.getParentFile().mkdirs();
+        Files.write(index.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        return root;
+    }
+}